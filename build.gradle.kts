@@ -5,6 +5,7 @@ plugins {
     java
     id("com.diffplug.spotless") version "6.25.0"
     id("org.sonarqube") version "3.1"
+    id("me.champeau.jmh") version "0.6.8"
     jacoco
 }
 buildscript {
@@ -54,6 +55,19 @@ java {
     withJavadocJar()
     withSourcesJar()
 }
+jmh {
+    jmhVersion.set("1.37")
+    profilers.add("gc")
+    resultsFile.set(file("${project.rootDir}/bench_output.txt"))
+}
+
+// Java 11+ versions of some classes (JFR events, virtual threads), packaged in a multi-release JAR
+val multiReleaseSourceSets = listOf(11, 21).associateWith { version ->
+    sourceSets.create("java$version") {
+        java.srcDir("src/main/java$version")
+        compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    }
+}
 
 ///////////////////////////////////////////////////////////////////////////////
 //  TASKS CONFIGURATION
@@ -68,12 +82,53 @@ tasks {
             googleJavaFormat()
         }
     }
+    multiReleaseSourceSets.forEach { (version, sourceSet) ->
+        named<JavaCompile>(sourceSet.compileJavaTaskName) {
+            javaCompiler.set(javaToolchains.compilerFor {
+                languageVersion.set(JavaLanguageVersion.of(version))
+            })
+            options.release.set(version)
+        }
+    }
+    jar {
+        multiReleaseSourceSets.forEach { (version, sourceSet) ->
+            into("META-INF/versions/$version") {
+                from(sourceSet.output)
+            }
+        }
+        manifest {
+            attributes("Multi-Release" to "true")
+        }
+    }
     test {
         testLogging {
             events("passed", "skipped", "failed")
         }
         finalizedBy("jacocoTestReport")
     }
+    // Smoke test of the multi-release JAR, run on Java 21 against the packaged JAR
+    register<Test>("multiReleaseJarTest") {
+        description = "Runs the multi-release JAR smoke test on Java 21."
+        group = "verification"
+        useJUnitPlatform()
+        javaLauncher.set(javaToolchains.launcherFor {
+            languageVersion.set(JavaLanguageVersion.of(21))
+        })
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = files(jar.flatMap { it.archiveFile }) +
+            sourceSets.test.get().output +
+            configurations.testRuntimeClasspath.get()
+        filter {
+            includeTestsMatching("*.MultiReleaseJarTest")
+        }
+        systemProperty("keyple.multiReleaseJarTest", "true")
+        testLogging {
+            events("passed", "skipped", "failed")
+        }
+    }
+    check {
+        dependsOn("multiReleaseJarTest")
+    }
     jacocoTestReport {
         dependsOn("test")
         reports {
@@ -1 +1,5 @@
+plugins {
+    // Provisioning of the Java 11 and 21 toolchains of the multi-release JAR
+    id("org.gradle.toolchains.foojay-resolver-convention") version "0.8.0"
+}
 rootProject.name = "keyple-service-java-lib"
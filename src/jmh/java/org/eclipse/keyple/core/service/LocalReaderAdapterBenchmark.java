@@ -0,0 +1,160 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.keyple.core.common.KeypleReaderExtension;
+import org.eclipse.keyple.core.plugin.spi.reader.ReaderSpi;
+import org.eclipse.keypop.card.CardResponseApi;
+import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.spi.ApduRequestSpi;
+import org.eclipse.keypop.card.spi.CardRequestSpi;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the cost of {@link LocalReaderAdapter#transmitCardRequest(CardRequestSpi,
+ * ChannelControl)} with an in-memory reader.
+ *
+ * <p>Run with {@code ./gradlew jmh}; the GC profiler is enabled in the build script and the
+ * {@code gc.alloc.rate.norm} metric gives the number of bytes allocated per card request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalReaderAdapterBenchmark {
+
+  private static final int APDU_COUNT = 8;
+
+  private LocalReaderAdapter reader;
+  private CardRequestSpi dataCardRequest;
+  private CardRequestSpi getResponseCardRequest;
+
+  @Setup
+  public void setUp() {
+    reader = new LocalReaderAdapter(new InMemoryReaderSpi(), "BENCHMARK_PLUGIN");
+    reader.register();
+    // Case 2 commands answered directly with data and 9000
+    dataCardRequest = new CardRequest(new byte[] {0x00, (byte) 0xB2, 0x01, 0x04, 0x1D});
+    // Case 4 commands answered with 9000 only, triggering an internal Get Response
+    getResponseCardRequest =
+        new CardRequest(new byte[] {0x00, (byte) 0x8A, 0x00, 0x00, 0x02, 0x01, 0x02, 0x00});
+  }
+
+  @Benchmark
+  public CardResponseApi transmitCardRequest() throws Exception {
+    return reader.transmitCardRequest(dataCardRequest, ChannelControl.KEEP_OPEN);
+  }
+
+  @Benchmark
+  public CardResponseApi transmitCardRequestWithGetResponse() throws Exception {
+    return reader.transmitCardRequest(getResponseCardRequest, ChannelControl.KEEP_OPEN);
+  }
+
+  /** Reader answering 9000 to case 4 commands and 29 bytes of data + 9000 to all others. */
+  private static final class InMemoryReaderSpi implements KeypleReaderExtension, ReaderSpi {
+
+    private static final byte[] SW_9000 = {(byte) 0x90, 0x00};
+    private static final byte[] DATA_9000 = new byte[31];
+
+    static {
+      DATA_9000[29] = (byte) 0x90;
+    }
+
+    @Override
+    public String getName() {
+      return "BENCHMARK_READER";
+    }
+
+    @Override
+    public void openPhysicalChannel() {}
+
+    @Override
+    public void closePhysicalChannel() {}
+
+    @Override
+    public boolean isPhysicalChannelOpen() {
+      return true;
+    }
+
+    @Override
+    public boolean checkCardPresence() {
+      return true;
+    }
+
+    @Override
+    public String getPowerOnData() {
+      return "";
+    }
+
+    @Override
+    public byte[] transmitApdu(byte[] apduIn) {
+      // a fresh buffer is returned, as a real driver would do
+      return apduIn[1] == (byte) 0x8A ? SW_9000.clone() : DATA_9000.clone();
+    }
+
+    @Override
+    public boolean isContactless() {
+      return true;
+    }
+
+    @Override
+    public void onUnregister() {}
+  }
+
+  /** Card request made of {@link #APDU_COUNT} identical commands. */
+  private static final class CardRequest implements CardRequestSpi {
+
+    private final List<ApduRequestSpi> apduRequests;
+
+    private CardRequest(final byte[] apdu) {
+      apduRequests = new ArrayList<>(APDU_COUNT);
+      for (int i = 0; i < APDU_COUNT; i++) {
+        apduRequests.add(
+            new ApduRequestSpi() {
+              private final Set<Integer> successfulStatusWords = Collections.singleton(0x9000);
+
+              @Override
+              public byte[] getApdu() {
+                return apdu;
+              }
+
+              @Override
+              public Set<Integer> getSuccessfulStatusWords() {
+                return successfulStatusWords;
+              }
+
+              @Override
+              public String getInfo() {
+                return null;
+              }
+            });
+      }
+    }
+
+    @Override
+    public List<ApduRequestSpi> getApduRequests() {
+      return apduRequests;
+    }
+
+    @Override
+    public boolean stopOnUnsuccessfulStatusWord() {
+      return true;
+    }
+  }
+}
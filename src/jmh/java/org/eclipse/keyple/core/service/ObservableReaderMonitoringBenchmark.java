@@ -0,0 +1,175 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.keyple.core.common.KeypleReaderExtension;
+import org.eclipse.keyple.core.plugin.spi.reader.observable.ObservableReaderSpi;
+import org.eclipse.keyple.core.plugin.spi.reader.observable.state.insertion.CardInsertionWaiterNonBlockingSpi;
+import org.eclipse.keyple.core.plugin.spi.reader.observable.state.removal.CardRemovalWaiterNonBlockingSpi;
+import org.eclipse.keypop.reader.CardReaderEvent;
+import org.eclipse.keypop.reader.ObservableCardReader;
+import org.eclipse.keypop.reader.spi.CardReaderObservationExceptionHandlerSpi;
+import org.eclipse.keypop.reader.spi.CardReaderObserverSpi;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the resources used to monitor the card insertion on many idle observable readers based
+ * on non-blocking SPIs.
+ *
+ * <p>Run with {@code ./gradlew jmh}; the {@code liveThreads} and {@code cpuMillis} secondary
+ * metrics give the number of live threads of the JVM and the CPU time consumed by the process
+ * during the {@value #IDLE_PERIOD_MILLIS} ms of each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ObservableReaderMonitoringBenchmark {
+
+  private static final long IDLE_PERIOD_MILLIS = 1000;
+
+  @Param("1000")
+  private int readerCount;
+
+  private final List<ObservableLocalReaderAdapter> readers = new ArrayList<>();
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    for (int i = 0; i < readerCount; i++) {
+      ObservableLocalReaderAdapter reader =
+          new ObservableLocalReaderAdapter(
+              new IdleReaderSpi("BENCHMARK_READER_" + i), "BENCHMARK_PLUGIN");
+      reader.register();
+      reader.setReaderObservationExceptionHandler(
+          new CardReaderObservationExceptionHandlerSpi() {
+            @Override
+            public void onReaderObservationError(
+                String pluginName, String readerName, Throwable e) {}
+          });
+      reader.addObserver(
+          new CardReaderObserverSpi() {
+            @Override
+            public void onReaderEvent(CardReaderEvent readerEvent) {}
+          });
+      reader.startCardDetection(ObservableCardReader.DetectionMode.REPEATING);
+      readers.add(reader);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    for (ObservableLocalReaderAdapter reader : readers) {
+      reader.unregister();
+    }
+    readers.clear();
+  }
+
+  @Benchmark
+  public void idleMonitoring(ResourceUsage resourceUsage) throws InterruptedException {
+    com.sun.management.OperatingSystemMXBean operatingSystem =
+        (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    long cpuStartNanos = operatingSystem.getProcessCpuTime();
+    Thread.sleep(IDLE_PERIOD_MILLIS);
+    resourceUsage.cpuMillis = (operatingSystem.getProcessCpuTime() - cpuStartNanos) / 1000000;
+    resourceUsage.liveThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+  }
+
+  /** Secondary metrics of an iteration. */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class ResourceUsage {
+
+    public long liveThreads;
+    public long cpuMillis;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      liveThreads = 0;
+      cpuMillis = 0;
+    }
+  }
+
+  /** Observable reader without card, polled every 100 ms. */
+  private static final class IdleReaderSpi
+      implements KeypleReaderExtension,
+          ObservableReaderSpi,
+          CardInsertionWaiterNonBlockingSpi,
+          CardRemovalWaiterNonBlockingSpi {
+
+    private final String name;
+
+    private IdleReaderSpi(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public void openPhysicalChannel() {}
+
+    @Override
+    public void closePhysicalChannel() {}
+
+    @Override
+    public boolean isPhysicalChannelOpen() {
+      return false;
+    }
+
+    @Override
+    public boolean checkCardPresence() {
+      return false;
+    }
+
+    @Override
+    public String getPowerOnData() {
+      return "";
+    }
+
+    @Override
+    public byte[] transmitApdu(byte[] apduIn) {
+      return new byte[] {(byte) 0x90, 0x00};
+    }
+
+    @Override
+    public boolean isContactless() {
+      return true;
+    }
+
+    @Override
+    public void onUnregister() {}
+
+    @Override
+    public void onStartDetection() {}
+
+    @Override
+    public void onStopDetection() {}
+
+    @Override
+    public int getCardInsertionMonitoringSleepDuration() {
+      return 100;
+    }
+
+    @Override
+    public int getCardRemovalMonitoringSleepDuration() {
+      return 100;
+    }
+  }
+}
@@ -48,6 +48,34 @@ final ObservableLocalReaderAdapter getReader() {
    */
   abstract Runnable getMonitoringJob(AbstractObservableStateAdapter monitoringState);
 
+  /**
+   * Gets the polling policy of the monitoring job.
+   *
+   * <p>A polling job provides a task performing a single non-blocking poll, executed by the {@link
+   * MonitoringScheduler} shared by all the readers at the intervals defined by the policy. The
+   * other jobs provide a task running until the awaited event occurs, executed by the executor
+   * service of the reader.
+   *
+   * @return Null if the job is not a polling job.
+   * @since 3.4.0
+   */
+  CardPresencePollingPolicy getPollingPolicy() {
+    return null;
+  }
+
+  /**
+   * Indicates if the monitoring job delegates the monitoring to another component.
+   *
+   * <p>The task of such a job only hands the state over to this component and returns immediately,
+   * it is executed by the thread activating the state.
+   *
+   * @return False by default.
+   * @since 3.4.0
+   */
+  boolean isDelegated() {
+    return false;
+  }
+
   /**
    * Stops/interrupts the monitoring job
    *
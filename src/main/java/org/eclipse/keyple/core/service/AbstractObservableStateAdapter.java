@@ -65,6 +65,12 @@ enum MonitoringState {
   /* Result of the background job if any */
   private Future<?> monitoringEvent;
 
+  /* Polling of the background job if it is a polling job */
+  private MonitoringScheduler.Polling monitoringPolling;
+
+  /* True while a delegated background job is active */
+  private boolean isMonitoringDelegated;
+
   /* Executor service used to execute AbstractMonitoringJobAdapter */
   private final ExecutorService executorService;
 
@@ -109,6 +115,19 @@ final ObservableLocalReaderAdapter getReader() {
     return reader;
   }
 
+  /**
+   * Indicates whether the card presence is monitored while this state is active, i.e. if a change
+   * of the card presence results in an internal event.
+   *
+   * @return True if the state waits for a card insertion or removal, or if it has a monitoring job.
+   * @since 3.4.0
+   */
+  final boolean isCardPresenceMonitored() {
+    return monitoringState == MonitoringState.WAIT_FOR_CARD_INSERTION
+        || monitoringState == MonitoringState.WAIT_FOR_CARD_REMOVAL
+        || monitoringJob != null;
+  }
+
   /**
    * Switch state in the parent reader
    *
@@ -131,17 +150,49 @@ final void onActivate() {
       if (executorService == null) {
         throw new IllegalStateException("ExecutorService must be set");
       }
-      monitoringEvent = executorService.submit(monitoringJob.getMonitoringJob(this));
+      CardPresencePollingPolicy pollingPolicy = monitoringJob.getPollingPolicy();
+      if (monitoringJob.isDelegated()) {
+        monitoringJob.getMonitoringJob(this).run();
+        isMonitoringDelegated = true;
+      } else if (pollingPolicy != null) {
+        monitoringPolling =
+            MonitoringScheduler.startPolling(monitoringJob.getMonitoringJob(this), pollingPolicy);
+      } else {
+        monitoringEvent = executorService.submit(monitoringJob.getMonitoringJob(this));
+      }
     }
   }
 
+  /**
+   * Communicates an internal event detected by the monitoring job of this state to the event loop
+   * of the reader.
+   *
+   * <p>The events of the reader are thus processed one at a time and in order, without blocking the
+   * thread of the monitoring job. The event is ignored if this state is no longer the current state
+   * when it is processed.
+   *
+   * @param event The internal event.
+   * @since 3.4.0
+   */
+  final void postEvent(ObservableLocalReaderAdapter.InternalEvent event) {
+    reader.onEvent(event, monitoringState);
+  }
+
   /**
    * Invoked when deactivated. Cancel the monitoringJob is necessary.
    *
    * @since 2.0.0
    */
   final void onDeactivate() {
-    if (monitoringEvent != null && !monitoringEvent.isDone()) {
+    if (isMonitoringDelegated) {
+      monitoringJob.stop();
+      isMonitoringDelegated = false;
+    } else if (monitoringPolling != null) {
+      // the pending poll is cancelled at once, no need to wait for its due time
+      monitoringJob.stop();
+      monitoringPolling.cancel();
+      monitoringPolling = null;
+    } else if (monitoringEvent != null && !monitoringEvent.isDone()) {
       monitoringJob.stop();
       monitoringEvent.cancel(false);
     }
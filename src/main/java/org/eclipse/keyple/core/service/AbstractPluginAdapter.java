@@ -11,17 +11,25 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.PatternSyntaxException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
 import org.eclipse.keyple.core.common.KeyplePluginExtension;
 import org.eclipse.keyple.core.common.KeypleReaderExtension;
 import org.eclipse.keyple.core.plugin.PluginIOException;
 import org.eclipse.keyple.core.plugin.spi.reader.ConfigurableReaderSpi;
 import org.eclipse.keyple.core.plugin.spi.reader.ReaderSpi;
 import org.eclipse.keyple.core.plugin.spi.reader.observable.ObservableReaderSpi;
+import org.eclipse.keyple.core.service.spi.BatchCardPresencePluginSpi;
 import org.eclipse.keypop.reader.CardReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,7 +46,27 @@ abstract class AbstractPluginAdapter implements Plugin {
   private final String pluginName;
   private final KeyplePluginExtension pluginExtension;
   private boolean isRegistered;
-  private final Map<String, CardReader> readers;
+  private final Object readerRegistryMonitor = new Object();
+  private volatile ReaderRegistry readerRegistry = ReaderRegistry.EMPTY;
+  private final BatchCardPresenceMonitor batchCardPresenceMonitor;
+  private Executor readerRegistrationExecutor;
+  private int maxConcurrentReaders = 1;
+
+  /**
+   * Builder of a reader found at the registration of the plugin.
+   *
+   * @since 3.4.0
+   */
+  interface ReaderBuilder {
+
+    /**
+     * Builds the reader.
+     *
+     * @return A not null reference.
+     * @since 3.4.0
+     */
+    AbstractReaderAdapter build();
+  }
 
   /**
    * Constructor.
@@ -50,7 +78,10 @@ abstract class AbstractPluginAdapter implements Plugin {
   AbstractPluginAdapter(String pluginName, KeyplePluginExtension pluginExtension) {
     this.pluginName = pluginName;
     this.pluginExtension = pluginExtension;
-    this.readers = new ConcurrentHashMap<>();
+    this.batchCardPresenceMonitor =
+        pluginExtension instanceof BatchCardPresencePluginSpi
+            ? new BatchCardPresenceMonitor(pluginName, (BatchCardPresencePluginSpi) pluginExtension)
+            : null;
   }
 
   /**
@@ -65,9 +96,11 @@ final LocalReaderAdapter buildLocalReaderAdapter(ReaderSpi readerSpi) {
       if (readerSpi instanceof ConfigurableReaderSpi) {
         adapter =
             new ObservableLocalConfigurableReaderAdapter(
-                (ConfigurableReaderSpi) readerSpi, getName());
+                (ConfigurableReaderSpi) readerSpi, getName(), batchCardPresenceMonitor);
       } else {
-        adapter = new ObservableLocalReaderAdapter((ObservableReaderSpi) readerSpi, getName());
+        adapter =
+            new ObservableLocalReaderAdapter(
+                (ObservableReaderSpi) readerSpi, getName(), batchCardPresenceMonitor);
       }
     } else if (readerSpi instanceof ConfigurableReaderSpi) {
       adapter = new LocalConfigurableReaderAdapter((ConfigurableReaderSpi) readerSpi, getName());
@@ -106,14 +139,18 @@ void register() throws PluginIOException {
    * @since 2.0.0
    */
   void unregister() {
-    for (CardReader reader : readers.values()) {
+    ReaderIndex readerIndex = SmartCardServiceAdapter.getInstance().getReaderIndex();
+    for (CardReader reader : readerRegistry.readers) {
       try {
         ((AbstractReaderAdapter) reader).unregister();
       } catch (Exception e) {
         logger.error("Error unregistering reader [{}]", reader.getName(), e);
       }
+      readerIndex.remove(reader);
+    }
+    synchronized (readerRegistryMonitor) {
+      readerRegistry = readerRegistry.clear();
     }
-    readers.clear();
     isRegistered = false;
   }
 
@@ -155,12 +192,185 @@ public final <T extends KeypleReaderExtension> T getReaderExtension(
   }
 
   /**
-   * Gets the Map of all connected readers.
+   * Adds a reader to the list of connected readers and to the service-wide reader index.
    *
-   * @since 2.0.0
+   * @param key The key of the reader in the list.
+   * @param reader The reader.
+   * @since 3.4.0
+   */
+  final void putReader(String key, CardReader reader) {
+    synchronized (readerRegistryMonitor) {
+      readerRegistry = readerRegistry.put(key, reader);
+    }
+    SmartCardServiceAdapter.getInstance().getReaderIndex().add(reader, this);
+  }
+
+  /**
+   * Adds several readers to the list of connected readers at once, in a single change of the list,
+   * and to the service-wide reader index.
+   *
+   * @param readersByKey The readers and their keys in the list.
+   * @since 3.4.0
+   */
+  final void putReaders(Map<String, CardReader> readersByKey) {
+    if (readersByKey.isEmpty()) {
+      return;
+    }
+    synchronized (readerRegistryMonitor) {
+      readerRegistry = readerRegistry.putAll(readersByKey);
+    }
+    ReaderIndex readerIndex = SmartCardServiceAdapter.getInstance().getReaderIndex();
+    for (CardReader reader : readersByKey.values()) {
+      readerIndex.add(reader, this);
+    }
+  }
+
+  /**
+   * Sets the executor used to build concurrently the readers found at the registration of the
+   * plugin, which are built serially by default.
+   *
+   * <p>Must be invoked before {@link #register()}.
+   *
+   * @param executor The executor, which must not queue the tasks (e.g. elastic pool).
+   * @param maxConcurrentReaders The maximum number of readers built concurrently.
+   * @since 3.4.0
    */
-  final Map<String, CardReader> getReadersMap() {
-    return readers;
+  final void setReaderRegistrationExecutor(Executor executor, int maxConcurrentReaders) {
+    this.readerRegistrationExecutor = executor;
+    this.maxConcurrentReaders = maxConcurrentReaders;
+  }
+
+  /**
+   * Builds and registers the readers found at the registration of the plugin, then adds them to the
+   * list of connected readers in a single change.
+   *
+   * <p>The readers are built concurrently if an executor has been set, the current thread taking
+   * part in the work. If a build fails, the readers already built are unregistered and the first
+   * error is rethrown.
+   *
+   * @param readerBuilders The builders of the readers and the keys of the readers in the list.
+   * @since 3.4.0
+   */
+  final void registerReaders(Map<String, ReaderBuilder> readerBuilders) {
+    final List<Map.Entry<String, ReaderBuilder>> entries =
+        new ArrayList<>(readerBuilders.entrySet());
+    final AbstractReaderAdapter[] readers = new AbstractReaderAdapter[entries.size()];
+    final AtomicInteger nextIndex = new AtomicInteger();
+    final AtomicReference<Throwable> firstError = new AtomicReference<>();
+    final Runnable worker =
+        new Runnable() {
+          @Override
+          public void run() {
+            try {
+              int index;
+              while (firstError.get() == null
+                  && (index = nextIndex.getAndIncrement()) < entries.size()) {
+                AbstractReaderAdapter reader = entries.get(index).getValue().build();
+                reader.register();
+                readers[index] = reader;
+              }
+            } catch (RuntimeException e) {
+              firstError.compareAndSet(null, e);
+            } catch (Error e) {
+              firstError.compareAndSet(null, e);
+            }
+          }
+        };
+    int helperCount = 0;
+    if (readerRegistrationExecutor != null && entries.size() > 1) {
+      helperCount = Math.min(maxConcurrentReaders, entries.size()) - 1;
+    }
+    final CountDownLatch helpersDone = new CountDownLatch(helperCount);
+    for (int i = 0; i < helperCount; i++) {
+      readerRegistrationExecutor.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              try {
+                worker.run();
+              } finally {
+                helpersDone.countDown();
+              }
+            }
+          });
+    }
+    worker.run();
+    awaitUninterruptibly(helpersDone);
+
+    Throwable error = firstError.get();
+    if (error != null) {
+      for (AbstractReaderAdapter reader : readers) {
+        if (reader != null) {
+          try {
+            reader.unregister();
+          } catch (Exception e) {
+            logger.error("Error unregistering reader [{}]", reader.getName(), e);
+          }
+        }
+      }
+      if (error instanceof Error) {
+        throw (Error) error;
+      }
+      throw (RuntimeException) error;
+    }
+    Map<String, CardReader> readersByKey = new HashMap<>(entries.size() * 2);
+    for (int i = 0; i < readers.length; i++) {
+      readersByKey.put(entries.get(i).getKey(), readers[i]);
+    }
+    // publish all the readers in a single change of the list
+    putReaders(readersByKey);
+  }
+
+  /**
+   * Waits for the latch to reach zero, restoring the interrupt status of the current thread if it
+   * was interrupted meanwhile.
+   *
+   * @param latch The latch.
+   */
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    boolean isInterrupted = false;
+    while (true) {
+      try {
+        latch.await();
+        break;
+      } catch (InterruptedException e) {
+        isInterrupted = true;
+      }
+    }
+    if (isInterrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Removes a reader from the list of connected readers and from the service-wide reader index.
+   *
+   * @param key The key of the reader in the list.
+   * @since 3.4.0
+   */
+  final void removeReaderByKey(String key) {
+    CardReader reader;
+    synchronized (readerRegistryMonitor) {
+      ReaderRegistry registry = readerRegistry;
+      reader = registry.readersByKey.get(key);
+      if (reader == null) {
+        return;
+      }
+      readerRegistry = registry.remove(key);
+    }
+    SmartCardServiceAdapter.getInstance().getReaderIndex().remove(reader);
+  }
+
+  /**
+   * Gets the version of the list of connected readers, incremented on each change of the list.
+   *
+   * <p>Two calls returning the same version guarantee that the list has not changed in between.
+   *
+   * @return A positive value.
+   * @since 3.4.0
+   */
+  final long getReadersVersion() {
+    return readerRegistry.version;
   }
 
   /**
@@ -170,8 +380,7 @@ final Map<String, CardReader> getReadersMap() {
    */
   @Override
   public final Set<String> getReaderNames() {
-    checkStatus();
-    return new HashSet<>(readers.keySet());
+    return new HashSet<>(getReaderNamesSnapshot());
   }
 
   /**
@@ -181,8 +390,31 @@ public final Set<String> getReaderNames() {
    */
   @Override
   public final Set<CardReader> getReaders() {
+    return new HashSet<>(getReadersSnapshot());
+  }
+
+  /**
+   * Gets the names of the readers from the current snapshot of the list of readers, without copy.
+   *
+   * @return An unmodifiable set, not affected by the later changes of the list of readers.
+   * @throws IllegalStateException If the plugin is no longer registered.
+   * @since 3.4.0
+   */
+  final Set<String> getReaderNamesSnapshot() {
     checkStatus();
-    return new HashSet<>(readers.values());
+    return readerRegistry.readerNames;
+  }
+
+  /**
+   * Gets the readers from the current snapshot of the list of readers, without copy.
+   *
+   * @return An unmodifiable set, not affected by the later changes of the list of readers.
+   * @throws IllegalStateException If the plugin is no longer registered.
+   * @since 3.4.0
+   */
+  final Set<CardReader> getReadersSnapshot() {
+    checkStatus();
+    return readerRegistry.readers;
   }
 
   /**
@@ -193,7 +425,7 @@ public final Set<CardReader> getReaders() {
   @Override
   public final CardReader getReader(String name) {
     checkStatus();
-    return readers.get(name);
+    return readerRegistry.readersByKey.get(name);
   }
 
   /**
@@ -203,15 +435,58 @@ public final CardReader getReader(String name) {
    */
   @Override
   public final CardReader findReader(String readerNameRegex) {
-    for (CardReader reader : readers.values()) {
-      try {
-        if (reader.getName().matches(readerNameRegex)) {
-          return reader;
-        }
-      } catch (PatternSyntaxException e) {
-        throw new IllegalArgumentException("readerNameRegex is invalid: " + e.getMessage(), e);
+    Pattern pattern = ReaderNamePatternCache.getPattern(readerNameRegex);
+    for (CardReader reader : readerRegistry.readers) {
+      if (pattern.matcher(reader.getName()).matches()) {
+        return reader;
       }
     }
     return null;
   }
+
+  /**
+   * Immutable snapshot of the list of connected readers, replaced as a whole on each change.
+   *
+   * <p>The sets exposed by the plugin are unmodifiable views of the snapshot, no copy is made when
+   * they are retrieved.
+   */
+  private static final class ReaderRegistry {
+
+    private static final ReaderRegistry EMPTY =
+        new ReaderRegistry(Collections.<String, CardReader>emptyMap(), 0);
+
+    private final Map<String, CardReader> readersByKey;
+    private final Set<String> readerNames;
+    private final Set<CardReader> readers;
+    private final long version;
+
+    private ReaderRegistry(Map<String, CardReader> readersByKey, long version) {
+      this.readersByKey = readersByKey;
+      this.readerNames = Collections.unmodifiableSet(readersByKey.keySet());
+      this.readers = Collections.unmodifiableSet(new HashSet<CardReader>(readersByKey.values()));
+      this.version = version;
+    }
+
+    private ReaderRegistry put(String key, CardReader reader) {
+      Map<String, CardReader> newReadersByKey = new HashMap<>(readersByKey);
+      newReadersByKey.put(key, reader);
+      return new ReaderRegistry(newReadersByKey, version + 1);
+    }
+
+    private ReaderRegistry putAll(Map<String, CardReader> addedReadersByKey) {
+      Map<String, CardReader> newReadersByKey = new HashMap<>(readersByKey);
+      newReadersByKey.putAll(addedReadersByKey);
+      return new ReaderRegistry(newReadersByKey, version + 1);
+    }
+
+    private ReaderRegistry remove(String key) {
+      Map<String, CardReader> newReadersByKey = new HashMap<>(readersByKey);
+      newReadersByKey.remove(key);
+      return new ReaderRegistry(newReadersByKey, version + 1);
+    }
+
+    private ReaderRegistry clear() {
+      return new ReaderRegistry(Collections.<String, CardReader>emptyMap(), version + 1);
+    }
+  }
 }
@@ -12,12 +12,17 @@
 package org.eclipse.keyple.core.service;
 
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import org.eclipse.keyple.core.common.KeypleReaderExtension;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keypop.card.*;
 import org.eclipse.keypop.card.spi.CardRequestSpi;
 import org.eclipse.keypop.card.spi.CardSelectionRequestSpi;
 import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.reader.ReaderCommunicationException;
 import org.eclipse.keypop.reader.selection.CardSelector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,15 +32,18 @@
  *
  * @since 2.0.0
  */
-abstract class AbstractReaderAdapter implements CardReader, ProxyReaderApi {
+abstract class AbstractReaderAdapter implements CardReader, AsynchronousProxyReader {
 
   private static final Logger logger = LoggerFactory.getLogger(AbstractReaderAdapter.class);
 
   private final String readerName;
   private final KeypleReaderExtension readerExtension;
   private final String pluginName;
+  private final ReaderMetricsAdapter metrics;
+  private final SerialExecutor asyncExecutor = new SerialExecutor();
+  private final ReentrantLock leaseLock = new ReentrantLock(true);
 
-  private boolean isRegistered;
+  private volatile boolean isRegistered;
   private long before;
 
   /**
@@ -48,9 +56,27 @@ abstract class AbstractReaderAdapter implements CardReader, ProxyReaderApi {
    */
   AbstractReaderAdapter(
       String readerName, KeypleReaderExtension readerExtension, String pluginName) {
+    this(readerName, readerExtension, pluginName, true);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param readerName The name of the reader.
+   * @param readerExtension The associated reader extension SPI.
+   * @param pluginName The name of the plugin.
+   * @param isMetricsEnabled False if the performance metrics of the reader are not collected.
+   * @since 3.4.0
+   */
+  AbstractReaderAdapter(
+      String readerName,
+      KeypleReaderExtension readerExtension,
+      String pluginName,
+      boolean isMetricsEnabled) {
     this.readerName = readerName;
     this.readerExtension = readerExtension;
     this.pluginName = pluginName;
+    this.metrics = isMetricsEnabled ? new ReaderMetricsAdapter() : ReaderMetricsAdapter.DISABLED;
   }
 
   /**
@@ -63,6 +89,16 @@ final String getPluginName() {
     return pluginName;
   }
 
+  /**
+   * Gets the performance metrics of the reader.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  final ReaderMetricsAdapter getMetrics() {
+    return metrics;
+  }
+
   /**
    * Returns the {@link KeypleReaderExtension} that is reader-specific.
    *
@@ -122,29 +158,198 @@ final List<CardSelectionResponseApi> transmitCardSelectionRequests(
           elapsed10ms / 10.0);
     }
 
+    beginExclusiveUse();
     try {
-      cardSelectionResponses =
-          processCardSelectionRequests(
-              cardSelectors, cardSelectionRequests, multiSelectionProcessing, channelControl);
-    } catch (UnexpectedStatusWordException e) {
-      throw new CardBrokenCommunicationException(
-          e.getCardResponse(), false, "An unexpected status word was received", e);
-    } finally {
-      if (logger.isTraceEnabled()) {
-        long timeStamp = System.nanoTime();
-        long elapsed10ms = (timeStamp - before) / 100000;
-        this.before = timeStamp;
-        logger.trace(
-            "Reader [{}] <-- cardSelectionResponses: {}, elapsed {} ms",
-            this.getName(),
-            cardSelectionResponses,
-            elapsed10ms / 10.0);
+      long startNanos = System.nanoTime();
+      Object flightRecorderEvent = FlightRecorderEvents.beginCardSelectionScenario();
+      boolean isSuccessful = false;
+      try {
+        cardSelectionResponses =
+            processCardSelectionRequests(
+                cardSelectors, cardSelectionRequests, multiSelectionProcessing, channelControl);
+        isSuccessful = true;
+      } catch (UnexpectedStatusWordException e) {
+        throw new CardBrokenCommunicationException(
+            e.getCardResponse(), false, "An unexpected status word was received", e);
+      } finally {
+        metrics.recordCardSelectionScenario(startNanos);
+        FlightRecorderEvents.commitCardSelectionScenario(
+            flightRecorderEvent, getName(), cardSelectionRequests.size(), isSuccessful);
+        if (!isSuccessful) {
+          metrics.recordError();
+        }
+        if (logger.isTraceEnabled()) {
+          long timeStamp = System.nanoTime();
+          long elapsed10ms = (timeStamp - before) / 100000;
+          this.before = timeStamp;
+          logger.trace(
+              "Reader [{}] <-- cardSelectionResponses: {}, elapsed {} ms",
+              this.getName(),
+              cardSelectionResponses,
+              elapsed10ms / 10.0);
+        }
       }
+    } finally {
+      endExclusiveUse();
     }
 
     return cardSelectionResponses;
   }
 
+  /**
+   * Executes the provided task asynchronously, after the previously submitted tasks of the reader.
+   *
+   * <p>The returned future is completed with the result of the task or exceptionally with the
+   * exception thrown by the task.
+   *
+   * <p>The task is rejected if the current thread holds a lease of the reader: executed by another
+   * thread, it would wait for the end of the lease, which the holder would never release if waiting
+   * for the task.
+   *
+   * @param task The task to execute.
+   * @param <T> The type of the result of the task.
+   * @return A not null reference.
+   * @throws IllegalStateException If the current thread holds a lease of the reader.
+   * @since 3.4.0
+   */
+  final <T> CompletableFuture<T> executeAsync(final Callable<T> task) {
+    if (leaseLock.isHeldByCurrentThread()) {
+      throw new IllegalStateException(
+          String.format(
+              "Asynchronous exchanges with the reader %s are not allowed while holding its lease",
+              getName()));
+    }
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    asyncExecutor.execute(
+        new Runnable() {
+          @Override
+          public void run() {
+            if (future.isDone()) {
+              // cancelled by the caller
+              return;
+            }
+            try {
+              future.complete(task.call());
+            } catch (Exception e) {
+              future.completeExceptionally(e);
+            } catch (Error e) {
+              future.completeExceptionally(e);
+              throw e;
+            }
+          }
+        });
+    return future;
+  }
+
+  /**
+   * Acquires the exclusive use of the reader for the current thread.
+   *
+   * <p>The waiting threads are served in the order of their requests.
+   *
+   * @param timeoutMillis The maximum time to wait for the lease, in milliseconds.
+   * @return A not null reference.
+   * @throws IllegalStateException If the reader is not or no longer registered.
+   * @throws ReaderLeaseTimeoutException If the lease could not be acquired in time or if the
+   *     current thread has been interrupted while waiting.
+   * @since 3.4.0
+   */
+  final ReaderLeaseAdapter acquireLease(long timeoutMillis) {
+    checkStatus();
+    long startNanos = System.nanoTime();
+    boolean isAcquired;
+    try {
+      isAcquired = leaseLock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      // Restore interrupted state...
+      Thread.currentThread().interrupt();
+      throw new ReaderLeaseTimeoutException(
+          String.format("Interrupted while waiting for the lease of the reader %s", getName()), e);
+    } finally {
+      metrics.recordLeaseWait(startNanos);
+    }
+    if (!isAcquired) {
+      metrics.recordLeaseTimeout();
+      throw new ReaderLeaseTimeoutException(
+          String.format(
+              "The lease of the reader %s could not be acquired within %d ms",
+              getName(), timeoutMillis));
+    }
+    if (logger.isDebugEnabled() && leaseLock.getHoldCount() == 1) {
+      logger.debug(
+          "Reader [{}] leased to thread [{}]", getName(), Thread.currentThread().getName());
+    }
+    return new ReaderLeaseAdapter(this, System.nanoTime());
+  }
+
+  /**
+   * Ends a lease acquired with {@link #acquireLease(long)}.
+   *
+   * <p>When the outermost lease of the current thread is released, the physical channel is released
+   * before making the reader available to the waiting threads.
+   *
+   * @param acquisitionNanos The acquisition time of the lease.
+   * @throws ReaderCommunicationException If the physical channel could not be released.
+   * @since 3.4.0
+   */
+  final void releaseLease(long acquisitionNanos) {
+    try {
+      if (leaseLock.getHoldCount() == 1 && isRegistered) {
+        releaseChannel();
+      }
+    } catch (ReaderBrokenCommunicationException e) {
+      throw new ReaderCommunicationException(e.getMessage(), e);
+    } finally {
+      metrics.recordLeaseHold(acquisitionNanos);
+      leaseLock.unlock();
+      if (logger.isDebugEnabled() && !leaseLock.isHeldByCurrentThread()) {
+        logger.debug("Reader [{}] lease released", getName());
+      }
+    }
+  }
+
+  /**
+   * Waits until no other thread holds a lease of the reader, then prevents the other threads from
+   * acquiring one until {@link #endExclusiveUse()} is called.
+   *
+   * <p>This method is called around each operation modifying the state of the reader (card request,
+   * card selection, channel release), so that the leases are enforced for all the threads,
+   * including the ones not using them. Nested calls by the same thread are supported.
+   *
+   * @since 3.4.0
+   */
+  final void beginExclusiveUse() {
+    leaseLock.lock();
+  }
+
+  /**
+   * Same as {@link #beginExclusiveUse()}, but waits at most the provided time.
+   *
+   * <p>{@link #endExclusiveUse()} must be called only if the exclusive use has been acquired.
+   *
+   * @param timeoutMillis The maximum time to wait, in milliseconds.
+   * @return True if the exclusive use has been acquired, false if the reader is still used by
+   *     another thread or if the current thread has been interrupted while waiting.
+   * @since 3.4.0
+   */
+  final boolean tryBeginExclusiveUse(long timeoutMillis) {
+    try {
+      return leaseLock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      // Restore interrupted state...
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Ends an exclusive use started with {@link #beginExclusiveUse()}.
+   *
+   * @since 3.4.0
+   */
+  final void endExclusiveUse() {
+    leaseLock.unlock();
+  }
+
   /**
    * Check if the reader status is "registered".
    *
@@ -261,21 +466,56 @@ public final CardResponseApi transmitCardRequest(
           elapsed10ms / 10.0);
     }
 
+    beginExclusiveUse();
     try {
-      cardResponse = processCardRequest(cardRequest, channelControl);
-    } finally {
-      if (logger.isTraceEnabled()) {
-        long timeStamp = System.nanoTime();
-        long elapsed10ms = (timeStamp - before) / 100000;
-        this.before = timeStamp;
-        logger.trace(
-            "Reader [{}] <-- cardResponse: {}, elapsed {} ms",
-            this.getName(),
-            cardResponse,
-            elapsed10ms / 10.0);
+      long startNanos = System.nanoTime();
+      boolean isSuccessful = false;
+      try {
+        cardResponse = processCardRequest(cardRequest, channelControl);
+        isSuccessful = true;
+      } finally {
+        metrics.recordCardRequest(startNanos);
+        if (!isSuccessful) {
+          metrics.recordError();
+        }
+        if (logger.isTraceEnabled()) {
+          long timeStamp = System.nanoTime();
+          long elapsed10ms = (timeStamp - before) / 100000;
+          this.before = timeStamp;
+          logger.trace(
+              "Reader [{}] <-- cardResponse: {}, elapsed {} ms",
+              this.getName(),
+              cardResponse,
+              elapsed10ms / 10.0);
+        }
       }
+    } finally {
+      endExclusiveUse();
     }
 
     return cardResponse;
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public final CompletableFuture<CardResponseApi> transmitCardRequestAsync(
+      final CardRequestSpi cardRequest, final ChannelControl channelControl) {
+    checkStatus();
+
+    Assert.getInstance()
+        .notNull(cardRequest, "cardRequest")
+        .notNull(channelControl, "channelControl");
+
+    return executeAsync(
+        new Callable<CardResponseApi>() {
+          @Override
+          public CardResponseApi call() throws Exception {
+            return transmitCardRequest(cardRequest, channelControl);
+          }
+        });
+  }
 }
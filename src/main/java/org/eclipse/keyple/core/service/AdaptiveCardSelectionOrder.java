@@ -0,0 +1,139 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tracks the match ratio of each card selection of a scenario and provides the order in which the
+ * selections should be attempted, the most likely first.
+ *
+ * <p>The match ratio of a selection is its number of matches divided by its number of attempts,
+ * smoothed so that a selection not yet attempted is considered as likely as a selection matching
+ * one time out of two. Ties are broken by the declaration order.
+ *
+ * <p>This class is thread safe.
+ *
+ * @since 3.4.0
+ */
+final class AdaptiveCardSelectionOrder {
+
+  private final int selectionsCount;
+  private final boolean isPerReader;
+  private final Statistics globalStatistics;
+  private final ConcurrentMap<String, Statistics> readerStatistics;
+
+  /**
+   * Constructor.
+   *
+   * @param selectionsCount The number of card selections of the scenario.
+   * @param isPerReader True if the statistics are tracked separately for each reader.
+   * @since 3.4.0
+   */
+  AdaptiveCardSelectionOrder(int selectionsCount, boolean isPerReader) {
+    this.selectionsCount = selectionsCount;
+    this.isPerReader = isPerReader;
+    this.globalStatistics = isPerReader ? null : new Statistics(selectionsCount);
+    this.readerStatistics = isPerReader ? new ConcurrentHashMap<String, Statistics>() : null;
+  }
+
+  /**
+   * Returns the order in which the selections should be attempted on the provided reader.
+   *
+   * @param readerName The name of the reader.
+   * @return A new array containing the original selection indexes, the most likely first.
+   * @since 3.4.0
+   */
+  int[] getOrder(String readerName) {
+    return getStatistics(readerName).computeOrder();
+  }
+
+  /**
+   * Records the outcome of the execution of a scenario on the provided reader.
+   *
+   * @param readerName The name of the reader.
+   * @param order The order used, as returned by {@link #getOrder(String)}.
+   * @param attemptsCount The number of selections actually attempted.
+   * @param matchedPosition The position in the order of the matching selection, -1 if none.
+   * @since 3.4.0
+   */
+  void recordOutcome(String readerName, int[] order, int attemptsCount, int matchedPosition) {
+    Statistics statistics = getStatistics(readerName);
+    for (int i = 0; i < attemptsCount; i++) {
+      statistics.attempts.incrementAndGet(order[i]);
+    }
+    if (matchedPosition >= 0) {
+      statistics.matches.incrementAndGet(order[matchedPosition]);
+    }
+  }
+
+  /**
+   * Gets the statistics associated to the provided reader.
+   *
+   * @param readerName The name of the reader.
+   * @return A not null reference.
+   */
+  private Statistics getStatistics(String readerName) {
+    if (!isPerReader) {
+      return globalStatistics;
+    }
+    Statistics statistics = readerStatistics.get(readerName);
+    if (statistics == null) {
+      Statistics newStatistics = new Statistics(selectionsCount);
+      statistics = readerStatistics.putIfAbsent(readerName, newStatistics);
+      if (statistics == null) {
+        statistics = newStatistics;
+      }
+    }
+    return statistics;
+  }
+
+  /**
+   * Attempts and matches counters of the selections.
+   *
+   * @since 3.4.0
+   */
+  private static final class Statistics {
+
+    private final AtomicLongArray attempts;
+    private final AtomicLongArray matches;
+
+    private Statistics(int selectionsCount) {
+      attempts = new AtomicLongArray(selectionsCount);
+      matches = new AtomicLongArray(selectionsCount);
+    }
+
+    /**
+     * Computes the selection order by decreasing smoothed match ratio (insertion sort, the number
+     * of selections being small).
+     */
+    private int[] computeOrder() {
+      int count = attempts.length();
+      int[] order = new int[count];
+      double[] ratios = new double[count];
+      for (int i = 0; i < count; i++) {
+        double ratio = (matches.get(i) + 1.0) / (attempts.get(i) + 2.0);
+        int j = i;
+        while (j > 0 && ratios[j - 1] < ratio) {
+          ratios[j] = ratios[j - 1];
+          order[j] = order[j - 1];
+          j--;
+        }
+        ratios[j] = ratio;
+        order[j] = i;
+      }
+      return order;
+    }
+  }
+}
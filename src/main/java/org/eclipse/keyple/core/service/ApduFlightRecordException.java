@@ -0,0 +1,36 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Diagnostic information containing the last APDU exchanges of a local reader (commands,
+ * responses, nanosecond timestamps and durations).
+ *
+ * <p>It is never thrown: it is attached as a suppressed exception (see {@link
+ * Throwable#getSuppressed()}) to the reader and card communication exceptions and to the exceptions
+ * notified to the reader observation exception handler. The record is available in the message.
+ *
+ * <p>Unless disabled with {@link SmartCardService#setApduFlightRecorderDataMasking(boolean)}, the
+ * data of the commands and responses are masked in the record.
+ *
+ * @since 3.4.0
+ */
+public final class ApduFlightRecordException extends RuntimeException {
+
+  /**
+   * @param message the recorded exchanges
+   * @since 3.4.0
+   */
+  ApduFlightRecordException(String message) {
+    super(message, null, false, false);
+  }
+}
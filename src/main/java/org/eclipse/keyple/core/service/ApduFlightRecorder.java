@@ -0,0 +1,312 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.Arrays;
+import org.eclipse.keyple.core.util.HexUtil;
+
+/**
+ * Fixed-size ring buffer keeping the last APDU exchanges of a reader for post-mortem analysis.
+ *
+ * <p>The slots are allocated when the first exchange is recorded, so that a reader never used costs
+ * no memory; afterward, recording an exchange only copies the bytes of the command and of the
+ * response into the slot. The commands and responses longer than a short APDU are truncated (their
+ * actual length is kept).
+ *
+ * <p>The content is formatted only when an error occurs, as an {@link ApduFlightRecordException}
+ * attached to the reported exception.
+ *
+ * <p>Since the exchanges may convey secrets (PIN, keys, cryptograms...), the data field of the
+ * commands and the data of the responses are masked by default: only the header, the Lc and Le
+ * bytes of the commands and the status words of the responses are recorded, the masked bytes being
+ * never copied. The status word of a masked response is always taken from the end of the actual
+ * response, whatever its length. A capacity of 0 disables the recorder.
+ *
+ * @since 3.4.0
+ */
+final class ApduFlightRecorder {
+
+  static final int DEFAULT_CAPACITY = 32;
+
+  private static final int MAX_COMMAND_LENGTH = 261;
+  private static final int MAX_RESPONSE_LENGTH = 258;
+  private static final int COMMAND_DATA_OFFSET = 5;
+  private static final int STATUS_WORD_LENGTH = 2;
+
+  private static volatile int defaultCapacity = DEFAULT_CAPACITY;
+  private static volatile boolean isDataMaskingEnabledByDefault = true;
+
+  private final int capacity;
+  private final boolean isDataMaskingEnabled;
+  private long[] startNanos;
+  private long[] endNanos;
+  private int[] commandLengths;
+  private int[] commandMaskedLengths;
+  private int[] responseLengths;
+  private int[] responseMaskedLengths;
+  private byte[][] commands;
+  private byte[][] responses;
+  private long recordCount;
+
+  /**
+   * Constructor.
+   *
+   * <p>The data are masked.
+   *
+   * @param capacity The number of exchanges kept, 0 to disable the recorder.
+   * @since 3.4.0
+   */
+  ApduFlightRecorder(int capacity) {
+    this(capacity, true);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param capacity The number of exchanges kept, 0 to disable the recorder.
+   * @param isDataMaskingEnabled True if the data of the commands and responses have to be masked.
+   * @since 3.4.0
+   */
+  ApduFlightRecorder(int capacity, boolean isDataMaskingEnabled) {
+    this.capacity = capacity;
+    this.isDataMaskingEnabled = isDataMaskingEnabled;
+  }
+
+  /**
+   * Creates a recorder with the current default settings.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  static ApduFlightRecorder create() {
+    return new ApduFlightRecorder(defaultCapacity, isDataMaskingEnabledByDefault);
+  }
+
+  /**
+   * Sets the capacity of the recorders created afterward.
+   *
+   * @param capacity The number of exchanges kept, 0 to disable the recorders.
+   * @since 3.4.0
+   */
+  static void setDefaultCapacity(int capacity) {
+    defaultCapacity = capacity;
+  }
+
+  /**
+   * Enables or disables the masking of the data in the recorders created afterward.
+   *
+   * @param isDataMaskingEnabled True if the data have to be masked.
+   * @since 3.4.0
+   */
+  static void setDataMaskingEnabledByDefault(boolean isDataMaskingEnabled) {
+    isDataMaskingEnabledByDefault = isDataMaskingEnabled;
+  }
+
+  /**
+   * Records an APDU exchange, overwriting the oldest one if the buffer is full.
+   *
+   * @param startNanos The start time of the exchange, as provided by {@link System#nanoTime()}.
+   * @param endNanos The end time of the exchange, as provided by {@link System#nanoTime()}.
+   * @param command The APDU command.
+   * @param response The APDU response, null if the exchange failed.
+   * @since 3.4.0
+   */
+  synchronized void record(long startNanos, long endNanos, byte[] command, byte[] response) {
+    if (capacity == 0) {
+      return;
+    }
+    if (recordCount == 0) {
+      allocateSlots();
+    }
+    int slot = (int) (recordCount % capacity);
+    if (commands[slot] == null) {
+      commands[slot] = new byte[MAX_COMMAND_LENGTH];
+      // only the status words of the responses are kept when the data are masked
+      responses[slot] = new byte[isDataMaskingEnabled ? STATUS_WORD_LENGTH : MAX_RESPONSE_LENGTH];
+    }
+    this.startNanos[slot] = startNanos;
+    this.endNanos[slot] = endNanos;
+    commandLengths[slot] = command.length;
+    commandMaskedLengths[slot] =
+        copy(command, commands[slot], COMMAND_DATA_OFFSET, getCommandDataLength(command));
+    if (response != null) {
+      responseLengths[slot] = response.length;
+      if (isDataMaskingEnabled && response.length > STATUS_WORD_LENGTH) {
+        // the status word is taken from the actual response, not from a truncated copy
+        System.arraycopy(
+            response, response.length - STATUS_WORD_LENGTH, responses[slot], 0, STATUS_WORD_LENGTH);
+        responseMaskedLengths[slot] = response.length - STATUS_WORD_LENGTH;
+      } else {
+        responseMaskedLengths[slot] = copy(response, responses[slot], 0, 0);
+      }
+    } else {
+      responseLengths[slot] = -1;
+      responseMaskedLengths[slot] = 0;
+    }
+    recordCount++;
+  }
+
+  /**
+   * Attaches the recorded exchanges to the provided throwable as a suppressed {@link
+   * ApduFlightRecordException}.
+   *
+   * <p>Nothing is attached if no exchange has been recorded or if the throwable, or one of its
+   * causes, already holds a flight record.
+   *
+   * @param throwable The throwable to complete.
+   * @param <T> The type of the throwable.
+   * @return The provided throwable.
+   * @since 3.4.0
+   */
+  <T extends Throwable> T attachTo(T throwable) {
+    for (Throwable t = throwable; t != null; t = t.getCause()) {
+      for (Throwable suppressed : t.getSuppressed()) {
+        if (suppressed instanceof ApduFlightRecordException) {
+          return throwable;
+        }
+      }
+    }
+    String dump = dump();
+    if (dump != null) {
+      throwable.addSuppressed(new ApduFlightRecordException(dump));
+    }
+    return throwable;
+  }
+
+  /**
+   * Formats the recorded exchanges, from the oldest to the most recent.
+   *
+   * @return Null if no exchange has been recorded.
+   * @since 3.4.0
+   */
+  synchronized String dump() {
+    if (recordCount == 0) {
+      return null;
+    }
+    long first = Math.max(0, recordCount - capacity);
+    StringBuilder sb = new StringBuilder();
+    sb.append("Last ").append(recordCount - first).append(" APDU exchanges:");
+    for (long i = first; i < recordCount; i++) {
+      int slot = (int) (i % capacity);
+      sb.append("\n#")
+          .append(i)
+          .append(" t=")
+          .append(startNanos[slot])
+          .append("ns (")
+          .append(endNanos[slot] - startNanos[slot])
+          .append("ns) --> ");
+      appendBytes(
+          sb,
+          commands[slot],
+          commandLengths[slot],
+          COMMAND_DATA_OFFSET,
+          commandMaskedLengths[slot]);
+      sb.append(" <-- ");
+      if (responseLengths[slot] < 0) {
+        sb.append("(no response)");
+      } else if (responseMaskedLengths[slot] > 0) {
+        sb.append("[")
+            .append(responseMaskedLengths[slot])
+            .append(" bytes masked]")
+            .append(HexUtil.toHex(responses[slot]));
+      } else {
+        appendBytes(sb, responses[slot], responseLengths[slot], 0, 0);
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Allocates the arrays of the slots, the byte buffers of each slot being allocated on its first
+   * use.
+   */
+  private void allocateSlots() {
+    startNanos = new long[capacity];
+    endNanos = new long[capacity];
+    commandLengths = new int[capacity];
+    commandMaskedLengths = new int[capacity];
+    responseLengths = new int[capacity];
+    responseMaskedLengths = new int[capacity];
+    commands = new byte[capacity][];
+    responses = new byte[capacity][];
+  }
+
+  /**
+   * Gets the length of the data field of the provided command to be masked.
+   *
+   * <p>When the Lc byte is not consistent with the length of the command (e.g. extended length),
+   * all the bytes following the header and the P3 byte are considered as data.
+   *
+   * @param command The APDU command.
+   * @return 0 if the masking is disabled or if the command has no data field.
+   */
+  private int getCommandDataLength(byte[] command) {
+    if (!isDataMaskingEnabled || command.length <= COMMAND_DATA_OFFSET) {
+      return 0;
+    }
+    int lc = command[COMMAND_DATA_OFFSET - 1] & 0xFF;
+    int dataLength = command.length - COMMAND_DATA_OFFSET;
+    if (lc == dataLength || lc == dataLength - 1) {
+      return lc;
+    }
+    return dataLength;
+  }
+
+  /**
+   * Copies the provided bytes into the slot buffer, except the masked ones which are cleared.
+   *
+   * @param source The bytes to record.
+   * @param buffer The slot buffer.
+   * @param maskedOffset The offset of the masked bytes.
+   * @param maskedLength The number of masked bytes.
+   * @return The number of masked bytes.
+   */
+  private static int copy(byte[] source, byte[] buffer, int maskedOffset, int maskedLength) {
+    int length = Math.min(source.length, buffer.length);
+    if (maskedLength == 0) {
+      System.arraycopy(source, 0, buffer, 0, length);
+      return 0;
+    }
+    int maskedEnd = Math.min(maskedOffset + maskedLength, length);
+    System.arraycopy(source, 0, buffer, 0, maskedOffset);
+    Arrays.fill(buffer, maskedOffset, maskedEnd, (byte) 0);
+    System.arraycopy(source, maskedEnd, buffer, maskedEnd, length - maskedEnd);
+    return maskedLength;
+  }
+
+  /**
+   * Appends the hexadecimal representation of the recorded bytes.
+   *
+   * @param sb The target builder.
+   * @param buffer The slot buffer.
+   * @param length The actual length of the recorded data.
+   * @param maskedOffset The offset of the masked bytes.
+   * @param maskedLength The number of masked bytes.
+   */
+  private static void appendBytes(
+      StringBuilder sb, byte[] buffer, int length, int maskedOffset, int maskedLength) {
+    int recordedLength = Math.min(length, buffer.length);
+    if (maskedLength == 0) {
+      sb.append(HexUtil.toHex(Arrays.copyOf(buffer, recordedLength)));
+    } else {
+      int maskedEnd = Math.min(maskedOffset + maskedLength, recordedLength);
+      sb.append(HexUtil.toHex(Arrays.copyOf(buffer, maskedOffset)))
+          .append("[")
+          .append(maskedLength)
+          .append(" bytes masked]")
+          .append(HexUtil.toHex(Arrays.copyOfRange(buffer, maskedEnd, recordedLength)));
+    }
+    if (length > buffer.length) {
+      sb.append("...(").append(length).append(" bytes)");
+    }
+  }
+}
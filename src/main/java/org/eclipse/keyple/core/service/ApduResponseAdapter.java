@@ -22,6 +22,8 @@
  */
 final class ApduResponseAdapter implements ApduResponseApi {
 
+  private static final byte[] EMPTY_DATA_OUT = new byte[0];
+
   private final byte[] apdu;
   private final int statusWord;
 
@@ -53,9 +55,25 @@ public byte[] getApdu() {
    */
   @Override
   public byte[] getDataOut() {
+    if (this.apdu.length == 2) {
+      // nothing to copy, the empty array can safely be shared
+      return EMPTY_DATA_OUT;
+    }
     return Arrays.copyOfRange(this.apdu, 0, this.apdu.length - 2);
   }
 
+  /**
+   * Gets the length of the data field of the response (status word excluded).
+   *
+   * <p>This method is intended for internal checks and does not copy the response data.
+   *
+   * @return A positive or zero int.
+   * @since 3.4.0
+   */
+  int getDataOutLength() {
+    return this.apdu.length - 2;
+  }
+
   /**
    * {@inheritDoc}
    *
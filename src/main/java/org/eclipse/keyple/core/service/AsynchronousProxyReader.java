@@ -0,0 +1,60 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.keypop.card.CardResponseApi;
+import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.ProxyReaderApi;
+import org.eclipse.keypop.card.spi.CardRequestSpi;
+
+/**
+ * Extension of {@link ProxyReaderApi} providing non-blocking card request transmissions.
+ *
+ * <p>All Keyple readers (local and remote) implement this interface.
+ *
+ * <p>The asynchronous exchanges of a reader are executed one at a time, in submission order, by a
+ * serial executor dedicated to the reader and backed by a shared pool of threads. Thus, a single
+ * application thread can drive many readers concurrently.
+ *
+ * <p>The asynchronous exchanges must not be mixed with synchronous exchanges on the same reader
+ * while they are pending.
+ *
+ * <p>The asynchronous exchanges are executed by other threads than the caller, so they wait for the
+ * end of any {@link ReaderLease} of the reader: they are rejected if the calling thread holds a
+ * lease of the reader, which would otherwise never be released while waiting for their results.
+ *
+ * @since 3.4.0
+ */
+public interface AsynchronousProxyReader extends ProxyReaderApi {
+
+  /**
+   * Asynchronous version of {@link #transmitCardRequest(CardRequestSpi, ChannelControl)}.
+   *
+   * <p>The returned future is completed exceptionally with the exception that {@link
+   * #transmitCardRequest(CardRequestSpi, ChannelControl)} would have thrown ({@link
+   * org.eclipse.keypop.card.ReaderBrokenCommunicationException}, {@link
+   * org.eclipse.keypop.card.CardBrokenCommunicationException}, {@link
+   * org.eclipse.keypop.card.UnexpectedStatusWordException} or {@link IllegalStateException} if the
+   * reader is no longer registered when the request is processed).
+   *
+   * @param cardRequest The card request to transmit.
+   * @param channelControl The channel control policy to apply.
+   * @return A not null future completed with the card response.
+   * @throws IllegalArgumentException If one of the arguments is null.
+   * @throws IllegalStateException If the reader is no longer registered or if the current thread
+   *     holds a lease of the reader.
+   * @since 3.4.0
+   */
+  CompletableFuture<CardResponseApi> transmitCardRequestAsync(
+      CardRequestSpi cardRequest, ChannelControl channelControl);
+}
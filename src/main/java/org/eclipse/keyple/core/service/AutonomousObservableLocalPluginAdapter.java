@@ -87,8 +87,16 @@ public void onReaderDisconnected(Set<String> readerNames) {
         logger.warn("Plugin [{}] unable to remove unknown reader [{}]", this.getName(), readerName);
       } else {
         // unregister and remove reader
-        ((LocalReaderAdapter) reader).unregister();
-        getReadersMap().remove(reader.getName());
+        Object flightRecorderEvent = FlightRecorderEvents.beginReaderConnection();
+        boolean isRemoved = false;
+        try {
+          ((LocalReaderAdapter) reader).unregister();
+          removeReaderByKey(reader.getName());
+          isRemoved = true;
+        } finally {
+          FlightRecorderEvents.commitReaderConnection(
+              flightRecorderEvent, getName(), readerName, false, isRemoved);
+        }
         logger.info(
             "Plugin [{}] removes reader [{}] from readers list", this.getName(), reader.getName());
         notifyReaders.add(readerName);
@@ -105,9 +113,17 @@ public void onReaderDisconnected(Set<String> readerNames) {
    * @param readerSpi spi to create the reader from
    */
   private void addReader(ReaderSpi readerSpi) {
-    LocalReaderAdapter reader = buildLocalReaderAdapter(readerSpi);
-    reader.register();
-    getReadersMap().put(reader.getName(), reader);
+    Object flightRecorderEvent = FlightRecorderEvents.beginReaderConnection();
+    boolean isAdded = false;
+    try {
+      LocalReaderAdapter reader = buildLocalReaderAdapter(readerSpi);
+      reader.register();
+      putReader(reader.getName(), reader);
+      isAdded = true;
+    } finally {
+      FlightRecorderEvents.commitReaderConnection(
+          flightRecorderEvent, getName(), readerSpi.getName(), true, isAdded);
+    }
     logger.info(
         "Plugin [{}] adds reader [{}] to readers list", this.getName(), readerSpi.getName());
   }
@@ -0,0 +1,175 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.keyple.core.plugin.PluginIOException;
+import org.eclipse.keyple.core.service.spi.BatchCardPresencePluginSpi;
+import org.eclipse.keypop.reader.ReaderCommunicationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Single polling loop of a plugin providing the {@link BatchCardPresencePluginSpi} capability,
+ * monitoring the card insertion or removal of all its observable readers currently waiting for one
+ * of these events.
+ *
+ * <p>The loop is scheduled by the {@link MonitoringScheduler} shared by all the readers and only
+ * while at least one reader is waiting. The batched call, which may block, is executed by a polling
+ * thread of the scheduler and never by one of its scheduling threads. Each detected event is
+ * processed by the executor service of the reader concerned, thus preserving the order of the
+ * events of each reader.
+ *
+ * @since 3.4.0
+ */
+final class BatchCardPresenceMonitor {
+
+  private static final Logger logger = LoggerFactory.getLogger(BatchCardPresenceMonitor.class);
+
+  private static final String READER_MONITORING_ERROR =
+      "An error occurred while monitoring the reader";
+
+  private final String pluginName;
+  private final BatchCardPresencePluginSpi pluginSpi;
+  private final CardPresencePollingPolicy pollingPolicy;
+
+  /* The states waiting for an event, by reader name */
+  private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+
+  private MonitoringScheduler.Polling polling;
+
+  /**
+   * Constructor.
+   *
+   * @param pluginName The name of the plugin.
+   * @param pluginSpi The plugin SPI.
+   * @since 3.4.0
+   */
+  BatchCardPresenceMonitor(String pluginName, BatchCardPresencePluginSpi pluginSpi) {
+    this.pluginName = pluginName;
+    this.pluginSpi = pluginSpi;
+    // the shared scheduler requires a positive interval
+    this.pollingPolicy =
+        CardPresencePollingPolicy.fixed(
+            Math.max(1, pluginSpi.getCardPresenceMonitoringSleepDuration()));
+  }
+
+  /**
+   * Adds a reader state to the monitored ones, starting the polling loop if necessary.
+   *
+   * @param monitoringState The state waiting for the event.
+   * @param monitorInsertion True to wait for a card insertion, false for a card removal.
+   * @since 3.4.0
+   */
+  synchronized void register(
+      AbstractObservableStateAdapter monitoringState, boolean monitorInsertion) {
+    registrations.put(
+        monitoringState.getReader().getName(),
+        new Registration(monitoringState, monitorInsertion));
+    if (polling == null) {
+      if (logger.isTraceEnabled()) {
+        logger.trace("Start batched card presence polling of plugin [{}]", pluginName);
+      }
+      polling =
+          MonitoringScheduler.startPolling(
+              new Runnable() {
+                @Override
+                public void run() {
+                  poll();
+                }
+              },
+              pollingPolicy);
+    }
+  }
+
+  /**
+   * Removes a reader from the monitored ones, stopping the polling loop if no reader remains.
+   *
+   * @param readerName The name of the reader.
+   * @since 3.4.0
+   */
+  synchronized void unregister(String readerName) {
+    registrations.remove(readerName);
+    if (registrations.isEmpty() && polling != null) {
+      if (logger.isTraceEnabled()) {
+        logger.trace("Stop batched card presence polling of plugin [{}]", pluginName);
+      }
+      polling.cancel();
+      polling = null;
+    }
+  }
+
+  /**
+   * Checks the card presence of all the monitored readers in a single call and posts the detected
+   * events to their states.
+   *
+   * <p>Any error is notified to the exception handlers of the monitored readers.
+   */
+  private void poll() {
+    Map<String, Registration> snapshot = new HashMap<>(registrations);
+    if (snapshot.isEmpty()) {
+      return;
+    }
+    Set<String> readerNamesWithCard;
+    try {
+      readerNamesWithCard = pluginSpi.checkCardPresence(snapshot.keySet());
+    } catch (PluginIOException e) {
+      notifyError(snapshot, new ReaderCommunicationException(READER_MONITORING_ERROR, e));
+      return;
+    } catch (RuntimeException e) {
+      notifyError(snapshot, e);
+      return;
+    }
+    for (Map.Entry<String, Registration> entry : snapshot.entrySet()) {
+      Registration registration = entry.getValue();
+      boolean isCardPresent = readerNamesWithCard.contains(entry.getKey());
+      // the registration is removed first, so that a reader unregistered in the meantime is skipped
+      if (isCardPresent == registration.monitorInsertion
+          && registrations.remove(entry.getKey(), registration)) {
+        registration.monitoringState.postEvent(
+            registration.monitorInsertion
+                ? ObservableLocalReaderAdapter.InternalEvent.CARD_INSERTED
+                : ObservableLocalReaderAdapter.InternalEvent.CARD_REMOVED);
+      }
+    }
+  }
+
+  /**
+   * Notifies an error to the exception handlers of the provided readers.
+   *
+   * @param snapshot The monitored readers.
+   * @param e The error.
+   */
+  private void notifyError(Map<String, Registration> snapshot, RuntimeException e) {
+    for (Registration registration : snapshot.values()) {
+      ObservableLocalReaderAdapter reader = registration.monitoringState.getReader();
+      reader
+          .getObservationExceptionHandler()
+          .onReaderObservationError(reader.getPluginName(), reader.getName(), e);
+    }
+  }
+
+  /** A reader state waiting for a card insertion or removal. */
+  private static final class Registration {
+
+    private final AbstractObservableStateAdapter monitoringState;
+    private final boolean monitorInsertion;
+
+    private Registration(AbstractObservableStateAdapter monitoringState, boolean monitorInsertion) {
+      this.monitoringState = monitoringState;
+      this.monitorInsertion = monitorInsertion;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * This monitoring job delegates the detection of the card insertion or removal to the {@link
+ * BatchCardPresenceMonitor} of the plugin, which polls the card presence of all its readers in a
+ * single call.
+ *
+ * @since 3.4.0
+ */
+final class BatchCardPresenceMonitoringJobAdapter extends AbstractMonitoringJobAdapter {
+
+  private final BatchCardPresenceMonitor batchCardPresenceMonitor;
+  private final boolean monitorInsertion;
+
+  /**
+   * Constructor.
+   *
+   * @param reader The reader.
+   * @param batchCardPresenceMonitor The monitor of the plugin.
+   * @param monitorInsertion If true, waits for CARD_INSERTED, else CARD_REMOVED.
+   * @since 3.4.0
+   */
+  BatchCardPresenceMonitoringJobAdapter(
+      ObservableLocalReaderAdapter reader,
+      BatchCardPresenceMonitor batchCardPresenceMonitor,
+      boolean monitorInsertion) {
+    super(reader);
+    this.batchCardPresenceMonitor = batchCardPresenceMonitor;
+    this.monitorInsertion = monitorInsertion;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The task registers the reader with the monitor of the plugin and returns immediately.
+   *
+   * @since 3.4.0
+   */
+  @Override
+  Runnable getMonitoringJob(final AbstractObservableStateAdapter monitoringState) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        batchCardPresenceMonitor.register(monitoringState, monitorInsertion);
+      }
+    };
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  boolean isDelegated() {
+    return true;
+  }
+
+  /**
+   * Unregisters the reader from the monitor of the plugin.
+   *
+   * @since 3.4.0
+   */
+  @Override
+  void stop() {
+    batchCardPresenceMonitor.unregister(getReader().getName());
+  }
+}
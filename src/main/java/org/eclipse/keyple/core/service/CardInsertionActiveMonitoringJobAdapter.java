@@ -12,13 +12,15 @@
 package org.eclipse.keyple.core.service;
 
 import java.util.concurrent.atomic.AtomicBoolean;
-import org.eclipse.keypop.reader.CardReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * This monitoring job polls the {@link CardReader#isCardPresent()} method to detect a card
- * insertion or a card removal.
+ * This monitoring job polls the {@link ObservableLocalReaderAdapter#checkCardPresence()} method to
+ * detect a card insertion or a card removal.
+ *
+ * <p>The polls are executed by the {@link MonitoringScheduler} shared by all the readers and the
+ * detected event is processed by the executor service of the reader.
  *
  * <p>All runtime exceptions that may occur during the monitoring process are caught and notified at
  * the application level through the {@link
@@ -31,15 +33,15 @@ final class CardInsertionActiveMonitoringJobAdapter extends AbstractMonitoringJo
   private static final Logger logger =
       LoggerFactory.getLogger(CardInsertionActiveMonitoringJobAdapter.class);
 
-  private final long sleepDurationMillis;
+  private final CardPresencePollingPolicy defaultPollingPolicy;
   private final boolean monitorInsertion;
-  private final CardReader reader;
-  private final AtomicBoolean loop = new AtomicBoolean();
+  private final ObservableLocalReaderAdapter reader;
+  private volatile AtomicBoolean loop = new AtomicBoolean();
 
   /**
    * Build a monitoring job to detect the card insertion
    *
-   * @param reader reader that will be polled with the method isCardPresent()
+   * @param reader reader that will be polled with the method checkCardPresence()
    * @param sleepDurationMillis time interval between two presence polls.
    * @param monitorInsertion if true, polls for CARD_INSERTED, else CARD_REMOVED
    * @since 2.0.0
@@ -47,7 +49,8 @@ final class CardInsertionActiveMonitoringJobAdapter extends AbstractMonitoringJo
   public CardInsertionActiveMonitoringJobAdapter(
       ObservableLocalReaderAdapter reader, long sleepDurationMillis, boolean monitorInsertion) {
     super(reader);
-    this.sleepDurationMillis = sleepDurationMillis;
+    // the shared scheduler requires a positive interval
+    this.defaultPollingPolicy = CardPresencePollingPolicy.fixed(Math.max(1, sleepDurationMillis));
     this.reader = reader;
     this.monitorInsertion = monitorInsertion;
   }
@@ -60,67 +63,74 @@ public CardInsertionActiveMonitoringJobAdapter(
    */
   @Override
   Runnable getMonitoringJob(final AbstractObservableStateAdapter monitoringState) {
+    if (logger.isTraceEnabled()) {
+      logger.trace(
+          "Start monitoring job polling process using 'checkCardPresence()' method on reader [{}]",
+          reader.getName());
+    }
+    // a new flag for each activation, so that a poll of a previous activation can't go on
+    final AtomicBoolean isPolling = new AtomicBoolean(true);
+    loop = isPolling;
     return new Runnable() {
 
       /**
-       * Monitoring loop
+       * Single poll
        *
-       * <p>Polls for the presence of a card and loops until no card responds. <br>
-       * Triggers a CARD_INSERTED event and exits as soon as a communication with a card is
-       * established.
+       * <p>Polls for the presence of a card. <br>
+       * Posts a CARD_INSERTED (or CARD_REMOVED) event and stops polling as soon as the awaited
+       * presence status is observed.
        *
-       * <p>Any exceptions are notified to the application using the exception handler.
+       * <p>Any exceptions are notified to the application using the exception handler, then the
+       * polling stops.
        */
       @Override
       public void run() {
+        if (!isPolling.get()) {
+          return;
+        }
         try {
-          if (logger.isTraceEnabled()) {
-            logger.trace(
-                "Start monitoring job polling process using 'isCardPresent()' method on reader [{}]",
-                reader.getName());
-          }
-          // re-init loop value to true
-          loop.set(true);
-          while (loop.get()) {
-            // polls for CARD_INSERTED
-            if (monitorInsertion && reader.isCardPresent()) {
-              if (logger.isTraceEnabled()) {
-                logger.trace("Card present");
-              }
-              monitoringState.onEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_INSERTED);
-              return;
-            }
-            // polls for CARD_REMOVED
-            if (!monitorInsertion && !reader.isCardPresent()) {
-              if (logger.isTraceEnabled()) {
-                logger.trace("Card not present");
-              }
-              loop.set(false);
-              monitoringState.onEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_REMOVED);
-              return;
+          // polls for CARD_INSERTED
+          if (monitorInsertion && reader.checkCardPresence()) {
+            if (logger.isTraceEnabled()) {
+              logger.trace("Card present");
             }
-            // wait a bit
-            try {
-              Thread.sleep(sleepDurationMillis);
-            } catch (InterruptedException ignored) {
-              // Restore interrupted state...
-              Thread.currentThread().interrupt();
-              loop.set(false);
+            if (isPolling.compareAndSet(true, false)) {
+              monitoringState.postEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_INSERTED);
             }
           }
-          if (logger.isTraceEnabled()) {
-            logger.trace("Monitoring job polling process stopped");
+          // polls for CARD_REMOVED
+          if (!monitorInsertion && !reader.checkCardPresence()) {
+            if (logger.isTraceEnabled()) {
+              logger.trace("Card not present");
+            }
+            if (isPolling.compareAndSet(true, false)) {
+              monitoringState.postEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_REMOVED);
+            }
           }
         } catch (RuntimeException e) {
-          ((ObservableLocalReaderAdapter) reader)
+          reader
               .getObservationExceptionHandler()
-              .onReaderObservationError(
-                  ((ObservableLocalReaderAdapter) reader).getPluginName(), reader.getName(), e);
+              .onReaderObservationError(reader.getPluginName(), reader.getName(), e);
+          isPolling.set(false);
         }
       }
     };
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The policy set for the reader if any, otherwise a fixed interval polling using the sleep
+   * duration provided at construction.
+   *
+   * @since 3.4.0
+   */
+  @Override
+  CardPresencePollingPolicy getPollingPolicy() {
+    CardPresencePollingPolicy pollingPolicy = getReader().getCardPresencePollingPolicy();
+    return pollingPolicy != null ? pollingPolicy : defaultPollingPolicy;
+  }
+
   /**
    * Terminates the monitoring process.
    *
@@ -83,7 +83,7 @@ public void run() {
           } else if (readerSpi instanceof WaitForCardInsertionBlockingSpi) {
             ((WaitForCardInsertionBlockingSpi) readerSpi).waitForCardInsertion();
           }
-          monitoringState.onEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_INSERTED);
+          monitoringState.postEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_INSERTED);
         } catch (ReaderIOException e) {
           // just warn as it can be a disconnection of the reader.
           logger.warn(
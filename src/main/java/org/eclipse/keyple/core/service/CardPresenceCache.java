@@ -0,0 +1,88 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Last known card presence state of an observable local reader.
+ *
+ * <p>The state is updated by the card insertion and removal events of the state machine of the
+ * reader and by the card presence checks actually performed. It remains valid as long as the card
+ * presence is monitored by the state machine, and for a limited time otherwise.
+ *
+ * @since 3.4.0
+ */
+final class CardPresenceCache {
+
+  private final long maxAgeMillis;
+  private final long maxAgeNanos;
+  private volatile CardPresence cardPresence;
+
+  /**
+   * Constructor.
+   *
+   * @param maxAgeMillis The maximum age of a state not monitored by the state machine, in
+   *     milliseconds.
+   * @since 3.4.0
+   */
+  CardPresenceCache(long maxAgeMillis) {
+    this.maxAgeMillis = maxAgeMillis;
+    this.maxAgeNanos = maxAgeMillis * 1000000;
+  }
+
+  /**
+   * Gets the maximum age of a state not monitored by the state machine.
+   *
+   * @return A strictly positive value.
+   * @since 3.4.0
+   */
+  long getMaxAgeMillis() {
+    return maxAgeMillis;
+  }
+
+  /**
+   * Records the current card presence state.
+   *
+   * @param isCardPresent True if a card is present.
+   * @since 3.4.0
+   */
+  void update(boolean isCardPresent) {
+    cardPresence = new CardPresence(isCardPresent, System.nanoTime());
+  }
+
+  /**
+   * Gets the last known card presence state if it is still valid.
+   *
+   * @param isMonitored True if the card presence is currently monitored by the state machine.
+   * @return Null if the state is unknown or outdated.
+   * @since 3.4.0
+   */
+  Boolean getCardPresence(boolean isMonitored) {
+    CardPresence currentCardPresence = cardPresence;
+    if (currentCardPresence == null
+        || (!isMonitored && System.nanoTime() - currentCardPresence.updateNanos > maxAgeNanos)) {
+      return null;
+    }
+    return currentCardPresence.isCardPresent;
+  }
+
+  /** A card presence state and its update time. */
+  private static final class CardPresence {
+
+    private final boolean isCardPresent;
+    private final long updateNanos;
+
+    private CardPresence(boolean isCardPresent, long updateNanos) {
+      this.isCardPresent = isCardPresent;
+      this.updateNanos = updateNanos;
+    }
+  }
+}
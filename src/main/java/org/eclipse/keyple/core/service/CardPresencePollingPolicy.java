@@ -0,0 +1,178 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import org.eclipse.keyple.core.util.Assert;
+
+/**
+ * Policy defining the intervals between two polls of the card presence by an observable local
+ * reader based on non-blocking SPIs.
+ *
+ * <p>The polling starts each time the reader begins waiting for a card insertion or removal (i.e.
+ * right after an activity of the reader). An adaptive policy polls at its minimum interval during
+ * a given duration, then doubles the interval at each poll up to its maximum interval. A fixed
+ * policy always polls at the same interval.
+ *
+ * <p>By default, a reader polls at the fixed interval provided by its plugin.
+ *
+ * @see SmartCardService#setCardPresencePollingPolicy(org.eclipse.keypop.reader.CardReader,
+ *     CardPresencePollingPolicy)
+ * @since 3.4.0
+ */
+public final class CardPresencePollingPolicy {
+
+  private final long minIntervalMillis;
+  private final long maxIntervalMillis;
+  private final long fastPollingDurationMillis;
+  private final long jitterMillis;
+
+  /**
+   * Constructor.
+   *
+   * @param minIntervalMillis The minimum interval.
+   * @param maxIntervalMillis The maximum interval.
+   * @param fastPollingDurationMillis The duration of the polling at the minimum interval.
+   * @param jitterMillis The maximum random delay added to each interval.
+   */
+  private CardPresencePollingPolicy(
+      long minIntervalMillis,
+      long maxIntervalMillis,
+      long fastPollingDurationMillis,
+      long jitterMillis) {
+    this.minIntervalMillis = minIntervalMillis;
+    this.maxIntervalMillis = maxIntervalMillis;
+    this.fastPollingDurationMillis = fastPollingDurationMillis;
+    this.jitterMillis = jitterMillis;
+  }
+
+  /**
+   * Creates a policy polling at a fixed interval.
+   *
+   * @param intervalMillis The interval between two polls (in milliseconds).
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the interval is not strictly positive.
+   * @since 3.4.0
+   */
+  public static CardPresencePollingPolicy fixed(long intervalMillis) {
+    Assert.getInstance().isTrue(intervalMillis > 0, "intervalMillis");
+    return new CardPresencePollingPolicy(intervalMillis, intervalMillis, 0, 0);
+  }
+
+  /**
+   * Creates a policy polling at a fixed interval increased by a random delay.
+   *
+   * @param intervalMillis The interval between two polls (in milliseconds, strictly positive).
+   * @param jitterMillis The maximum random delay added to each interval (in milliseconds,
+   *     positive).
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  static CardPresencePollingPolicy fixedWithJitter(long intervalMillis, long jitterMillis) {
+    return new CardPresencePollingPolicy(intervalMillis, intervalMillis, 0, jitterMillis);
+  }
+
+  /**
+   * Creates a policy polling at the minimum interval during the provided duration after an
+   * activity of the reader, then with an exponential back-off up to the maximum interval.
+   *
+   * @param minIntervalMillis The interval used right after an activity (in milliseconds).
+   * @param maxIntervalMillis The ceiling of the interval when the reader is idle (in milliseconds).
+   * @param fastPollingDurationMillis The duration of the polling at the minimum interval (in
+   *     milliseconds).
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the minimum interval is not strictly positive, if the
+   *     maximum interval is less than the minimum interval or if the duration is negative.
+   * @since 3.4.0
+   */
+  public static CardPresencePollingPolicy adaptive(
+      long minIntervalMillis, long maxIntervalMillis, long fastPollingDurationMillis) {
+    Assert.getInstance()
+        .isTrue(minIntervalMillis > 0, "minIntervalMillis")
+        .isTrue(maxIntervalMillis >= minIntervalMillis, "maxIntervalMillis")
+        .isTrue(fastPollingDurationMillis >= 0, "fastPollingDurationMillis");
+    return new CardPresencePollingPolicy(
+        minIntervalMillis, maxIntervalMillis, fastPollingDurationMillis, 0);
+  }
+
+  /**
+   * Gets the interval used right after an activity of the reader.
+   *
+   * @return The interval in milliseconds.
+   * @since 3.4.0
+   */
+  public long getMinIntervalMillis() {
+    return minIntervalMillis;
+  }
+
+  /**
+   * Gets the ceiling of the interval when the reader is idle.
+   *
+   * @return The interval in milliseconds.
+   * @since 3.4.0
+   */
+  public long getMaxIntervalMillis() {
+    return maxIntervalMillis;
+  }
+
+  /**
+   * Gets the duration of the polling at the minimum interval after an activity of the reader.
+   *
+   * @return The duration in milliseconds.
+   * @since 3.4.0
+   */
+  public long getFastPollingDurationMillis() {
+    return fastPollingDurationMillis;
+  }
+
+  /**
+   * Gets the maximum random delay added to each interval.
+   *
+   * @return The delay in milliseconds, 0 if the intervals are not randomized.
+   * @since 3.4.0
+   */
+  long getJitterMillis() {
+    return jitterMillis;
+  }
+
+  /**
+   * Computes the interval to wait before the next poll.
+   *
+   * @param previousIntervalMillis The previous interval, 0 if none.
+   * @param elapsedMillis The time elapsed since the start of the polling.
+   * @return The interval in milliseconds.
+   * @since 3.4.0
+   */
+  long getNextIntervalMillis(long previousIntervalMillis, long elapsedMillis) {
+    if (elapsedMillis < fastPollingDurationMillis || previousIntervalMillis < minIntervalMillis) {
+      return minIntervalMillis;
+    }
+    return Math.min(maxIntervalMillis, previousIntervalMillis * 2);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public String toString() {
+    return "CardPresencePollingPolicy{minIntervalMillis="
+        + minIntervalMillis
+        + ", maxIntervalMillis="
+        + maxIntervalMillis
+        + ", fastPollingDurationMillis="
+        + fastPollingDurationMillis
+        + ", jitterMillis="
+        + jitterMillis
+        + '}';
+  }
+}
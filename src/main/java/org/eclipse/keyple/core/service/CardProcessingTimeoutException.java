@@ -0,0 +1,33 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Indicates that the processing of a card by the application has not been finalized within the
+ * card processing timeout of the observable reader. The channels have been released and the card
+ * detection resumed.
+ *
+ * <p>This exception is notified to the observation exception handler of the reader.
+ *
+ * @see SmartCardService#setCardProcessingTimeout(org.eclipse.keypop.reader.CardReader, long)
+ * @since 3.4.0
+ */
+public class CardProcessingTimeoutException extends RuntimeException {
+
+  /**
+   * @param message the message to identify the exception context
+   * @since 3.4.0
+   */
+  public CardProcessingTimeoutException(String message) {
+    super(message);
+  }
+}
@@ -17,9 +17,11 @@
 
 /**
  * Ping the card to detect removal thanks to the method {@link
- * ObservableLocalReaderAdapter#isCardPresentPing()}.
+ * ObservableLocalReaderAdapter#isCardPresentPing()}, according to the {@link
+ * CardRemovalProbePolicy} of the reader if any.
  *
- * <p>This method is invoked in another thread.
+ * <p>The pings are executed by the {@link MonitoringScheduler} shared by all the readers and the
+ * CARD_REMOVED event is processed by the executor service of the reader.
  *
  * <p>This job should be used by readers who do not have the ability to natively detect the
  * disappearance of the card at the end of the transaction.
@@ -39,8 +41,8 @@ final class CardRemovalActiveMonitoringJobAdapter extends AbstractMonitoringJobA
   private static final Logger logger =
       LoggerFactory.getLogger(CardRemovalActiveMonitoringJobAdapter.class);
 
-  private final AtomicBoolean loop = new AtomicBoolean();
-  private final long sleepDurationMillis;
+  private volatile AtomicBoolean loop = new AtomicBoolean();
+  private final CardPresencePollingPolicy defaultPollingPolicy;
 
   /**
    * Create a job monitor job that ping the card with the method isCardPresentPing()
@@ -52,7 +54,8 @@ final class CardRemovalActiveMonitoringJobAdapter extends AbstractMonitoringJobA
   public CardRemovalActiveMonitoringJobAdapter(
       ObservableLocalReaderAdapter reader, long sleepDurationMillis) {
     super(reader);
-    this.sleepDurationMillis = sleepDurationMillis;
+    // the shared scheduler requires a positive interval
+    this.defaultPollingPolicy = CardPresencePollingPolicy.fixed(Math.max(1, sleepDurationMillis));
   }
 
   /**
@@ -63,57 +66,74 @@ public CardRemovalActiveMonitoringJobAdapter(
    */
   @Override
   Runnable getMonitoringJob(final AbstractObservableStateAdapter monitoringState) {
-
+    if (logger.isTraceEnabled()) {
+      logger.trace(
+          "Start monitoring job polling process using 'isCardPresentPing()' method on reader [{}]",
+          getReader().getName());
+    }
+    // a new flag for each activation, so that a ping of a previous activation can't go on
+    final AtomicBoolean isPolling = new AtomicBoolean(true);
+    loop = isPolling;
     return new Runnable() {
 
+      /* End of the last ping to which the card responded, or start of the monitoring */
+      private long lastPresenceNanos = System.nanoTime();
+
       /**
-       * Monitoring loop
+       * Single ping
        *
-       * <p>Sends a neutral command to the card and loops as long as the card responds. <br>
-       * Triggers a CARD_REMOVED event and exits as soon as the communication with the card is lost.
+       * <p>Sends a neutral command to the card. <br>
+       * Posts a CARD_REMOVED event and stops polling as soon as the communication with the card is
+       * lost.
        *
        * <p>Any exceptions are notified to the application using the exception handler.
        */
       @Override
       public void run() {
+        if (!isPolling.get()) {
+          return;
+        }
+        boolean isCardRemoved = true;
         try {
-          if (logger.isTraceEnabled()) {
-            logger.trace(
-                "Start monitoring job polling process using 'isCardPresentPing()' method on reader [{}]",
-                getReader().getName());
-          }
-          // re-init loop value to true
-          loop.set(true);
-          while (loop.get()) {
-            if (!getReader().isCardPresentPing()) {
-              if (logger.isTraceEnabled()) {
-                logger.trace("Card stop responding");
-              }
-              break;
-            }
-            // wait a bit
-            try {
-              Thread.sleep(sleepDurationMillis);
-            } catch (InterruptedException ignored) {
-              // Restore interrupted state...
-              Thread.currentThread().interrupt();
-              loop.set(false);
-            }
-          }
-          if (logger.isTraceEnabled()) {
-            logger.trace("Monitoring job polling process stopped");
+          isCardRemoved = !getReader().isCardPresentPing();
+          if (!isCardRemoved) {
+            lastPresenceNanos = System.nanoTime();
+          } else if (logger.isTraceEnabled()) {
+            logger.trace("Card stop responding");
           }
         } catch (RuntimeException e) {
           getReader()
               .getObservationExceptionHandler()
               .onReaderObservationError(getReader().getPluginName(), getReader().getName(), e);
         } finally {
-          monitoringState.onEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_REMOVED);
+          if (isCardRemoved && isPolling.compareAndSet(true, false)) {
+            getReader().getMetrics().recordRemovalDetection(lastPresenceNanos);
+            monitoringState.postEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_REMOVED);
+          }
         }
       }
     };
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The interval of the removal probe policy set for the reader if any, otherwise the polling
+   * policy set for the reader if any, otherwise a fixed interval polling using the sleep duration
+   * provided at construction.
+   *
+   * @since 3.4.0
+   */
+  @Override
+  CardPresencePollingPolicy getPollingPolicy() {
+    CardRemovalProbePolicy probePolicy = getReader().getCardRemovalProbePolicy();
+    if (probePolicy != null) {
+      return probePolicy.getPollingPolicy();
+    }
+    CardPresencePollingPolicy pollingPolicy = getReader().getCardPresencePollingPolicy();
+    return pollingPolicy != null ? pollingPolicy : defaultPollingPolicy;
+  }
+
   /**
    * Terminates the monitoring process.
    *
@@ -110,7 +110,7 @@ public void run() {
               .onReaderObservationError(getReader().getPluginName(), getReader().getName(), e);
         } finally {
           if (!isTaskCanceled) {
-            monitoringState.onEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_REMOVED);
+            monitoringState.postEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_REMOVED);
           }
         }
       }
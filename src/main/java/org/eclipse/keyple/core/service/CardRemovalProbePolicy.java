@@ -0,0 +1,159 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import org.eclipse.keyple.core.util.Assert;
+import org.eclipse.keyple.core.util.HexUtil;
+
+/**
+ * Policy defining how an observable local reader based on non-blocking SPIs probes the presence of
+ * the card while waiting for its removal.
+ *
+ * <p>The card is probed either by sending an APDU, the card being considered removed as soon as it
+ * no longer responds, or by checking the card presence with the reader. The probes are separated by
+ * a fixed interval, increased by a random delay up to the provided jitter so that the probes of
+ * several readers sharing the same bus do not remain synchronized.
+ *
+ * <p>By default, a reader sends the APDU {@code 00 C0 00 00 00} at the interval provided by its
+ * plugin or defined by its {@link CardPresencePollingPolicy}.
+ *
+ * @see SmartCardService#setCardRemovalProbePolicy(org.eclipse.keypop.reader.CardReader,
+ *     CardRemovalProbePolicy)
+ * @since 3.4.0
+ */
+public final class CardRemovalProbePolicy {
+
+  private final byte[] apdu;
+  private final long intervalMillis;
+  private final long jitterMillis;
+  private final CardPresencePollingPolicy pollingPolicy;
+
+  /**
+   * Constructor.
+   *
+   * @param apdu The APDU to send, null to check the card presence with the reader.
+   * @param intervalMillis The interval between two probes.
+   * @param jitterMillis The maximum random delay added to the interval.
+   */
+  private CardRemovalProbePolicy(byte[] apdu, long intervalMillis, long jitterMillis) {
+    this.apdu = apdu;
+    this.intervalMillis = intervalMillis;
+    this.jitterMillis = jitterMillis;
+    this.pollingPolicy = CardPresencePollingPolicy.fixedWithJitter(intervalMillis, jitterMillis);
+  }
+
+  /**
+   * Creates a policy probing the card by sending the provided APDU, the card being considered
+   * removed as soon as it no longer responds, whatever the status word.
+   *
+   * @param apdu The APDU to send, which must be neutral for the card.
+   * @param intervalMillis The interval between two probes (in milliseconds).
+   * @param jitterMillis The maximum random delay added to each interval (in milliseconds).
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the APDU is null or shorter than 4 bytes, if the interval
+   *     is not strictly positive or if the jitter is negative.
+   * @since 3.4.0
+   */
+  public static CardRemovalProbePolicy apduPing(
+      byte[] apdu, long intervalMillis, long jitterMillis) {
+    Assert.getInstance()
+        .notEmpty(apdu, "apdu")
+        .isTrue(apdu.length >= 4, "apdu")
+        .isTrue(intervalMillis > 0, "intervalMillis")
+        .isTrue(jitterMillis >= 0, "jitterMillis");
+    return new CardRemovalProbePolicy(apdu.clone(), intervalMillis, jitterMillis);
+  }
+
+  /**
+   * Creates a policy probing the card by checking its presence with the reader, without any
+   * exchange with the card.
+   *
+   * @param intervalMillis The interval between two probes (in milliseconds).
+   * @param jitterMillis The maximum random delay added to each interval (in milliseconds).
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the interval is not strictly positive or if the jitter is
+   *     negative.
+   * @since 3.4.0
+   */
+  public static CardRemovalProbePolicy cardPresenceCheck(long intervalMillis, long jitterMillis) {
+    Assert.getInstance()
+        .isTrue(intervalMillis > 0, "intervalMillis")
+        .isTrue(jitterMillis >= 0, "jitterMillis");
+    return new CardRemovalProbePolicy(null, intervalMillis, jitterMillis);
+  }
+
+  /**
+   * Gets the APDU sent to probe the card.
+   *
+   * @return Null if the card presence is checked with the reader.
+   * @since 3.4.0
+   */
+  public byte[] getApdu() {
+    return apdu != null ? apdu.clone() : null;
+  }
+
+  /**
+   * Gets the interval between two probes.
+   *
+   * @return The interval in milliseconds.
+   * @since 3.4.0
+   */
+  public long getIntervalMillis() {
+    return intervalMillis;
+  }
+
+  /**
+   * Gets the maximum random delay added to each interval.
+   *
+   * @return The jitter in milliseconds.
+   * @since 3.4.0
+   */
+  public long getJitterMillis() {
+    return jitterMillis;
+  }
+
+  /**
+   * Gets the APDU sent to probe the card, without copy.
+   *
+   * @return Null if the card presence is checked with the reader.
+   * @since 3.4.0
+   */
+  byte[] getApduInternal() {
+    return apdu;
+  }
+
+  /**
+   * Gets the polling policy applying the interval and the jitter.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  CardPresencePollingPolicy getPollingPolicy() {
+    return pollingPolicy;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public String toString() {
+    return "CardRemovalProbePolicy{apdu="
+        + (apdu != null ? HexUtil.toHex(apdu) : "none (card presence check)")
+        + ", intervalMillis="
+        + intervalMillis
+        + ", jitterMillis="
+        + jitterMillis
+        + '}';
+  }
+}
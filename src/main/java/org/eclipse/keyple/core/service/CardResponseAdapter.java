@@ -12,6 +12,7 @@
 package org.eclipse.keyple.core.service;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.eclipse.keyple.core.util.json.JsonUtil;
 import org.eclipse.keypop.card.ApduResponseApi;
@@ -26,6 +27,14 @@
  */
 final class CardResponseAdapter implements CardResponseApi {
 
+  /**
+   * Shared immutable empty card response with a closed logical channel.
+   *
+   * @since 3.4.0
+   */
+  static final CardResponseAdapter EMPTY_CARD_RESPONSE =
+      new CardResponseAdapter(Collections.<ApduResponseAdapter>emptyList(), false);
+
   private final List<ApduResponseAdapter> apduResponses;
   private final boolean isLogicalChannelOpen;
 
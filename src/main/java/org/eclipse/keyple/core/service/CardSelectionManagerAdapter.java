@@ -276,8 +276,9 @@ public void scheduleCardSelectionScenario(
         new CardSelectionScenarioAdapter(
             cardSelectors, cardSelectionRequests, multiSelectionProcessing, channelControl);
     if (observableCardReader instanceof ObservableLocalReaderAdapter) {
+      // the scenario is executed on each card insertion, compile it once for all
       ((ObservableLocalReaderAdapter) observableCardReader)
-          .scheduleCardSelectionScenario(cardSelectionScenario, notificationMode);
+          .scheduleCardSelectionScenario(cardSelectionScenario.compile(), notificationMode);
     } else if (observableCardReader instanceof ObservableRemoteReaderAdapter) {
       ((ObservableRemoteReaderAdapter) observableCardReader)
           .scheduleCardSelectionScenario(cardSelectionScenario, notificationMode);
@@ -341,6 +342,39 @@ public CardSelectionResult importProcessedCardSelectionScenario(
     return processCardSelectionResponses(cardSelectionResponses);
   }
 
+  /**
+   * Compiles the card selection scenario prepared so far.
+   *
+   * <p>The returned scenario is an immutable snapshot that is not affected by further changes made
+   * to this manager.
+   *
+   * @return A not null reference.
+   * @throws IllegalArgumentException If no card selection has been prepared or if one of the card
+   *     selectors is not a Keyple implementation.
+   * @since 3.4.0
+   */
+  CompiledCardSelectionScenarioAdapter compile() {
+    return compile(CardSelectionOrdering.DECLARATION_ORDER);
+  }
+
+  /**
+   * Compiles the card selection scenario prepared so far with the provided selection ordering.
+   *
+   * @param cardSelectionOrdering The selection ordering to use in {@link
+   *     MultiSelectionProcessing#FIRST_MATCH} mode.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If no card selection has been prepared or if one of the card
+   *     selectors is not a Keyple implementation.
+   * @since 3.4.0
+   */
+  CompiledCardSelectionScenarioAdapter compile(CardSelectionOrdering cardSelectionOrdering) {
+    return new CompiledCardSelectionScenarioAdapter(
+        new CardSelectionScenarioAdapter(
+                cardSelectors, cardSelectionRequests, multiSelectionProcessing, channelControl)
+            .compile(cardSelectionOrdering),
+        cardSelections);
+  }
+
   /**
    * Analyzes the responses received in return of the execution of a card selection scenario and
    * returns the CardSelectionResult.
@@ -351,6 +385,25 @@ public CardSelectionResult importProcessedCardSelectionScenario(
    */
   private CardSelectionResult processCardSelectionResponses(
       List<CardSelectionResponseApi> cardSelectionResponses) {
+    CardSelectionResult cardSelectionsResult =
+        parseCardSelectionResponses(cardSelections, cardSelectionResponses);
+    this.cardSelectionResponses = cardSelectionResponses;
+    return cardSelectionsResult;
+  }
+
+  /**
+   * Analyzes the responses received in return of the execution of a card selection scenario with
+   * the provided card selections and returns the CardSelectionResult.
+   *
+   * @param cardSelections The card selections used to parse the responses.
+   * @param cardSelectionResponses The card selection responses.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the list is null or empty.
+   * @since 3.4.0
+   */
+  static CardSelectionResult parseCardSelectionResponses(
+      List<CardSelectionExtensionSpi> cardSelections,
+      List<CardSelectionResponseApi> cardSelectionResponses) {
 
     Assert.getInstance()
         .isInRange(
@@ -377,7 +430,6 @@ private CardSelectionResult processCardSelectionResponses(
       }
       index++;
     }
-    this.cardSelectionResponses = cardSelectionResponses;
     return cardSelectionsResult;
   }
 }
@@ -0,0 +1,64 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Defines the order in which the card selections of a {@link CompiledCardSelectionScenario} are
+ * attempted when the scenario stops at the first matching selection.
+ *
+ * <p>Whatever the order, the selection results are always reported under the original selection
+ * indexes, i.e. the ones returned by {@link
+ * org.eclipse.keypop.reader.selection.CardSelectionManager#prepareSelection}.
+ *
+ * <p>When all the selections are processed (multiple selection mode), the declaration order is
+ * always used.
+ *
+ * <p><b>Overlapping selections:</b> only the first matching selection attempted is reported as
+ * matched, the following ones being reported as not matching. When several selections may match the
+ * same card (e.g. a partial AID shared by several applications, or overlapping power-on data
+ * regexes), an adaptive ordering may therefore change which of them is reported as matched, as
+ * opposed to the declaration order. The adaptive orderings are intended for mutually exclusive
+ * selections.
+ *
+ * <p><b>Distributed use:</b> the ordering is transmitted with a scenario scheduled on a remote
+ * observable reader and the match ratios are then tracked on the local side. A local peer running
+ * an earlier version ignores it and uses the declaration order.
+ *
+ * @see SmartCardService#compileCardSelectionScenario(
+ *     org.eclipse.keypop.reader.selection.CardSelectionManager, CardSelectionOrdering)
+ * @since 3.4.0
+ */
+public enum CardSelectionOrdering {
+
+  /**
+   * The selections are attempted in the order in which they were prepared.
+   *
+   * @since 3.4.0
+   */
+  DECLARATION_ORDER,
+
+  /**
+   * The selections are attempted in decreasing order of their observed match ratio, computed on
+   * all the readers executing the scenario.
+   *
+   * @since 3.4.0
+   */
+  ADAPTIVE,
+
+  /**
+   * The selections are attempted in decreasing order of their observed match ratio, computed
+   * separately for each reader executing the scenario.
+   *
+   * @since 3.4.0
+   */
+  ADAPTIVE_PER_READER
+}
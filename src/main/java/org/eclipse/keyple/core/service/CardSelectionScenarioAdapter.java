@@ -11,10 +11,16 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.eclipse.keypop.card.CardBrokenCommunicationException;
+import org.eclipse.keypop.card.CardSelectionResponseApi;
 import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.ReaderBrokenCommunicationException;
 import org.eclipse.keypop.card.spi.CardSelectionRequestSpi;
 import org.eclipse.keypop.reader.selection.CardSelector;
 
@@ -40,6 +46,8 @@ final class CardSelectionScenarioAdapter {
   private final List<CardSelectionRequestSpi> cardSelectionRequests;
   private final MultiSelectionProcessing multiSelectionProcessing;
   private final ChannelControl channelControl;
+  private final CardSelectionOrdering cardSelectionOrdering;
+  private final transient AdaptiveCardSelectionOrder adaptiveCardSelectionOrder;
 
   /**
    * Builds a card selection scenario from a list of selection cases and two enum constants guiding
@@ -72,6 +80,163 @@ final class CardSelectionScenarioAdapter {
     this.cardSelectionRequests = cardSelectionRequests;
     this.multiSelectionProcessing = multiSelectionProcessing;
     this.channelControl = channelControl;
+    this.cardSelectionOrdering = CardSelectionOrdering.DECLARATION_ORDER;
+    this.adaptiveCardSelectionOrder = null;
+  }
+
+  /**
+   * Builds a compiled card selection scenario.
+   *
+   * @param cardSelectors The compiled card selectors.
+   * @param cardSelectionRequests An unmodifiable list of card selection requests.
+   * @param multiSelectionProcessing The multi selection processing policy.
+   * @param channelControl The channel control policy.
+   * @param cardSelectionOrdering The selection ordering.
+   * @param adaptiveCardSelectionOrder The adaptive order of the selections, null if not enabled.
+   */
+  private CardSelectionScenarioAdapter(
+      CompiledCardSelectorList cardSelectors,
+      List<CardSelectionRequestSpi> cardSelectionRequests,
+      MultiSelectionProcessing multiSelectionProcessing,
+      ChannelControl channelControl,
+      CardSelectionOrdering cardSelectionOrdering,
+      AdaptiveCardSelectionOrder adaptiveCardSelectionOrder) {
+    this.cardSelectors = cardSelectors;
+    this.cardSelectionRequests = cardSelectionRequests;
+    this.multiSelectionProcessing = multiSelectionProcessing;
+    this.channelControl = channelControl;
+    this.cardSelectionOrdering = cardSelectionOrdering;
+    this.adaptiveCardSelectionOrder = adaptiveCardSelectionOrder;
+  }
+
+  /**
+   * Compiles this card selection scenario.
+   *
+   * <p>The returned scenario is an immutable snapshot of this one in which the card selectors are
+   * compiled (see {@link CompiledCardSelector}). It can be shared and executed concurrently by any
+   * number of readers.
+   *
+   * <p>The selection ordering of this scenario is kept, which allows a scenario received from a
+   * remote peer to restore its adaptive ordering.
+   *
+   * @return A new instance, or this instance if already compiled.
+   * @throws IllegalArgumentException If one of the card selectors is not a Keyple implementation.
+   * @since 3.4.0
+   */
+  CardSelectionScenarioAdapter compile() {
+    if (isCompiled()) {
+      return this;
+    }
+    // the ordering is null when the scenario has been sent by a peer not supporting it
+    return compile(
+        cardSelectionOrdering != null
+            ? cardSelectionOrdering
+            : CardSelectionOrdering.DECLARATION_ORDER);
+  }
+
+  /**
+   * Compiles this card selection scenario with the provided selection ordering.
+   *
+   * <p>The ordering only applies when the multi selection processing policy is {@link
+   * MultiSelectionProcessing#FIRST_MATCH}.
+   *
+   * @param cardSelectionOrdering The selection ordering.
+   * @return A new instance.
+   * @throws IllegalArgumentException If one of the card selectors is not a Keyple implementation.
+   * @since 3.4.0
+   */
+  CardSelectionScenarioAdapter compile(CardSelectionOrdering cardSelectionOrdering) {
+    AdaptiveCardSelectionOrder order;
+    if (cardSelectionOrdering == CardSelectionOrdering.DECLARATION_ORDER
+        || multiSelectionProcessing != MultiSelectionProcessing.FIRST_MATCH) {
+      order = null;
+    } else {
+      order =
+          new AdaptiveCardSelectionOrder(
+              cardSelectionRequests.size(),
+              cardSelectionOrdering == CardSelectionOrdering.ADAPTIVE_PER_READER);
+    }
+    return new CardSelectionScenarioAdapter(
+        cardSelectors instanceof CompiledCardSelectorList
+            ? (CompiledCardSelectorList) cardSelectors
+            : new CompiledCardSelectorList(cardSelectors),
+        Collections.unmodifiableList(new ArrayList<>(cardSelectionRequests)),
+        multiSelectionProcessing,
+        channelControl,
+        cardSelectionOrdering,
+        order);
+  }
+
+  /**
+   * Indicates whether this card selection scenario has been compiled.
+   *
+   * @return True if the card selectors are compiled.
+   * @since 3.4.0
+   */
+  boolean isCompiled() {
+    return cardSelectors instanceof CompiledCardSelectorList;
+  }
+
+  /**
+   * Executes this card selection scenario on the provided reader.
+   *
+   * <p>When the adaptive ordering is enabled, the selections are attempted in decreasing order of
+   * their observed match ratio, and the responses are put back under their original indexes. The
+   * selections not attempted because a previous one has matched are reported as not matching.
+   *
+   * @param reader The reader.
+   * @return A not null list.
+   * @throws ReaderBrokenCommunicationException if the communication with the reader has failed.
+   * @throws CardBrokenCommunicationException if the communication with the card has failed.
+   * @since 3.4.0
+   */
+  List<CardSelectionResponseApi> transmitCardSelectionRequests(AbstractReaderAdapter reader)
+      throws ReaderBrokenCommunicationException, CardBrokenCommunicationException {
+
+    if (adaptiveCardSelectionOrder == null) {
+      return reader.transmitCardSelectionRequests(
+          cardSelectors, cardSelectionRequests, multiSelectionProcessing, channelControl);
+    }
+
+    String readerName = reader.getName();
+    int[] order = adaptiveCardSelectionOrder.getOrder(readerName);
+    List<CardSelectionRequestSpi> orderedCardSelectionRequests = new ArrayList<>(order.length);
+    for (int index : order) {
+      orderedCardSelectionRequests.add(cardSelectionRequests.get(index));
+    }
+
+    List<CardSelectionResponseApi> orderedCardSelectionResponses =
+        reader.transmitCardSelectionRequests(
+            ((CompiledCardSelectorList) cardSelectors).reorder(order),
+            orderedCardSelectionRequests,
+            multiSelectionProcessing,
+            channelControl);
+
+    // put the responses back under their original indexes
+    int matchedPosition = -1;
+    int lastIndex = -1;
+    for (int i = 0; i < orderedCardSelectionResponses.size(); i++) {
+      if (matchedPosition < 0 && orderedCardSelectionResponses.get(i).hasMatched()) {
+        matchedPosition = i;
+      }
+      lastIndex = Math.max(lastIndex, order[i]);
+    }
+    adaptiveCardSelectionOrder.recordOutcome(
+        readerName, order, orderedCardSelectionResponses.size(), matchedPosition);
+
+    CardSelectionResponseApi[] cardSelectionResponses = new CardSelectionResponseApi[lastIndex + 1];
+    for (int i = 0; i < orderedCardSelectionResponses.size(); i++) {
+      cardSelectionResponses[order[i]] = orderedCardSelectionResponses.get(i);
+    }
+    for (int i = 0; i < cardSelectionResponses.length; i++) {
+      if (cardSelectionResponses[i] == null) {
+        // not attempted
+        cardSelectionResponses[i] =
+            new CardSelectionResponseAdapter(
+                null, null, false, CardResponseAdapter.EMPTY_CARD_RESPONSE);
+      }
+    }
+    return new ArrayList<>(Arrays.asList(cardSelectionResponses));
   }
 
   /**
@@ -94,6 +259,17 @@ List<CardSelectionRequestSpi> getCardSelectionRequests() {
     return cardSelectionRequests;
   }
 
+  /**
+   * Gets the selection ordering.
+   *
+   * @return Null if the scenario has been received from a peer not supporting the selection
+   *     ordering.
+   * @since 3.4.0
+   */
+  CardSelectionOrdering getCardSelectionOrdering() {
+    return cardSelectionOrdering;
+  }
+
   /**
    * Gets the multi selection processing policy.
    *
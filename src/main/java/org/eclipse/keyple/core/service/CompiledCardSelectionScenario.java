@@ -0,0 +1,105 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.reader.ObservableCardReader;
+import org.eclipse.keypop.reader.selection.CardSelectionManager;
+import org.eclipse.keypop.reader.selection.CardSelectionResult;
+import org.eclipse.keypop.reader.selection.ScheduledCardSelectionsResponse;
+
+/**
+ * Immutable card selection scenario compiled from a {@link CardSelectionManager}.
+ *
+ * <p>The card selectors are compiled once for all (power-on data regular expressions, ISO7816-4
+ * Select Application commands), so that the scenario can be executed many times at a lower cost.
+ *
+ * <p>Unlike {@link CardSelectionManager}, a compiled scenario is thread safe: the same instance can
+ * be shared and executed concurrently on any number of readers.
+ *
+ * @see SmartCardService#compileCardSelectionScenario(CardSelectionManager)
+ * @since 3.4.0
+ */
+public interface CompiledCardSelectionScenario {
+
+  /**
+   * Explicitly executes the compiled card selection scenario on the provided reader and returns
+   * the result.
+   *
+   * <p>This method is the thread safe equivalent of {@link
+   * CardSelectionManager#processCardSelectionScenario(CardReader)}.
+   *
+   * @param reader The reader to communicate with the card.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the provided reader is null or not a Keyple reader.
+   * @throws org.eclipse.keypop.reader.ReaderCommunicationException If the communication with the
+   *     reader has failed.
+   * @throws org.eclipse.keypop.reader.CardCommunicationException If the communication with the
+   *     card has failed.
+   * @throws org.eclipse.keypop.reader.selection.InvalidCardResponseException If an invalid card
+   *     response was received.
+   * @since 3.4.0
+   */
+  CardSelectionResult processCardSelectionScenario(CardReader reader);
+
+  /**
+   * Asynchronous version of {@link #processCardSelectionScenario(CardReader)}.
+   *
+   * <p>The scenario is executed after the asynchronous exchanges previously submitted to the
+   * reader (see {@link AsynchronousProxyReader}). The returned future is completed exceptionally
+   * with the exception that {@link #processCardSelectionScenario(CardReader)} would have thrown.
+   *
+   * @param reader The reader to communicate with the card.
+   * @return A not null future completed with the card selection result.
+   * @throws IllegalArgumentException If the provided reader is null or not a Keyple reader.
+   * @throws IllegalStateException If the reader is no longer registered or if the current thread
+   *     holds a lease of the reader.
+   * @since 3.4.0
+   */
+  CompletableFuture<CardSelectionResult> processCardSelectionScenarioAsync(CardReader reader);
+
+  /**
+   * Schedules the execution of the compiled card selection scenario on the provided observable
+   * reader as soon as a card is detected.
+   *
+   * <p>This method is the thread safe equivalent of {@link
+   * CardSelectionManager#scheduleCardSelectionScenario(ObservableCardReader,
+   * ObservableCardReader.NotificationMode)}.
+   *
+   * @param observableCardReader The reader with which the card communication is carried out.
+   * @param notificationMode The card notification mode to use when a card is detected.
+   * @throws IllegalArgumentException If one of the parameters is null or if the reader is not a
+   *     Keyple reader.
+   * @since 3.4.0
+   */
+  void scheduleCardSelectionScenario(
+      ObservableCardReader observableCardReader,
+      ObservableCardReader.NotificationMode notificationMode);
+
+  /**
+   * Analyzes the responses provided in a {@link org.eclipse.keypop.reader.CardReaderEvent}
+   * following the insertion of a card and the execution of the scheduled card selection scenario.
+   *
+   * <p>This method is the thread safe equivalent of {@link
+   * CardSelectionManager#parseScheduledCardSelectionsResponse(ScheduledCardSelectionsResponse)}.
+   *
+   * @param scheduledCardSelectionsResponse The card selection scenario execution response.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the provided response is null or invalid.
+   * @throws org.eclipse.keypop.reader.selection.InvalidCardResponseException If an invalid card
+   *     response was received.
+   * @since 3.4.0
+   */
+  CardSelectionResult parseScheduledCardSelectionsResponse(
+      ScheduledCardSelectionsResponse scheduledCardSelectionsResponse);
+}
@@ -0,0 +1,165 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.keyple.core.util.Assert;
+import org.eclipse.keypop.card.CardBrokenCommunicationException;
+import org.eclipse.keypop.card.CardSelectionResponseApi;
+import org.eclipse.keypop.card.ReaderBrokenCommunicationException;
+import org.eclipse.keypop.card.spi.CardSelectionExtensionSpi;
+import org.eclipse.keypop.reader.CardCommunicationException;
+import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.reader.ObservableCardReader;
+import org.eclipse.keypop.reader.ReaderCommunicationException;
+import org.eclipse.keypop.reader.selection.CardSelectionResult;
+import org.eclipse.keypop.reader.selection.ScheduledCardSelectionsResponse;
+
+/**
+ * Implementation of {@link CompiledCardSelectionScenario}.
+ *
+ * @since 3.4.0
+ */
+final class CompiledCardSelectionScenarioAdapter implements CompiledCardSelectionScenario {
+
+  private final CardSelectionScenarioAdapter cardSelectionScenario;
+  private final List<CardSelectionExtensionSpi> cardSelections;
+
+  /**
+   * Constructor.
+   *
+   * @param cardSelectionScenario The compiled card selection scenario.
+   * @param cardSelections The card selections used to parse the responses.
+   * @since 3.4.0
+   */
+  CompiledCardSelectionScenarioAdapter(
+      CardSelectionScenarioAdapter cardSelectionScenario,
+      List<CardSelectionExtensionSpi> cardSelections) {
+    this.cardSelectionScenario = cardSelectionScenario;
+    this.cardSelections = Collections.unmodifiableList(new ArrayList<>(cardSelections));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public CardSelectionResult processCardSelectionScenario(CardReader reader) {
+
+    Assert.getInstance().notNull(reader, "reader");
+
+    if (!(reader instanceof AbstractReaderAdapter)) {
+      throw new IllegalArgumentException("Not a Keyple reader implementation");
+    }
+
+    // Communicate with the card to make the actual selection
+    List<CardSelectionResponseApi> cardSelectionResponses;
+
+    try {
+      cardSelectionResponses =
+          cardSelectionScenario.transmitCardSelectionRequests((AbstractReaderAdapter) reader);
+    } catch (ReaderBrokenCommunicationException e) {
+      throw new ReaderCommunicationException(e.getMessage(), e);
+    } catch (CardBrokenCommunicationException e) {
+      throw new CardCommunicationException(e.getMessage(), e);
+    }
+
+    // Analyze the received responses
+    return CardSelectionManagerAdapter.parseCardSelectionResponses(
+        cardSelections, cardSelectionResponses);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public CompletableFuture<CardSelectionResult> processCardSelectionScenarioAsync(
+      final CardReader reader) {
+
+    Assert.getInstance().notNull(reader, "reader");
+
+    if (!(reader instanceof AbstractReaderAdapter)) {
+      throw new IllegalArgumentException("Not a Keyple reader implementation");
+    }
+
+    AbstractReaderAdapter readerAdapter = (AbstractReaderAdapter) reader;
+    readerAdapter.checkStatus();
+
+    return readerAdapter.executeAsync(
+        new Callable<CardSelectionResult>() {
+          @Override
+          public CardSelectionResult call() {
+            return processCardSelectionScenario(reader);
+          }
+        });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public void scheduleCardSelectionScenario(
+      ObservableCardReader observableCardReader,
+      ObservableCardReader.NotificationMode notificationMode) {
+
+    Assert.getInstance()
+        .notNull(observableCardReader, "observableCardReader")
+        .notNull(notificationMode, "notificationMode");
+
+    if (observableCardReader instanceof ObservableLocalReaderAdapter) {
+      ((ObservableLocalReaderAdapter) observableCardReader)
+          .scheduleCardSelectionScenario(cardSelectionScenario, notificationMode);
+    } else if (observableCardReader instanceof ObservableRemoteReaderAdapter) {
+      ((ObservableRemoteReaderAdapter) observableCardReader)
+          .scheduleCardSelectionScenario(cardSelectionScenario, notificationMode);
+    } else {
+      throw new IllegalArgumentException("Not a Keyple reader implementation");
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public CardSelectionResult parseScheduledCardSelectionsResponse(
+      ScheduledCardSelectionsResponse scheduledCardSelectionsResponse) {
+
+    Assert.getInstance()
+        .notNull(scheduledCardSelectionsResponse, "scheduledCardSelectionsResponse");
+
+    return CardSelectionManagerAdapter.parseCardSelectionResponses(
+        cardSelections,
+        ((ScheduledCardSelectionsResponseAdapter) scheduledCardSelectionsResponse)
+            .getCardSelectionResponses());
+  }
+
+  /**
+   * Gets the compiled card selection scenario.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  CardSelectionScenarioAdapter getCardSelectionScenario() {
+    return cardSelectionScenario;
+  }
+}
@@ -0,0 +1,236 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.regex.Pattern;
+import org.eclipse.keypop.reader.selection.CardSelector;
+import org.eclipse.keypop.reader.selection.CommonIsoCardSelector;
+
+/**
+ * Immutable snapshot of a {@link CardSelector} ready to be applied to a card.
+ *
+ * <p>The power-on data regular expression is precompiled, and when an AID is defined, the P2
+ * parameter and the ISO7816-4 Select Application command are computed once for all.
+ *
+ * <p>This class is thread safe.
+ *
+ * @since 3.4.0
+ */
+final class CompiledCardSelector {
+
+  private final String logicalProtocolName;
+  private final String powerOnDataRegex;
+  private final Pattern powerOnDataPattern;
+  private final byte[] aid;
+  private final byte selectApplicationP2;
+  private final byte[] selectApplicationCommand;
+
+  /**
+   * Constructor.
+   *
+   * @param cardSelector The card selector, an instance of {@link InternalCardSelector}.
+   */
+  private CompiledCardSelector(InternalCardSelector cardSelector) {
+    logicalProtocolName = cardSelector.getLogicalProtocolName();
+    powerOnDataRegex = cardSelector.getPowerOnDataRegex();
+    powerOnDataPattern = powerOnDataRegex != null ? Pattern.compile(powerOnDataRegex) : null;
+    if (cardSelector instanceof InternalIsoCardSelector
+        && ((InternalIsoCardSelector) cardSelector).getAid() != null) {
+      InternalIsoCardSelector isoCardSelector = (InternalIsoCardSelector) cardSelector;
+      // the AID length is checked when the selection is actually performed
+      aid = isoCardSelector.getAid().clone();
+      selectApplicationP2 =
+          computeSelectApplicationP2(
+              isoCardSelector.getFileOccurrence(), isoCardSelector.getFileControlInformation());
+      selectApplicationCommand = buildSelectApplicationCommand(aid, selectApplicationP2);
+    } else {
+      aid = null;
+      selectApplicationP2 = 0;
+      selectApplicationCommand = null;
+    }
+  }
+
+  /**
+   * Compiles the provided card selector.
+   *
+   * @param cardSelector The card selector.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the card selector is not a Keyple implementation.
+   * @throws java.util.regex.PatternSyntaxException If the power-on data regex is invalid.
+   * @since 3.4.0
+   */
+  static CompiledCardSelector compile(CardSelector<?> cardSelector) {
+    if (!(cardSelector instanceof InternalCardSelector)) {
+      throw new IllegalArgumentException("Not a Keyple card selector implementation");
+    }
+    return new CompiledCardSelector((InternalCardSelector) cardSelector);
+  }
+
+  /**
+   * Gets the logical card protocol name.
+   *
+   * @return Null if no card protocol has been set.
+   * @since 3.4.0
+   */
+  String getLogicalProtocolName() {
+    return logicalProtocolName;
+  }
+
+  /**
+   * Gets the regular expression to be applied to the card's power-on data.
+   *
+   * @return Null if no power-on data regex has been set.
+   * @since 3.4.0
+   */
+  String getPowerOnDataRegex() {
+    return powerOnDataRegex;
+  }
+
+  /**
+   * Indicates whether the provided power-on data is accepted by the power-on data filter.
+   *
+   * @param powerOnData The power-on data.
+   * @return True if no filter is set, if no power-on data is provided or if it matches the filter.
+   * @since 3.4.0
+   */
+  boolean acceptsPowerOnData(String powerOnData) {
+    return powerOnData == null
+        || powerOnDataPattern == null
+        || powerOnDataPattern.matcher(powerOnData).matches();
+  }
+
+  /**
+   * Indicates whether a selection by AID has to be performed.
+   *
+   * @return True if an AID has been set.
+   * @since 3.4.0
+   */
+  boolean hasAid() {
+    return aid != null;
+  }
+
+  /**
+   * Gets a copy of the ISO7816-4 Application Identifier (AID).
+   *
+   * @return Null if no AID has been set.
+   * @since 3.4.0
+   */
+  byte[] getAid() {
+    return aid != null ? aid.clone() : null;
+  }
+
+  /**
+   * Gets the length of the ISO7816-4 Application Identifier (AID).
+   *
+   * @return 0 if no AID has been set.
+   * @since 3.4.0
+   */
+  int getAidLength() {
+    return aid != null ? aid.length : 0;
+  }
+
+  /**
+   * Gets the precomputed P2 parameter of the Select Application command.
+   *
+   * @return The P2 value (0 if no AID has been set).
+   * @since 3.4.0
+   */
+  byte getSelectApplicationP2() {
+    return selectApplicationP2;
+  }
+
+  /**
+   * Gets a copy of the precomputed Select Application command.
+   *
+   * <p>A copy is returned because the command may be updated during its processing (e.g. "Le"
+   * replaced when the card answers 6CXX).
+   *
+   * @return Null if no AID has been set.
+   * @since 3.4.0
+   */
+  byte[] getSelectApplicationCommand() {
+    return selectApplicationCommand != null ? selectApplicationCommand.clone() : null;
+  }
+
+  /**
+   * Builds the ISO7816-4 Select Application command.
+   *
+   * @param aid The AID.
+   * @param p2 The P2 parameter.
+   * @return A not null array.
+   */
+  private static byte[] buildSelectApplicationCommand(byte[] aid, byte p2) {
+    // RL-SEL-CLA.1
+    // RL-SEL-P2LC.1
+    byte[] selectApplicationCommand = new byte[6 + aid.length];
+    selectApplicationCommand[0] = (byte) 0x00; // CLA
+    selectApplicationCommand[1] = (byte) 0xA4; // INS
+    selectApplicationCommand[2] = (byte) 0x04; // P1: select by name
+    // P2: b0,b1 define the File occurrence, b2,b3 define the File control information
+    // we use the bitmask defined in the respective enums
+    selectApplicationCommand[3] = p2;
+    selectApplicationCommand[4] = (byte) (aid.length); // Lc
+    System.arraycopy(aid, 0, selectApplicationCommand, 5, aid.length); // data
+    selectApplicationCommand[5 + aid.length] = (byte) 0x00; // Le
+    return selectApplicationCommand;
+  }
+
+  /**
+   * Computes the P2 parameter of the ISO7816-4 Select Application APDU command from the provided
+   * FileOccurrence and FileControlInformation.
+   *
+   * @param fileOccurrence The file's position relative to the current file.
+   * @param fileControlInformation The file control information output.
+   * @throws IllegalStateException If one of the provided argument is unexpected.
+   */
+  private static byte computeSelectApplicationP2(
+      CommonIsoCardSelector.FileOccurrence fileOccurrence,
+      CommonIsoCardSelector.FileControlInformation fileControlInformation) {
+
+    byte p2;
+    switch (fileOccurrence) {
+      case FIRST:
+        p2 = (byte) 0x00;
+        break;
+      case LAST:
+        p2 = (byte) 0x01;
+        break;
+      case NEXT:
+        p2 = (byte) 0x02;
+        break;
+      case PREVIOUS:
+        p2 = (byte) 0x03;
+        break;
+      default:
+        throw new IllegalStateException("Unexpected value: " + fileOccurrence);
+    }
+
+    switch (fileControlInformation) {
+      case FCI:
+        p2 |= (byte) 0x00;
+        break;
+      case FCP:
+        p2 |= (byte) 0x04;
+        break;
+      case FMD:
+        p2 |= (byte) 0x08;
+        break;
+      case NO_RESPONSE:
+        p2 |= (byte) 0x0C;
+        break;
+      default:
+        throw new IllegalStateException("Unexpected value: " + fileControlInformation);
+    }
+
+    return p2;
+  }
+}
@@ -0,0 +1,112 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import org.eclipse.keypop.reader.selection.CardSelector;
+
+/**
+ * Unmodifiable list of card selectors carrying their compiled form.
+ *
+ * <p>This list is used in place of the original list of card selectors in a compiled {@link
+ * CardSelectionScenarioAdapter}, so that the local readers can retrieve the {@link
+ * CompiledCardSelector} associated to each card selector without having to compile it again.
+ *
+ * <p>This class is thread safe.
+ *
+ * @since 3.4.0
+ */
+final class CompiledCardSelectorList extends AbstractList<CardSelector<?>>
+    implements RandomAccess {
+
+  private final CardSelector<?>[] cardSelectors;
+  private final CompiledCardSelector[] compiledCardSelectors;
+
+  /**
+   * Compiles all the provided card selectors.
+   *
+   * @param cardSelectors The card selectors.
+   * @throws IllegalArgumentException If one of the card selectors is not a Keyple implementation.
+   * @since 3.4.0
+   */
+  CompiledCardSelectorList(List<CardSelector<?>> cardSelectors) {
+    this.cardSelectors = cardSelectors.toArray(new CardSelector<?>[0]);
+    this.compiledCardSelectors = new CompiledCardSelector[this.cardSelectors.length];
+    for (int i = 0; i < this.cardSelectors.length; i++) {
+      compiledCardSelectors[i] = CompiledCardSelector.compile(this.cardSelectors[i]);
+    }
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param cardSelectors The card selectors.
+   * @param compiledCardSelectors The associated compiled card selectors.
+   */
+  private CompiledCardSelectorList(
+      CardSelector<?>[] cardSelectors, CompiledCardSelector[] compiledCardSelectors) {
+    this.cardSelectors = cardSelectors;
+    this.compiledCardSelectors = compiledCardSelectors;
+  }
+
+  /**
+   * Returns a new list containing the card selectors of this list in the provided order, without
+   * compiling them again.
+   *
+   * @param order The indexes of the card selectors in the expected order.
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  CompiledCardSelectorList reorder(int[] order) {
+    CardSelector<?>[] orderedCardSelectors = new CardSelector<?>[order.length];
+    CompiledCardSelector[] orderedCompiledCardSelectors = new CompiledCardSelector[order.length];
+    for (int i = 0; i < order.length; i++) {
+      orderedCardSelectors[i] = cardSelectors[order[i]];
+      orderedCompiledCardSelectors[i] = compiledCardSelectors[order[i]];
+    }
+    return new CompiledCardSelectorList(orderedCardSelectors, orderedCompiledCardSelectors);
+  }
+
+  /**
+   * Returns the compiled card selector at the provided index.
+   *
+   * @param index The index of the card selector.
+   * @return A not null reference.
+   * @throws IndexOutOfBoundsException If the index is out of range.
+   * @since 3.4.0
+   */
+  CompiledCardSelector getCompiled(int index) {
+    return compiledCardSelectors[index];
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public CardSelector<?> get(int index) {
+    return cardSelectors[index];
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public int size() {
+    return cardSelectors.length;
+  }
+}
@@ -18,7 +18,6 @@
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import java.util.*;
-import java.util.regex.Pattern;
 import org.eclipse.keyple.core.common.KeypleDistributedLocalServiceExtension;
 import org.eclipse.keyple.core.distributed.local.LocalServiceApi;
 import org.eclipse.keyple.core.distributed.local.spi.LocalServiceSpi;
@@ -76,11 +75,7 @@
    */
   @Override
   public boolean isReaderContactless(String readerName) {
-    CardReader reader = SmartCardServiceProvider.getService().findReader(Pattern.quote(readerName));
-    if (reader == null) {
-      throw new IllegalStateException(String.format(READER_NOT_FOUND_TEMPLATE, readerName));
-    }
-    return reader.isContactless();
+    return getLocalReader(readerName).isContactless();
   }
 
   /**
@@ -216,6 +211,24 @@ void unregister() {
     isRegistered = false;
   }
 
+  /**
+   * Gets the local reader having the provided name.
+   *
+   * <p>The reader is resolved in constant time through the reader index of the service.
+   *
+   * @param readerName The name of the reader.
+   * @return A not null reference.
+   * @throws IllegalStateException If no registered local reader has this name.
+   */
+  private AbstractReaderAdapter getLocalReader(String readerName) {
+    AbstractReaderAdapter reader =
+        (AbstractReaderAdapter) SmartCardServiceProvider.getService().getReader(readerName);
+    if (reader == null) {
+      throw new IllegalStateException(String.format(READER_NOT_FOUND_TEMPLATE, readerName));
+    }
+    return reader;
+  }
+
   /**
    * Check if the distributed local service is registered.
    *
@@ -245,12 +258,7 @@ private final class LocalReaderExecutor {
      */
     private LocalReaderExecutor(String jsonData, String readerName) {
 
-      reader =
-          (AbstractReaderAdapter)
-              SmartCardServiceProvider.getService().findReader(Pattern.quote(readerName));
-      if (reader == null) {
-        throw new IllegalStateException(String.format(READER_NOT_FOUND_TEMPLATE, readerName));
-      }
+      reader = getLocalReader(readerName);
       input = JsonUtil.getParser().fromJson(jsonData, JsonObject.class);
       output = new JsonObject();
       if (input.has(JsonProperty.CORE_API_LEVEL.getKey())) {
@@ -418,8 +426,9 @@ private void scheduleCardSelectionScenario() {
 
       // Execute the service on the reader
       if (reader instanceof ObservableLocalReaderAdapter) {
+        // compile the scenario in order to restore its selection ordering
         ((ObservableLocalReaderAdapter) reader)
-            .scheduleCardSelectionScenario(cardSelectionScenario, notificationMode);
+            .scheduleCardSelectionScenario(cardSelectionScenario.compile(), notificationMode);
       } else if (reader instanceof ObservableRemoteReaderAdapter) {
         ((ObservableRemoteReaderAdapter) reader)
             .scheduleCardSelectionScenario(cardSelectionScenario, notificationMode);
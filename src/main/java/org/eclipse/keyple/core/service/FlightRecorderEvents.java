@@ -0,0 +1,182 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Emitter of the Java Flight Recorder (JFR) events of the service.
+ *
+ * <p>This Java 8 version does nothing. The library is packaged as a multi-release JAR whose Java 11
+ * version of this class emits the JFR events (see {@code src/main/java11}).
+ *
+ * <p>Each {@code beginXxx} method returns an event token to be provided to the corresponding {@code
+ * commitXxx} method once the operation is complete. The token is null when the event is disabled.
+ *
+ * @since 3.4.0
+ */
+final class FlightRecorderEvents {
+
+  /** Constructor. */
+  private FlightRecorderEvents() {}
+
+  /**
+   * Begins an APDU exchange event.
+   *
+   * @return Null if the event is disabled.
+   * @since 3.4.0
+   */
+  static Object beginApduExchange() {
+    return null;
+  }
+
+  /**
+   * Commits an APDU exchange event.
+   *
+   * @param event The token returned by {@link #beginApduExchange()}.
+   * @param readerName The name of the reader.
+   * @param apduCount The number of APDUs exchanged (more than 1 for a batch transmission).
+   * @param commandLength The total length of the APDU commands.
+   * @param responseLength The total length of the APDU responses.
+   * @param isSuccessful False if the exchange has failed.
+   * @since 3.4.0
+   */
+  static void commitApduExchange(
+      Object event,
+      String readerName,
+      int apduCount,
+      int commandLength,
+      int responseLength,
+      boolean isSuccessful) {
+    // JFR events are only available in the Java 11 version
+  }
+
+  /**
+   * Begins a card selection scenario event.
+   *
+   * @return Null if the event is disabled.
+   * @since 3.4.0
+   */
+  static Object beginCardSelectionScenario() {
+    return null;
+  }
+
+  /**
+   * Commits a card selection scenario event.
+   *
+   * @param event The token returned by {@link #beginCardSelectionScenario()}.
+   * @param readerName The name of the reader.
+   * @param selectionCount The number of selection cases of the scenario.
+   * @param isSuccessful False if the scenario has failed.
+   * @since 3.4.0
+   */
+  static void commitCardSelectionScenario(
+      Object event, String readerName, int selectionCount, boolean isSuccessful) {
+    // JFR events are only available in the Java 11 version
+  }
+
+  /**
+   * Begins a physical channel opening event.
+   *
+   * @return Null if the event is disabled.
+   * @since 3.4.0
+   */
+  static Object beginPhysicalChannelOpening() {
+    return null;
+  }
+
+  /**
+   * Commits a physical channel opening event.
+   *
+   * @param event The token returned by {@link #beginPhysicalChannelOpening()}.
+   * @param readerName The name of the reader.
+   * @param isSuccessful False if the opening has failed.
+   * @since 3.4.0
+   */
+  static void commitPhysicalChannelOpening(Object event, String readerName, boolean isSuccessful) {
+    // JFR events are only available in the Java 11 version
+  }
+
+  /**
+   * Begins a physical channel closing event.
+   *
+   * @return Null if the event is disabled.
+   * @since 3.4.0
+   */
+  static Object beginPhysicalChannelClosing() {
+    return null;
+  }
+
+  /**
+   * Commits a physical channel closing event.
+   *
+   * @param event The token returned by {@link #beginPhysicalChannelClosing()}.
+   * @param readerName The name of the reader.
+   * @param isSuccessful False if the closing has failed.
+   * @since 3.4.0
+   */
+  static void commitPhysicalChannelClosing(Object event, String readerName, boolean isSuccessful) {
+    // JFR events are only available in the Java 11 version
+  }
+
+  /**
+   * Begins a monitoring state switch event.
+   *
+   * @return Null if the event is disabled.
+   * @since 3.4.0
+   */
+  static Object beginStateSwitch() {
+    return null;
+  }
+
+  /**
+   * Commits a monitoring state switch event.
+   *
+   * @param event The token returned by {@link #beginStateSwitch()}.
+   * @param readerName The name of the reader.
+   * @param fromState The previous state, null if none.
+   * @param toState The new state.
+   * @param isSuccessful False if the switch has failed.
+   * @since 3.4.0
+   */
+  static void commitStateSwitch(
+      Object event, String readerName, String fromState, String toState, boolean isSuccessful) {
+    // JFR events are only available in the Java 11 version
+  }
+
+  /**
+   * Begins a reader connection or disconnection event.
+   *
+   * @return Null if the event is disabled.
+   * @since 3.4.0
+   */
+  static Object beginReaderConnection() {
+    return null;
+  }
+
+  /**
+   * Commits a reader connection or disconnection event.
+   *
+   * @param event The token returned by {@link #beginReaderConnection()}.
+   * @param pluginName The name of the plugin.
+   * @param readerName The name of the reader.
+   * @param isConnection True for a connection, false for a disconnection.
+   * @param isSuccessful False if the connection or disconnection has failed.
+   * @since 3.4.0
+   */
+  static void commitReaderConnection(
+      Object event,
+      String pluginName,
+      String readerName,
+      boolean isConnection,
+      boolean isSuccessful) {
+    // JFR events are only available in the Java 11 version
+  }
+}
@@ -0,0 +1,63 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Distribution of the durations of an operation, in microseconds.
+ *
+ * <p>The durations are recorded in logarithmic buckets having a relative precision of about 3%.
+ * The values returned are the upper bounds of the buckets, except for the maximum value which is
+ * exact.
+ *
+ * <p>The histogram is continuously updated, the values returned reflect the durations recorded at
+ * the time of the call.
+ *
+ * @since 3.4.0
+ */
+public interface LatencyHistogram {
+
+  /**
+   * Returns the number of recorded durations.
+   *
+   * @return A positive value or 0.
+   * @since 3.4.0
+   */
+  long getCount();
+
+  /**
+   * Returns the mean of the recorded durations.
+   *
+   * @return 0 if no duration has been recorded.
+   * @since 3.4.0
+   */
+  double getMeanMicros();
+
+  /**
+   * Returns the maximum recorded duration.
+   *
+   * @return 0 if no duration has been recorded.
+   * @since 3.4.0
+   */
+  long getMaxMicros();
+
+  /**
+   * Returns the duration below which the provided percentage of the recorded durations fall.
+   *
+   * <p>For example, {@code getPercentileMicros(99.9)} returns the p999 latency.
+   *
+   * @param percentile The percentile, in the range [0..100].
+   * @return 0 if no duration has been recorded.
+   * @throws IllegalArgumentException If the percentile is out of range.
+   * @since 3.4.0
+   */
+  long getPercentileMicros(double percentile);
+}
@@ -0,0 +1,205 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import org.eclipse.keyple.core.util.Assert;
+
+/**
+ * Lock-free implementation of {@link LatencyHistogram}.
+ *
+ * <p>The buckets follow a log-linear layout (as in HdrHistogram): the values below 32 µs have
+ * their own bucket, then each power of two range is split into 32 linear sub-buckets. The values
+ * are clamped to 2^32 µs (more than one hour).
+ *
+ * <p>The 896 buckets (about 7 KB) are allocated on the first record only, so
+ * that the histograms never fed cost a few bytes.
+ *
+ * @since 3.4.0
+ */
+final class LatencyHistogramAdapter implements LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_VALUE_BITS = 32;
+  private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+  private static final int BUCKET_COUNT =
+      SUB_BUCKET_COUNT + (MAX_VALUE_BITS - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  private static final AtomicReferenceFieldUpdater<LatencyHistogramAdapter, AtomicLongArray>
+      BUCKETS_UPDATER =
+          AtomicReferenceFieldUpdater.newUpdater(
+              LatencyHistogramAdapter.class, AtomicLongArray.class, "buckets");
+
+  private volatile AtomicLongArray buckets;
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong sum = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Records the duration of an operation started at the provided time.
+   *
+   * @param startNanos The start time of the operation, as provided by {@link System#nanoTime()}.
+   * @since 3.4.0
+   */
+  void recordSince(long startNanos) {
+    record((System.nanoTime() - startNanos) / 1000);
+  }
+
+  /**
+   * Records a duration.
+   *
+   * @param durationMicros The duration in microseconds.
+   * @since 3.4.0
+   */
+  void record(long durationMicros) {
+    long value = durationMicros < 0 ? 0 : Math.min(durationMicros, MAX_VALUE);
+    getOrCreateBuckets().incrementAndGet(getBucketIndex(value));
+    count.incrementAndGet();
+    sum.addAndGet(value);
+    long currentMax = max.get();
+    while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+      currentMax = max.get();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public long getCount() {
+    return count.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public double getMeanMicros() {
+    long n = count.get();
+    return n == 0 ? 0 : (double) sum.get() / n;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public long getMaxMicros() {
+    return max.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public long getPercentileMicros(double percentile) {
+    Assert.getInstance().isTrue(percentile >= 0 && percentile <= 100, "percentile");
+    AtomicLongArray buckets = this.buckets;
+    if (buckets == null) {
+      return 0;
+    }
+    long total = 0;
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long cumulated = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      cumulated += counts[i];
+      if (cumulated >= rank) {
+        return Math.min(getBucketUpperBound(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public String toString() {
+    return "LatencyHistogram{count="
+        + getCount()
+        + ", meanMicros="
+        + getMeanMicros()
+        + ", p50Micros="
+        + getPercentileMicros(50)
+        + ", p99Micros="
+        + getPercentileMicros(99)
+        + ", p999Micros="
+        + getPercentileMicros(99.9)
+        + ", maxMicros="
+        + getMaxMicros()
+        + '}';
+  }
+
+  /**
+   * Gets the buckets, allocating them if not yet done.
+   *
+   * @return A not null reference.
+   */
+  private AtomicLongArray getOrCreateBuckets() {
+    AtomicLongArray currentBuckets = buckets;
+    if (currentBuckets == null) {
+      BUCKETS_UPDATER.compareAndSet(this, null, new AtomicLongArray(BUCKET_COUNT));
+      currentBuckets = buckets;
+    }
+    return currentBuckets;
+  }
+
+  /**
+   * Computes the index of the bucket of the provided value.
+   *
+   * @param value A value in the range [0..MAX_VALUE].
+   * @return The bucket index.
+   */
+  private static int getBucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /**
+   * Computes the highest value of the provided bucket.
+   *
+   * @param index The bucket index.
+   * @return The upper bound.
+   */
+  private static long getBucketUpperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+    long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+    return ((subBucket + 1) << shift) - 1;
+  }
+}
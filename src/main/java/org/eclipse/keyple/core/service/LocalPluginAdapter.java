@@ -11,6 +11,8 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import org.eclipse.keyple.core.common.KeyplePluginExtension;
 import org.eclipse.keyple.core.plugin.PluginIOException;
@@ -55,11 +57,18 @@ final void register() throws PluginIOException {
 
     Set<ReaderSpi> readerSpiList = pluginSpi.searchAvailableReaders();
 
-    for (ReaderSpi readerSpi : readerSpiList) {
-      LocalReaderAdapter localReaderAdapter = buildLocalReaderAdapter(readerSpi);
-      getReadersMap().put(readerSpi.getName(), localReaderAdapter);
-      localReaderAdapter.register();
+    Map<String, ReaderBuilder> readerBuilders = new HashMap<>(readerSpiList.size() * 2);
+    for (final ReaderSpi readerSpi : readerSpiList) {
+      readerBuilders.put(
+          readerSpi.getName(),
+          new ReaderBuilder() {
+            @Override
+            public AbstractReaderAdapter build() {
+              return buildLocalReaderAdapter(readerSpi);
+            }
+          });
     }
+    registerReaders(readerBuilders);
   }
 
   /**
@@ -111,7 +111,7 @@ public CardReader allocateReader(String readerGroupReference) {
     }
 
     LocalReaderAdapter localReaderAdapter = buildLocalReaderAdapter(readerSpi);
-    getReadersMap().put(localReaderAdapter.getName(), localReaderAdapter);
+    putReader(localReaderAdapter.getName(), localReaderAdapter);
     localReaderAdapter.register();
     return localReaderAdapter;
   }
@@ -156,7 +156,7 @@ public void releaseReader(CardReader reader) {
               getName(), reader.getName(), e.getMessage()),
           e);
     } finally {
-      getReadersMap().remove(reader.getName());
+      removeReaderByKey(reader.getName());
       ((LocalReaderAdapter) reader).unregister();
     }
   }
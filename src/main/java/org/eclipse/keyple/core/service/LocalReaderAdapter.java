@@ -18,6 +18,7 @@
 import org.eclipse.keyple.core.plugin.spi.reader.AutonomousSelectionReaderSpi;
 import org.eclipse.keyple.core.plugin.spi.reader.ConfigurableReaderSpi;
 import org.eclipse.keyple.core.plugin.spi.reader.ReaderSpi;
+import org.eclipse.keyple.core.service.spi.BatchTransmissionReaderSpi;
 import org.eclipse.keyple.core.util.ApduUtil;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.core.util.HexUtil;
@@ -29,7 +30,6 @@
 import org.eclipse.keypop.reader.ReaderCommunicationException;
 import org.eclipse.keypop.reader.ReaderProtocolNotSupportedException;
 import org.eclipse.keypop.reader.selection.CardSelector;
-import org.eclipse.keypop.reader.selection.CommonIsoCardSelector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,13 +56,18 @@ class LocalReaderAdapter extends AbstractReaderAdapter {
   private static final int SW1_MASK = 0xFF00;
   private static final int SW2_MASK = 0x00FF;
 
+  private static final String INTERNAL_GET_RESPONSE = "Internal Get Response";
+  private static final String INTERNAL_SELECT_APPLICATION = "Internal Select Application";
+
   private final ReaderSpi readerSpi;
+  private final ApduFlightRecorder apduFlightRecorder = ApduFlightRecorder.create();
   private long before;
   private boolean isLogicalChannelOpen;
   private boolean useDefaultProtocol;
   private String currentLogicalProtocolName;
   private String currentPhysicalProtocolName;
   private final Map<String, String> protocolAssociations;
+  private ReaderEventTimestampsAdapter pendingEventTimestamps;
 
   /**
    * Constructor.
@@ -87,6 +92,27 @@ final ReaderSpi getReaderSpi() {
     return readerSpi;
   }
 
+  /**
+   * Gets the recorder of the last APDU exchanges of the reader.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  final ApduFlightRecorder getApduFlightRecorder() {
+    return apduFlightRecorder;
+  }
+
+  /**
+   * Sets the timestamps of the reader event being prepared, completed while processing the card
+   * selection requests.
+   *
+   * @param pendingEventTimestamps The timestamps, null when no event is being prepared.
+   * @since 3.4.0
+   */
+  final void setPendingEventTimestamps(ReaderEventTimestampsAdapter pendingEventTimestamps) {
+    this.pendingEventTimestamps = pendingEventTimestamps;
+  }
+
   /**
    * Gets the logical channel's opening state.
    *
@@ -111,13 +137,32 @@ final void closeLogicalAndPhysicalChannelsSilently() {
     currentLogicalProtocolName = null;
     useDefaultProtocol = false;
     try {
-      readerSpi.closePhysicalChannel();
+      closePhysicalChannel();
     } catch (ReaderIOException e) {
       logger.error(
           "Error closing physical channel on reader [{}]: {}", this.getName(), e.getMessage(), e);
     }
   }
 
+  /**
+   * Closes the physical channel, recording the duration of the operation.
+   *
+   * @throws ReaderIOException If the communication with the reader has failed.
+   * @since 3.4.0
+   */
+  final void closePhysicalChannel() throws ReaderIOException {
+    long startNanos = System.nanoTime();
+    Object flightRecorderEvent = FlightRecorderEvents.beginPhysicalChannelClosing();
+    boolean isClosed = false;
+    try {
+      readerSpi.closePhysicalChannel();
+      isClosed = true;
+      getMetrics().recordPhysicalChannelClosing(startNanos);
+    } finally {
+      FlightRecorderEvents.commitPhysicalChannelClosing(flightRecorderEvent, getName(), isClosed);
+    }
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -159,27 +204,52 @@ final List<CardSelectionResponseApi> processCardSelectionRequests(
 
     /* Open the physical channel, determine the current protocol */
     if (!readerSpi.isPhysicalChannelOpen()) {
+      long startNanos = System.nanoTime();
+      Object flightRecorderEvent = FlightRecorderEvents.beginPhysicalChannelOpening();
+      boolean isOpened = false;
       try {
         readerSpi.openPhysicalChannel();
+        isOpened = true;
+        getMetrics().recordPhysicalChannelOpening(startNanos);
+        if (pendingEventTimestamps != null) {
+          pendingEventTimestamps.setPhysicalChannelOpeningNanos(System.nanoTime());
+        }
         computeCurrentProtocol();
       } catch (ReaderIOException e) {
-        throw new ReaderBrokenCommunicationException(
-            null, false, "Reader communication failure while opening physical channel", e);
+        throw apduFlightRecorder.attachTo(
+            new ReaderBrokenCommunicationException(
+                null, false, "Reader communication failure while opening physical channel", e));
       } catch (CardIOException e) {
-        throw new CardBrokenCommunicationException(
-            null, false, "Card communication failure while opening physical channel", e);
+        throw apduFlightRecorder.attachTo(
+            new CardBrokenCommunicationException(
+                null, false, "Card communication failure while opening physical channel", e));
+      } finally {
+        FlightRecorderEvents.commitPhysicalChannelOpening(flightRecorderEvent, getName(), isOpened);
       }
     }
 
     List<CardSelectionResponseApi> cardSelectionResponses = new ArrayList<>();
 
-    Iterator<CardSelector<?>> cardSelectorIterator = cardSelectors.iterator();
+    /* use the compiled card selectors if available (compiled card selection scenario) */
+    CompiledCardSelectorList compiledCardSelectors =
+        cardSelectors instanceof CompiledCardSelectorList
+            ? (CompiledCardSelectorList) cardSelectors
+            : null;
+    int index = 0;
 
     /* loop over all CardRequest provided in the list */
     for (CardSelectionRequestSpi cardSelectionRequest : cardSelectionRequests) {
+      CompiledCardSelector cardSelector =
+          compiledCardSelectors != null
+              ? compiledCardSelectors.getCompiled(index)
+              : CompiledCardSelector.compile(cardSelectors.get(index));
+      index++;
       /* process the CardRequest and append the CardResponse list */
       CardSelectionResponseApi cardSelectionResponse =
-          processCardSelectionRequest(cardSelectorIterator.next(), cardSelectionRequest);
+          processCardSelectionRequest(cardSelector, cardSelectionRequest);
+      if (pendingEventTimestamps != null) {
+        pendingEventTimestamps.addSelectionAttemptNanos(System.nanoTime());
+      }
       cardSelectionResponses.add(cardSelectionResponse);
       if (multiSelectionProcessing == MultiSelectionProcessing.PROCESS_ALL) {
         /* multi CardRequest case: just close the logical channel and go on with the next selection. */
@@ -300,11 +370,15 @@ final void deactivateReaderProtocol(String readerProtocol) {
   @Override
   public final void releaseChannel() throws ReaderBrokenCommunicationException {
     checkStatus();
+    beginExclusiveUse();
     try {
-      readerSpi.closePhysicalChannel();
+      closePhysicalChannel();
     } catch (ReaderIOException e) {
-      throw new ReaderBrokenCommunicationException(
-          null, false, "Failed to release the physical channel", e);
+      throw apduFlightRecorder.attachTo(
+          new ReaderBrokenCommunicationException(
+              null, false, "Failed to release the physical channel", e));
+    } finally {
+      endExclusiveUse();
     }
   }
 
@@ -323,50 +397,199 @@ private CardResponseAdapter processCardRequest(CardRequestSpi cardRequest)
           CardBrokenCommunicationException,
           UnexpectedStatusWordException {
 
-    List<ApduResponseAdapter> apduResponses = new ArrayList<>();
+    List<ApduRequestSpi> apduRequests = cardRequest.getApduRequests();
+    List<ApduResponseAdapter> apduResponses = new ArrayList<>(apduRequests.size());
 
     /* Proceeds with the APDU requests present in the CardRequest */
-    for (ApduRequestSpi apduRequest : cardRequest.getApduRequests()) {
-      try {
-        ApduResponseAdapter apduResponse = processApduRequest(apduRequest);
-        apduResponses.add(apduResponse);
-        if (cardRequest.stopOnUnsuccessfulStatusWord()
-            && !apduRequest.getSuccessfulStatusWords().contains(apduResponse.getStatusWord())) {
-          throw new UnexpectedStatusWordException(
-              new CardResponseAdapter(apduResponses, false),
-              cardRequest.getApduRequests().size() == apduResponses.size(),
-              "Unexpected status word");
+    try {
+      if (isBatchTransmissionApplicable(cardRequest)) {
+        processApduRequestsInBatch(apduRequests, apduResponses);
+      } else {
+        for (ApduRequestSpi apduRequest : apduRequests) {
+          ApduResponseAdapter apduResponse = processApduRequest(apduRequest);
+          apduResponses.add(apduResponse);
+          if (cardRequest.stopOnUnsuccessfulStatusWord()
+              && !apduRequest.getSuccessfulStatusWords().contains(apduResponse.getStatusWord())) {
+            throw new UnexpectedStatusWordException(
+                new CardResponseAdapter(apduResponses, false),
+                apduRequests.size() == apduResponses.size(),
+                "Unexpected status word");
+          }
         }
-      } catch (ReaderIOException e) {
-        /*
-         * The process has been interrupted. We close the logical channel and launch a
-         * KeypleReaderException with the Apdu responses collected so far.
-         */
-        closeLogicalAndPhysicalChannelsSilently();
-
-        throw new ReaderBrokenCommunicationException(
-            new CardResponseAdapter(apduResponses, false),
-            false,
-            "Reader communication failure while transmitting a card request",
-            e);
-      } catch (CardIOException e) {
-        /*
-         * The process has been interrupted. We close the logical channel and launch a
-         * KeypleReaderException with the Apdu responses collected so far.
-         */
-        closeLogicalAndPhysicalChannelsSilently();
-
-        throw new CardBrokenCommunicationException(
-            new CardResponseAdapter(apduResponses, false),
-            false,
-            "Card communication failure while transmitting a card request",
-            e);
       }
+    } catch (ReaderIOException e) {
+      /*
+       * The process has been interrupted. We close the logical channel and launch a
+       * KeypleReaderException with the Apdu responses collected so far.
+       */
+      closeLogicalAndPhysicalChannelsSilently();
+
+      throw apduFlightRecorder.attachTo(
+          new ReaderBrokenCommunicationException(
+              new CardResponseAdapter(apduResponses, false),
+              false,
+              "Reader communication failure while transmitting a card request",
+              e));
+    } catch (CardIOException e) {
+      /*
+       * The process has been interrupted. We close the logical channel and launch a
+       * KeypleReaderException with the Apdu responses collected so far.
+       */
+      closeLogicalAndPhysicalChannelsSilently();
+
+      throw apduFlightRecorder.attachTo(
+          new CardBrokenCommunicationException(
+              new CardResponseAdapter(apduResponses, false),
+              false,
+              "Card communication failure while transmitting a card request",
+              e));
     }
 
     return new CardResponseAdapter(apduResponses, isLogicalChannelOpen);
   }
 
+  /**
+   * Indicates whether the APDUs of the provided card request can be transmitted in a single batch.
+   *
+   * <p>This is the case when the reader has the {@link BatchTransmissionReaderSpi} capability and
+   * when no APDU depends on the response of a previous one: the card request must not stop on an
+   * unsuccessful status word and all the APDUs but the last one must be case 1 or case 3 APDUs
+   * (without Le field). Indeed, a 61XX or 6CXX status word on an APDU expecting data would require
+   * a GET RESPONSE or a replay right after its execution, before the following APDUs. The last APDU
+   * may expect data (case 2), except a case 4 APDU which may require a GET RESPONSE.
+   *
+   * @param cardRequest The card request.
+   * @return True if the batch transmission can be used.
+   */
+  private boolean isBatchTransmissionApplicable(CardRequestSpi cardRequest) {
+    List<ApduRequestSpi> apduRequests = cardRequest.getApduRequests();
+    if (!(readerSpi instanceof BatchTransmissionReaderSpi)
+        || cardRequest.stopOnUnsuccessfulStatusWord()
+        || apduRequests.size() < 2) {
+      return false;
+    }
+    int lastIndex = apduRequests.size() - 1;
+    for (int i = 0; i < lastIndex; i++) {
+      if (!isWithoutLe(apduRequests.get(i).getApdu())) {
+        return false;
+      }
+    }
+    return !ApduUtil.isCase4(apduRequests.get(lastIndex).getApdu());
+  }
+
+  /**
+   * Indicates whether the provided APDU is a case 1 or case 3 APDU, i.e. has no Le field.
+   *
+   * <p>A 5 bytes APDU is considered as a case 2 APDU.
+   *
+   * @param apdu The APDU.
+   * @return True if the APDU has no Le field.
+   */
+  private static boolean isWithoutLe(byte[] apdu) {
+    return apdu.length == 4 || (apdu.length > 5 && (apdu[4] & 0xFF) == apdu.length - 5);
+  }
+
+  /**
+   * Transmits the provided APDU requests in a single batch using the {@link
+   * BatchTransmissionReaderSpi} capability and adds the responses to the provided list.
+   *
+   * <p>Only the response of the last command is completed with the processing of the 61XX and 6CXX
+   * status words, the other commands having no Le field (see {@link
+   * #isBatchTransmissionApplicable(CardRequestSpi)}). Such a status word received for one of the
+   * other commands is returned as is: a GET RESPONSE or a replay would be executed by the card
+   * after the following commands.
+   *
+   * @param apduRequests The APDU requests to transmit.
+   * @param apduResponses The list to fill with the APDU responses.
+   * @throws ReaderIOException if the communication with the reader has failed or if the reader did
+   *     not return one response per command.
+   * @throws CardIOException if the communication with the card has failed.
+   */
+  private void processApduRequestsInBatch(
+      List<ApduRequestSpi> apduRequests, List<ApduResponseAdapter> apduResponses)
+      throws CardIOException, ReaderIOException {
+
+    int apduCount = apduRequests.size();
+    List<byte[]> apduCommands = new ArrayList<>(apduCount);
+    int commandsLength = 0;
+    for (ApduRequestSpi apduRequest : apduRequests) {
+      byte[] apduCommand = apduRequest.getApdu();
+      apduCommands.add(apduCommand);
+      commandsLength += apduCommand.length;
+    }
+    if (logger.isDebugEnabled()) {
+      long timeStamp = System.nanoTime();
+      long elapsed10ms = (timeStamp - before) / 100000;
+      this.before = timeStamp;
+      logger.debug(
+          "Reader [{}] --> apduRequests (batch): {}, elapsed {} ms",
+          this.getName(),
+          apduRequests,
+          elapsed10ms / 10.0);
+    }
+
+    long startNanos = System.nanoTime();
+    Object flightRecorderEvent = FlightRecorderEvents.beginApduExchange();
+    List<byte[]> apduResponsesData = null;
+    int responsesLength = 0;
+    boolean isValid = false;
+    try {
+      apduResponsesData = ((BatchTransmissionReaderSpi) readerSpi).transmitApdus(apduCommands);
+      isValid = apduResponsesData != null && apduResponsesData.size() == apduCount;
+      if (isValid) {
+        for (byte[] apduResponseData : apduResponsesData) {
+          if (apduResponseData == null || apduResponseData.length < 2) {
+            isValid = false;
+            break;
+          }
+        }
+      }
+    } finally {
+      long endNanos = System.nanoTime();
+      for (int i = 0; i < apduCount; i++) {
+        byte[] apduResponseData =
+            apduResponsesData != null && i < apduResponsesData.size()
+                ? apduResponsesData.get(i)
+                : null;
+        apduFlightRecorder.record(startNanos, endNanos, apduCommands.get(i), apduResponseData);
+        if (apduResponseData != null) {
+          responsesLength += apduResponseData.length;
+        }
+      }
+      FlightRecorderEvents.commitApduExchange(
+          flightRecorderEvent, getName(), apduCount, commandsLength, responsesLength, isValid);
+    }
+    if (!isValid) {
+      throw new ReaderIOException(
+          "Invalid APDU responses returned by the reader for a batch of "
+              + apduCount
+              + " APDU commands");
+    }
+    List<ApduResponseAdapter> batchResponses = new ArrayList<>(apduCount);
+    for (byte[] apduResponseData : apduResponsesData) {
+      batchResponses.add(new ApduResponseAdapter(apduResponseData));
+    }
+    getMetrics().recordApduBatchExchange(startNanos, apduCount, commandsLength, responsesLength);
+
+    if (logger.isDebugEnabled()) {
+      long timeStamp = System.nanoTime();
+      long elapsed10ms = (timeStamp - before) / 100000;
+      this.before = timeStamp;
+      logger.debug(
+          "Reader [{}] <-- apduResponses (batch): {}, elapsed {} ms",
+          this.getName(),
+          batchResponses,
+          elapsed10ms / 10.0);
+    }
+
+    int lastIndex = apduCount - 1;
+    for (int i = 0; i < lastIndex; i++) {
+      apduResponses.add(batchResponses.get(i));
+    }
+    apduResponses.add(
+        processApduResponse(apduRequests.get(lastIndex), batchResponses.get(lastIndex)));
+  }
+
   /**
    * Transmits an {@link ApduRequestSpi} and receives the {@link ApduResponseApi}.
    *
@@ -393,7 +616,24 @@ private ApduResponseAdapter processApduRequest(ApduRequestSpi apduRequest)
           elapsed10ms / 10.0);
     }
 
-    apduResponse = new ApduResponseAdapter(readerSpi.transmitApdu(apduRequest.getApdu()));
+    byte[] apduCommand = apduRequest.getApdu();
+    long startNanos = System.nanoTime();
+    Object flightRecorderEvent = FlightRecorderEvents.beginApduExchange();
+    byte[] apduResponseData = null;
+    try {
+      apduResponseData = readerSpi.transmitApdu(apduCommand);
+    } finally {
+      apduFlightRecorder.record(startNanos, System.nanoTime(), apduCommand, apduResponseData);
+      FlightRecorderEvents.commitApduExchange(
+          flightRecorderEvent,
+          getName(),
+          1,
+          apduCommand.length,
+          apduResponseData != null ? apduResponseData.length : 0,
+          apduResponseData != null);
+    }
+    apduResponse = new ApduResponseAdapter(apduResponseData);
+    getMetrics().recordApduExchange(startNanos, apduCommand.length, apduResponseData.length);
 
     if (logger.isDebugEnabled()) {
       long timeStamp = System.nanoTime();
@@ -406,21 +646,31 @@ private ApduResponseAdapter processApduRequest(ApduRequestSpi apduRequest)
           elapsed10ms / 10.0);
     }
 
-    if (apduResponse.getDataOut().length == 0) {
+    return processApduResponse(apduRequest, apduResponse);
+  }
+
+  /**
+   * Completes the processing of an APDU response by handling the 61XX and 6CXX status words and
+   * the case 4 commands, as required by the ISO 7816-4 standard.
+   *
+   * @param apduRequest The APDU request.
+   * @param apduResponse The APDU response received from the card.
+   * @return A not null reference.
+   * @throws ReaderIOException if the communication with the reader has failed.
+   * @throws CardIOException if the communication with the card has failed.
+   */
+  private ApduResponseAdapter processApduResponse(
+      ApduRequestSpi apduRequest, ApduResponseAdapter apduResponse)
+      throws CardIOException, ReaderIOException {
+
+    if (apduResponse.getDataOutLength() == 0) {
 
       if ((apduResponse.getStatusWord() & SW1_MASK) == SW_6100) {
         // RL-SW-61XX.1
-        // Build a GetResponse APDU command with the provided "le"
-        byte[] getResponseApdu = {
-          (byte) 0x00,
-          (byte) 0xC0,
-          (byte) 0x00,
-          (byte) 0x00,
-          (byte) (apduResponse.getStatusWord() & SW2_MASK)
-        };
-        // Execute APDU
+        // Build a GetResponse APDU command with the provided "le" and execute it
         apduResponse =
-            processApduRequest(new ApduRequest(getResponseApdu).setInfo("Internal Get Response"));
+            processApduRequest(
+                ApduRequest.buildGetResponse((byte) (apduResponse.getStatusWord() & SW2_MASK)));
 
       } else if ((apduResponse.getStatusWord() & SW1_MASK) == SW_6C00) {
         // RL-SW-6CXX.1
@@ -434,17 +684,11 @@ private ApduResponseAdapter processApduRequest(ApduRequestSpi apduRequest)
           && apduRequest.getSuccessfulStatusWords().contains(apduResponse.getStatusWord())) {
         // RL-SW-ANALYSIS.1
         // RL-SW-CASE4.1 (SW=6200 not taken into account here)
-        // Build a GetResponse APDU command with the original "le"
-        byte[] getResponseApdu = {
-          (byte) 0x00,
-          (byte) 0xC0,
-          (byte) 0x00,
-          (byte) 0x00,
-          apduRequest.getApdu()[apduRequest.getApdu().length - 1]
-        };
-        // Execute GetResponse APDU
+        // Build a GetResponse APDU command with the original "le" and execute it
         apduResponse =
-            processApduRequest(new ApduRequest(getResponseApdu).setInfo("Internal Get Response"));
+            processApduRequest(
+                ApduRequest.buildGetResponse(
+                    apduRequest.getApdu()[apduRequest.getApdu().length - 1]));
       }
     }
 
@@ -462,7 +706,7 @@ private ApduResponseAdapter processApduRequest(ApduRequestSpi apduRequest)
    *     request and the card returned an unexpected code.
    */
   private CardSelectionResponseApi processCardSelectionRequest(
-      CardSelector<?> cardSelector, CardSelectionRequestSpi cardSelectionRequest)
+      CompiledCardSelector cardSelector, CardSelectionRequestSpi cardSelectionRequest)
       throws ReaderBrokenCommunicationException,
           CardBrokenCommunicationException,
           UnexpectedStatusWordException {
@@ -472,11 +716,13 @@ private CardSelectionResponseApi processCardSelectionRequest(
     try {
       selectionStatus = processSelection(cardSelector, cardSelectionRequest);
     } catch (ReaderIOException e) {
-      throw new ReaderBrokenCommunicationException(
-          new CardResponseAdapter(new ArrayList<>(), false), false, e.getMessage(), e);
+      throw apduFlightRecorder.attachTo(
+          new ReaderBrokenCommunicationException(
+              CardResponseAdapter.EMPTY_CARD_RESPONSE, false, e.getMessage(), e));
     } catch (CardIOException e) {
-      throw new CardBrokenCommunicationException(
-          new CardResponseAdapter(new ArrayList<>(), false), false, e.getMessage(), e);
+      throw apduFlightRecorder.attachTo(
+          new CardBrokenCommunicationException(
+              CardResponseAdapter.EMPTY_CARD_RESPONSE, false, e.getMessage(), e));
     }
     if (!selectionStatus.hasMatched) {
       // the selection failed, return an empty response having the selection status
@@ -484,7 +730,7 @@ private CardSelectionResponseApi processCardSelectionRequest(
           selectionStatus.powerOnData,
           selectionStatus.selectApplicationResponse,
           false,
-          new CardResponseAdapter(new ArrayList<>(), false));
+          CardResponseAdapter.EMPTY_CARD_RESPONSE);
     }
 
     isLogicalChannelOpen = true;
@@ -502,7 +748,7 @@ private CardSelectionResponseApi processCardSelectionRequest(
   }
 
   /**
-   * Select the card according to the {@link CardSelector}.
+   * Select the card according to the {@link CompiledCardSelector}.
    *
    * <p>The selection status is returned.<br>
    * 3 levels of filtering/selection are applied successively if they are enabled: protocol, power
@@ -512,14 +758,14 @@ private CardSelectionResponseApi processCardSelectionRequest(
    * <p>Conversely, the selection is considered successful if none of the filters have rejected the
    * card, even if none of the filters are active.
    *
-   * @param cardSelector A not null {@link CardSelector}.
+   * @param cardSelector A not null {@link CompiledCardSelector}.
    * @param cardSelectionRequest A not null {@link CardSelectionRequestSpi}.
    * @return A not null {@link SelectionStatus}.
    * @throws ReaderIOException if the communication with the reader has failed.
    * @throws CardIOException if the communication with the card has failed.
    */
   private SelectionStatus processSelection(
-      CardSelector<?> cardSelector, CardSelectionRequestSpi cardSelectionRequest)
+      CompiledCardSelector cardSelector, CardSelectionRequestSpi cardSelectionRequest)
       throws CardIOException, ReaderIOException {
 
     // RL-CLA-CHAAUTO.1
@@ -527,12 +773,10 @@ private SelectionStatus processSelection(
     ApduResponseAdapter fciResponse;
     boolean hasMatched = true;
 
-    String logicalProtocolName = ((InternalCardSelector) cardSelector).getLogicalProtocolName();
+    String logicalProtocolName = cardSelector.getLogicalProtocolName();
     if (logicalProtocolName != null && useDefaultProtocol) {
       throw new IllegalStateException(
-          "Protocol "
-              + ((InternalCardSelector) cardSelector).getLogicalProtocolName()
-              + " not associated to a reader protocol");
+          "Protocol " + logicalProtocolName + " not associated to a reader protocol");
     }
     // check protocol if enabled
     if (logicalProtocolName == null || logicalProtocolName.equals(currentLogicalProtocolName)) {
@@ -540,11 +784,10 @@ private SelectionStatus processSelection(
       // RL-ATR-FILTER
       // RL-SEL-USAGE.1
       powerOnData = readerSpi.getPowerOnData();
-      if (checkPowerOnData(powerOnData, (InternalCardSelector) cardSelector)) {
+      if (checkPowerOnData(powerOnData, cardSelector)) {
         // no power-on data filter or power-on data check succeeded, select by AID if enabled.
-        if (cardSelector instanceof InternalIsoCardSelector
-            && ((InternalIsoCardSelector) cardSelector).getAid() != null) {
-          fciResponse = selectByAid((InternalIsoCardSelector) cardSelector);
+        if (cardSelector.hasAid()) {
+          fciResponse = selectByAid(cardSelector);
           hasMatched =
               cardSelectionRequest
                   .getSuccessfulSelectionStatusWords()
@@ -572,22 +815,19 @@ private SelectionStatus processSelection(
    * <p>Returns true if the power-on data is accepted by the filter.
    *
    * @param powerOnData A String containing the power-on data.
-   * @param cardSelector The card selector.
+   * @param cardSelector The compiled card selector.
    * @return True or false.
-   * @throws IllegalStateException if no power-on data is available and the PowerOnDataFilter is
-   *     set.
-   * @see #processSelection(CardSelector, CardSelectionRequestSpi)
+   * @see #processSelection(CompiledCardSelector, CardSelectionRequestSpi)
    */
-  private boolean checkPowerOnData(String powerOnData, InternalCardSelector cardSelector) {
+  private boolean checkPowerOnData(String powerOnData, CompiledCardSelector cardSelector) {
 
-    String powerOnDataRegex = cardSelector.getPowerOnDataRegex();
     // check the power-on data
-    if (powerOnData != null && powerOnDataRegex != null && !powerOnData.matches(powerOnDataRegex)) {
+    if (!cardSelector.acceptsPowerOnData(powerOnData)) {
       if (logger.isTraceEnabled()) {
         logger.trace(
             "Power-on data didn't match (powerOnData: {}, powerOnDataRegex: {})",
             powerOnData,
-            powerOnDataRegex);
+            cardSelector.getPowerOnDataRegex());
       }
       // the power-on data have been rejected
       return false;
@@ -600,28 +840,23 @@ private boolean checkPowerOnData(String powerOnData, InternalCardSelector cardSe
   /**
    * Selects the card with the provided AID and gets the FCI response in return.
    *
-   * @param cardSelector The card selector.
+   * @param cardSelector The compiled card selector.
    * @return A not null {@link ApduResponseApi} containing the FCI.
-   * @see #processSelection(CardSelector, CardSelectionRequestSpi)
+   * @see #processSelection(CompiledCardSelector, CardSelectionRequestSpi)
    */
-  private ApduResponseAdapter selectByAid(InternalIsoCardSelector cardSelector)
+  private ApduResponseAdapter selectByAid(CompiledCardSelector cardSelector)
       throws CardIOException, ReaderIOException {
 
     ApduResponseAdapter fciResponse;
 
     // RL-SEL-P2LC.1
     // RL-SEL-DFNAME.1
-    Assert.getInstance()
-        .notNull(cardSelector.getAid(), "aid")
-        .isInRange(cardSelector.getAid().length, 0, 16, "aid");
+    Assert.getInstance().isInRange(cardSelector.getAidLength(), 0, 16, "aid");
 
     if (readerSpi instanceof AutonomousSelectionReaderSpi) {
-      byte[] aid = cardSelector.getAid();
-      byte p2 =
-          computeSelectApplicationP2(
-              cardSelector.getFileOccurrence(), cardSelector.getFileControlInformation());
       byte[] selectionDataBytes =
-          ((AutonomousSelectionReaderSpi) readerSpi).openChannelForAid(aid, p2);
+          ((AutonomousSelectionReaderSpi) readerSpi)
+              .openChannelForAid(cardSelector.getAid(), cardSelector.getSelectApplicationP2());
       fciResponse = new ApduResponseAdapter(selectionDataBytes);
     } else {
       fciResponse = processExplicitAidSelection(cardSelector);
@@ -633,95 +868,26 @@ private ApduResponseAdapter selectByAid(InternalIsoCardSelector cardSelector)
    * Sends the select application command to the card and returns the requested data according to
    * AidSelector attributes (ISO7816-4 selection data) into an {@link ApduResponseApi}.
    *
-   * @param cardSelector The card selector.
+   * @param cardSelector The compiled card selector.
    * @return A not null {@link ApduResponseApi}.
    * @throws ReaderIOException if the communication with the reader has failed.
    * @throws CardIOException if the communication with the card has failed.
    */
-  private ApduResponseAdapter processExplicitAidSelection(InternalIsoCardSelector cardSelector)
+  private ApduResponseAdapter processExplicitAidSelection(CompiledCardSelector cardSelector)
       throws CardIOException, ReaderIOException {
 
-    final byte[] aid = cardSelector.getAid();
     if (logger.isDebugEnabled()) {
       logger.debug(
-          "Reader [{}] selects application with AID [{}]", this.getName(), HexUtil.toHex(aid));
+          "Reader [{}] selects application with AID [{}]",
+          this.getName(),
+          HexUtil.toHex(cardSelector.getAid()));
     }
     /*
-     * build a get response command the actual length expected by the card in the get response
-     * command is handled in transmitApdu
+     * the select application command is prebuilt by the compiled card selector, the actual length
+     * expected by the card in the get response command is handled in transmitApdu
      */
-    // RL-SEL-CLA.1
-    // RL-SEL-P2LC.1
-    byte[] selectApplicationCommand = new byte[6 + aid.length];
-    selectApplicationCommand[0] = (byte) 0x00; // CLA
-    selectApplicationCommand[1] = (byte) 0xA4; // INS
-    selectApplicationCommand[2] = (byte) 0x04; // P1: select by name
-    // P2: b0,b1 define the File occurrence, b2,b3 define the File control information
-    // we use the bitmask defined in the respective enums
-    selectApplicationCommand[3] =
-        computeSelectApplicationP2(
-            cardSelector.getFileOccurrence(), cardSelector.getFileControlInformation());
-    selectApplicationCommand[4] = (byte) (aid.length); // Lc
-    System.arraycopy(aid, 0, selectApplicationCommand, 5, aid.length); // data
-    selectApplicationCommand[5 + aid.length] = (byte) 0x00; // Le
-
-    ApduRequest apduRequest = new ApduRequest(selectApplicationCommand);
-
-    if (logger.isDebugEnabled()) {
-      apduRequest.setInfo("Internal Select Application");
-    }
-
-    return processApduRequest(apduRequest);
-  }
-
-  /**
-   * Computes the P2 parameter of the ISO7816-4 Select Application APDU command from the provided
-   * FileOccurrence and FileControlInformation.
-   *
-   * @param fileOccurrence The file's position relative to the current file.
-   * @param fileControlInformation The file control information output.
-   * @throws IllegalStateException If one of the provided argument is unexpected.
-   */
-  private byte computeSelectApplicationP2(
-      CommonIsoCardSelector.FileOccurrence fileOccurrence,
-      CommonIsoCardSelector.FileControlInformation fileControlInformation) {
-
-    byte p2;
-    switch (fileOccurrence) {
-      case FIRST:
-        p2 = (byte) 0x00;
-        break;
-      case LAST:
-        p2 = (byte) 0x01;
-        break;
-      case NEXT:
-        p2 = (byte) 0x02;
-        break;
-      case PREVIOUS:
-        p2 = (byte) 0x03;
-        break;
-      default:
-        throw new IllegalStateException("Unexpected value: " + fileOccurrence);
-    }
-
-    switch (fileControlInformation) {
-      case FCI:
-        p2 |= (byte) 0x00;
-        break;
-      case FCP:
-        p2 |= (byte) 0x04;
-        break;
-      case FMD:
-        p2 |= (byte) 0x08;
-        break;
-      case NO_RESPONSE:
-        p2 |= (byte) 0x0C;
-        break;
-      default:
-        throw new IllegalStateException("Unexpected value: " + fileControlInformation);
-    }
-
-    return p2;
+    return processApduRequest(
+        new ApduRequest(cardSelector.getSelectApplicationCommand(), INTERNAL_SELECT_APPLICATION));
   }
 
   /** Close the logical channel. */
@@ -804,24 +970,37 @@ private static class SelectionStatus {
     }
   }
 
-  /** Local implementation of {@link ApduRequestSpi}. */
+  /**
+   * Local implementation of {@link ApduRequestSpi} used for the commands generated internally.
+   *
+   * <p>All instances share the same immutable set of successful status words.
+   */
   private static final class ApduRequest implements ApduRequestSpi {
 
-    private static final int DEFAULT_SUCCESSFUL_CODE = 0x9000;
+    private static final Set<Integer> DEFAULT_SUCCESSFUL_STATUS_WORDS =
+        Collections.singleton(0x9000);
 
     private final byte[] apdu;
-    private final Set<Integer> successfulStatusWords;
-    private String info;
+    private final String info;
 
-    private ApduRequest(byte[] apdu) {
+    private ApduRequest(byte[] apdu, String info) {
       this.apdu = apdu;
-      this.successfulStatusWords = new HashSet<>();
-      this.successfulStatusWords.add(DEFAULT_SUCCESSFUL_CODE);
+      this.info = info;
     }
 
-    private ApduRequest setInfo(final String info) {
-      this.info = info;
-      return this;
+    /**
+     * Builds an ISO7816-4 Get Response command.
+     *
+     * <p>A new APDU buffer is created each time since the last byte of a command may be updated
+     * by the 6CXX status word processing.
+     *
+     * @param le The expected length.
+     * @return A new instance.
+     */
+    private static ApduRequest buildGetResponse(byte le) {
+      return new ApduRequest(
+          new byte[] {(byte) 0x00, (byte) 0xC0, (byte) 0x00, (byte) 0x00, le},
+          INTERNAL_GET_RESPONSE);
     }
 
     @Override
@@ -831,7 +1010,7 @@ public byte[] getApdu() {
 
     @Override
     public Set<Integer> getSuccessfulStatusWords() {
-      return successfulStatusWords;
+      return DEFAULT_SUCCESSFUL_STATUS_WORDS;
     }
 
     @Override
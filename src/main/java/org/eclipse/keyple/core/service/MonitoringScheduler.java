@@ -0,0 +1,260 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scheduler shared by all the observable readers and plugins to run the polling tasks of the card
+ * monitoring jobs based on non-blocking SPIs and of the monitoring of the lists of readers, as well
+ * as the card processing watchdogs.
+ *
+ * <p>A small pool of daemon threads triggers the polls of all the readers on their respective
+ * intervals, so that no thread is dedicated to a reader waiting between two polls.
+ *
+ * <p>The polls themselves are executed by an elastic pool of daemon threads, created on demand and
+ * released after one minute of inactivity: a poll blocking in a plugin SPI (e.g. a reader which
+ * stopped responding) only holds one of these threads and never delays the polls of the other
+ * readers. As long as the polls do not block, the number of these threads remains close to the
+ * number of polls running simultaneously.
+ *
+ * @since 3.4.0
+ */
+final class MonitoringScheduler {
+
+  private static final int POOL_SIZE =
+      Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+  private static final ScheduledThreadPoolExecutor SHARED_SCHEDULER = createScheduler();
+
+  private static final ExecutorService POLLING_EXECUTOR = createPollingExecutor();
+
+  /** Constructor. */
+  private MonitoringScheduler() {}
+
+  /**
+   * Creates the shared scheduler.
+   *
+   * @return A not null reference.
+   */
+  private static ScheduledThreadPoolExecutor createScheduler() {
+    ScheduledThreadPoolExecutor scheduler =
+        new ScheduledThreadPoolExecutor(
+            POOL_SIZE,
+            new ThreadFactory() {
+              private final AtomicInteger threadCount = new AtomicInteger();
+
+              @Override
+              public Thread newThread(Runnable runnable) {
+                Thread thread =
+                    new Thread(
+                        runnable, "keyple-monitoring-scheduler-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              }
+            });
+    // cancelled polling tasks must not stay in the queue until their next due time
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
+
+  /**
+   * Creates the executor of the polls, creating its threads on demand.
+   *
+   * @return A not null reference.
+   */
+  private static ExecutorService createPollingExecutor() {
+    return new ThreadPoolExecutor(
+        0,
+        Integer.MAX_VALUE,
+        60,
+        TimeUnit.SECONDS,
+        new SynchronousQueue<Runnable>(),
+        new ThreadFactory() {
+          private final AtomicInteger threadCount = new AtomicInteger();
+
+          @Override
+          public Thread newThread(Runnable runnable) {
+            Thread thread =
+                new Thread(runnable, "keyple-monitoring-poller-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+  }
+
+  /**
+   * Starts a polling task, executed immediately then at the intervals defined by the provided
+   * policy (increased by its random jitter, if any), measured between the end of an execution and
+   * the start of the next one.
+   *
+   * <p>The executions of a task never overlap and do not delay the other polling tasks, even if
+   * they block. The task must not throw any exception.
+   *
+   * @param pollingTask The task to execute.
+   * @param pollingPolicy The polling policy.
+   * @return The polling to use to stop the executions.
+   * @since 3.4.0
+   */
+  static Polling startPolling(Runnable pollingTask, CardPresencePollingPolicy pollingPolicy) {
+    Polling polling = new Polling(pollingTask, pollingPolicy, 0);
+    polling.scheduleNext(0);
+    return polling;
+  }
+
+  /**
+   * Starts a polling task, executed immediately then at a fixed interval, measured between the end
+   * of an execution and the start of the next one.
+   *
+   * <p>The executions of a task never overlap and do not delay the other polling tasks, even if
+   * they block. The task must not throw any exception.
+   *
+   * @param pollingTask The task to execute.
+   * @param intervalMillis The interval in milliseconds (at least 1).
+   * @return The polling to use to stop the executions.
+   * @since 3.4.0
+   */
+  static Polling startPolling(Runnable pollingTask, long intervalMillis) {
+    Polling polling = new Polling(pollingTask, null, intervalMillis);
+    polling.scheduleNext(0);
+    return polling;
+  }
+
+  /**
+   * Schedules a one-shot task, such as a watchdog.
+   *
+   * <p>The task must be short and must not throw any exception.
+   *
+   * @param task The task to execute.
+   * @param delayMillis The delay before the execution.
+   * @return The future to use to cancel the execution.
+   * @since 3.4.0
+   */
+  static ScheduledFuture<?> schedule(Runnable task, long delayMillis) {
+    return SHARED_SCHEDULER.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Periodic execution of a polling task, rescheduling itself after each execution.
+   *
+   * @since 3.4.0
+   */
+  static final class Polling implements Runnable {
+
+    private final Runnable pollingTask;
+    private final CardPresencePollingPolicy pollingPolicy;
+    private final Runnable pollingExecution =
+        new Runnable() {
+          @Override
+          public void run() {
+            poll();
+          }
+        };
+    private final long startNanos = System.nanoTime();
+    private long intervalMillis;
+    private ScheduledFuture<?> nextExecution;
+    private boolean isCancelled;
+
+    /**
+     * Constructor.
+     *
+     * @param pollingTask The task to execute.
+     * @param pollingPolicy The polling policy, null for a fixed interval.
+     * @param intervalMillis The fixed interval, ignored if a polling policy is provided.
+     */
+    private Polling(
+        Runnable pollingTask, CardPresencePollingPolicy pollingPolicy, long intervalMillis) {
+      this.pollingTask = pollingTask;
+      this.pollingPolicy = pollingPolicy;
+      this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Hands the execution of the polling task over to the polling executor, so that the threads of
+     * the scheduler are never blocked by a poll.
+     *
+     * @since 3.4.0
+     */
+    @Override
+    public void run() {
+      synchronized (this) {
+        if (isCancelled) {
+          return;
+        }
+      }
+      POLLING_EXECUTOR.execute(pollingExecution);
+    }
+
+    /** Executes the polling task then schedules the next execution. */
+    private void poll() {
+      synchronized (this) {
+        if (isCancelled) {
+          return;
+        }
+      }
+      pollingTask.run();
+      if (pollingPolicy == null) {
+        scheduleNext(intervalMillis);
+        return;
+      }
+      intervalMillis =
+          pollingPolicy.getNextIntervalMillis(
+              intervalMillis, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+      long jitterMillis = pollingPolicy.getJitterMillis();
+      scheduleNext(
+          jitterMillis > 0
+              ? intervalMillis + ThreadLocalRandom.current().nextLong(jitterMillis + 1)
+              : intervalMillis);
+    }
+
+    /**
+     * Schedules the next execution of the task, unless the polling is cancelled.
+     *
+     * @param delayMillis The delay before the execution.
+     */
+    private synchronized void scheduleNext(long delayMillis) {
+      if (!isCancelled) {
+        nextExecution = SHARED_SCHEDULER.schedule(this, delayMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+
+    /**
+     * Stops the polling immediately: the pending execution, if any, is removed from the scheduler.
+     *
+     * @since 3.4.0
+     */
+    synchronized void cancel() {
+      isCancelled = true;
+      if (nextExecution != null) {
+        nextExecution.cancel(false);
+      }
+    }
+
+    /**
+     * Indicates whether the polling has been stopped.
+     *
+     * @return True if {@link #cancel()} has been called.
+     * @since 3.4.0
+     */
+    synchronized boolean isCancelled() {
+      return isCancelled;
+    }
+  }
+}
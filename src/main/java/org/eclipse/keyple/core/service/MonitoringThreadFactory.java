@@ -0,0 +1,81 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory of the threads of the executor service of an observable local reader, creating platform
+ * or virtual threads according to the {@link MonitoringThreadMode} of the service.
+ *
+ * <p>The mode is read each time a thread is created, the threads already created are not affected
+ * by a change of mode.
+ *
+ * @since 3.4.0
+ */
+final class MonitoringThreadFactory implements ThreadFactory {
+
+  private static volatile MonitoringThreadMode threadMode = MonitoringThreadMode.PLATFORM;
+
+  private final String threadNamePrefix;
+  private final AtomicInteger threadCount = new AtomicInteger();
+
+  /**
+   * Constructor.
+   *
+   * @param readerName The name of the reader.
+   * @since 3.4.0
+   */
+  MonitoringThreadFactory(String readerName) {
+    threadNamePrefix = "keyple-monitoring-[" + readerName + "]-";
+  }
+
+  /**
+   * Sets the kind of threads to create.
+   *
+   * @param threadMode The thread mode.
+   * @throws IllegalStateException If virtual threads are requested but not supported by the JVM.
+   * @since 3.4.0
+   */
+  static void setThreadMode(MonitoringThreadMode threadMode) {
+    if (threadMode == MonitoringThreadMode.VIRTUAL && !VirtualThreads.isSupported()) {
+      throw new IllegalStateException(
+          "Virtual threads are not supported by the running JVM (Java 21 or later is required)");
+    }
+    MonitoringThreadFactory.threadMode = threadMode;
+  }
+
+  /**
+   * Gets the kind of threads to create.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  static MonitoringThreadMode getThreadMode() {
+    return threadMode;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public Thread newThread(Runnable runnable) {
+    String threadName = threadNamePrefix + threadCount.incrementAndGet();
+    if (threadMode == MonitoringThreadMode.VIRTUAL) {
+      return VirtualThreads.newThread(threadName, runnable);
+    }
+    return new Thread(runnable, threadName);
+  }
+}
@@ -0,0 +1,47 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Defines the kind of threads used by the observable local readers to run their card monitoring
+ * jobs based on blocking SPIs (waiting for a card insertion or removal).
+ *
+ * <p>The card monitoring jobs based on non-blocking SPIs are polled by a scheduler shared by all
+ * the readers and the events of the readers are processed by a pool of platform threads shared by
+ * all the readers, whatever the mode.
+ *
+ * @see SmartCardService#setMonitoringThreadMode(MonitoringThreadMode)
+ * @since 3.4.0
+ */
+public enum MonitoringThreadMode {
+
+  /**
+   * Platform threads (default), available on all Java versions.
+   *
+   * @since 3.4.0
+   */
+  PLATFORM,
+
+  /**
+   * Virtual threads, available on Java 21 or later.
+   *
+   * <p>A reader waiting for a card no longer requires a platform thread and its stack, thus
+   * allowing thousands of readers with blocking SPIs to be monitored.
+   *
+   * <p>This is only effective with plugins whose blocking waits release the carrier thread (e.g.
+   * waits based on {@code java.util.concurrent} locks or on blocking I/O). A wait performed in a
+   * native call or in a {@code synchronized} block keeps its carrier thread pinned.
+   *
+   * @since 3.4.0
+   */
+  VIRTUAL
+}
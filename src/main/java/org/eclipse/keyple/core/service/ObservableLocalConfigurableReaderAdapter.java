@@ -35,6 +35,22 @@ final class ObservableLocalConfigurableReaderAdapter extends ObservableLocalRead
     super((ObservableReaderSpi) configurableReaderSpi, pluginName);
   }
 
+  /**
+   * Constructor.
+   *
+   * @param configurableReaderSpi The configurable reader SPI.
+   * @param pluginName The name of the plugin.
+   * @param batchCardPresenceMonitor The batched card presence monitor of the plugin, null if the
+   *     plugin doesn't provide this capability.
+   * @since 3.4.0
+   */
+  ObservableLocalConfigurableReaderAdapter(
+      ConfigurableReaderSpi configurableReaderSpi,
+      String pluginName,
+      BatchCardPresenceMonitor batchCardPresenceMonitor) {
+    super((ObservableReaderSpi) configurableReaderSpi, pluginName, batchCardPresenceMonitor);
+  }
+
   /**
    * {@inheritDoc}
    *
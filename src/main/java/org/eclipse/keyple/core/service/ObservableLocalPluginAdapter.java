@@ -13,11 +13,12 @@
 
 import java.util.Set;
 import java.util.SortedSet;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.TreeSet;
 import org.eclipse.keyple.core.plugin.PluginIOException;
 import org.eclipse.keyple.core.plugin.spi.ObservablePluginSpi;
 import org.eclipse.keyple.core.plugin.spi.reader.ReaderSpi;
 import org.eclipse.keyple.core.service.spi.PluginObserverSpi;
+import org.eclipse.keyple.core.service.spi.ReaderListChangeHintPluginSpi;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keypop.reader.CardReader;
 import org.slf4j.Logger;
@@ -26,6 +27,13 @@
 /**
  * Implementation of a local {@link ObservablePlugin}.
  *
+ * <p>The list of readers is monitored by a polling task scheduled by the scheduler shared by all
+ * plugins and readers, at the monitoring cycle duration provided by the plugin, while at least one
+ * observer is registered. The cycles (search of the readers, building of the new readers and
+ * notification of the observers) are executed by the polling threads of the scheduler, never by its
+ * scheduling threads, so that a slow plugin or observer does not delay the monitoring of the other
+ * plugins and readers.
+ *
  * @since 2.0.0
  */
 final class ObservableLocalPluginAdapter extends AbstractObservableLocalPluginAdapter {
@@ -33,6 +41,10 @@ final class ObservableLocalPluginAdapter extends AbstractObservableLocalPluginAd
   private static final Logger logger = LoggerFactory.getLogger(ObservableLocalPluginAdapter.class);
 
   private final ObservablePluginSpi observablePluginSpi;
+  private final ReaderListChangeHintPluginSpi readerListChangeHintPluginSpi;
+
+  /** Current monitoring of the list of readers, null if not started. */
+  private volatile MonitoringScheduler.Polling monitoring;
 
   /**
    * Constructor.
@@ -43,6 +55,10 @@ final class ObservableLocalPluginAdapter extends AbstractObservableLocalPluginAd
   ObservableLocalPluginAdapter(ObservablePluginSpi observablePluginSpi) {
     super(observablePluginSpi);
     this.observablePluginSpi = observablePluginSpi;
+    this.readerListChangeHintPluginSpi =
+        observablePluginSpi instanceof ReaderListChangeHintPluginSpi
+            ? (ReaderListChangeHintPluginSpi) observablePluginSpi
+            : null;
   }
 
   /**
@@ -52,7 +68,8 @@ final class ObservableLocalPluginAdapter extends AbstractObservableLocalPluginAd
    * @since 2.0.0
    */
   boolean isMonitoring() {
-    return thread != null && thread.isAlive() && thread.isMonitoring();
+    MonitoringScheduler.Polling currentMonitoring = monitoring;
+    return currentMonitoring != null && !currentMonitoring.isCancelled();
   }
 
   /**
@@ -65,17 +82,11 @@ public void addObserver(PluginObserverSpi observer) {
     super.addObserver(observer);
     if (countObservers() == 1) {
       logger.info("Start monitoring of plugin [{}]", getName());
-      thread = new EventThread(getName());
-      thread.setName("PluginEventMonitoringThread");
-      thread.setUncaughtExceptionHandler(
-          new Thread.UncaughtExceptionHandler() {
-            public void uncaughtException(Thread t, Throwable e) {
-              getObservationManager()
-                  .getObservationExceptionHandler()
-                  .onPluginObservationError(thread.pluginName, e);
-            }
-          });
-      thread.start();
+      // a zero duration would make the task monopolize a polling thread of the shared scheduler
+      long monitoringCycleDuration = Math.max(1, observablePluginSpi.getMonitoringCycleDuration());
+      monitoring =
+          MonitoringScheduler.startPolling(
+              new ReaderListMonitor(getName()), monitoringCycleDuration);
     }
   }
 
@@ -90,10 +101,7 @@ public void removeObserver(PluginObserverSpi observer) {
     if (getObservationManager().getObservers().contains(observer)) {
       super.removeObserver(observer);
       if (countObservers() == 0) {
-        if (thread != null) {
-          thread.end();
-          logger.info("Plugin monitoring stopped");
-        }
+        stopMonitoring();
       }
     }
   }
@@ -106,35 +114,29 @@ public void removeObserver(PluginObserverSpi observer) {
   @Override
   public void clearObservers() {
     super.clearObservers();
-    if (thread != null) {
-      thread.end();
+    stopMonitoring();
+  }
+
+  /** Stops the monitoring of the list of readers, if started. */
+  private void stopMonitoring() {
+    MonitoringScheduler.Polling currentMonitoring = monitoring;
+    if (currentMonitoring != null) {
+      currentMonitoring.cancel();
       logger.info("Plugin monitoring stopped");
     }
   }
 
-  /** Local thread to monitoring readers presence */
-  private EventThread thread;
+  /**
+   * Polling task comparing the list of readers provided by the plugin with the current list of
+   * readers and reporting the changes.
+   */
+  private final class ReaderListMonitor implements Runnable {
 
-  /** Thread in charge of reporting live events */
-  private class EventThread extends Thread {
     private final String pluginName;
-    private final long monitoringCycleDuration;
-    private boolean running = true;
+    private boolean isFirstSearch = true;
 
-    private EventThread(String pluginName) {
+    private ReaderListMonitor(String pluginName) {
       this.pluginName = pluginName;
-      monitoringCycleDuration = observablePluginSpi.getMonitoringCycleDuration();
-    }
-
-    /** Marks the thread as one that should end when the last threadWaitTimeout occurs */
-    private void end() {
-      running = false;
-      interrupt();
-    }
-
-    /** Indicate whether the thread is running or not */
-    private boolean isMonitoring() {
-      return running;
     }
 
     /**
@@ -144,17 +146,33 @@ private boolean isMonitoring() {
      * @throws PluginIOException if an error occurs while searching the reader.
      */
     private void addReader(String readerName) throws PluginIOException {
-      ReaderSpi readerSpi = observablePluginSpi.searchReader(readerName);
-      LocalReaderAdapter reader = buildLocalReaderAdapter(readerSpi);
-      reader.register();
-      getReadersMap().put(reader.getName(), reader);
+      Object flightRecorderEvent = FlightRecorderEvents.beginReaderConnection();
+      boolean isAdded = false;
+      try {
+        ReaderSpi readerSpi = observablePluginSpi.searchReader(readerName);
+        LocalReaderAdapter reader = buildLocalReaderAdapter(readerSpi);
+        reader.register();
+        putReader(reader.getName(), reader);
+        isAdded = true;
+      } finally {
+        FlightRecorderEvents.commitReaderConnection(
+            flightRecorderEvent, pluginName, readerName, true, isAdded);
+      }
       logger.info("Plugin [{}] adds plugged reader [{}] to readers list", pluginName, readerName);
     }
 
     /** Removes a reader from the list of known readers (by the plugin) */
     private void removeReader(CardReader reader) {
-      ((LocalReaderAdapter) reader).unregister();
-      getReadersMap().remove(reader.getName());
+      Object flightRecorderEvent = FlightRecorderEvents.beginReaderConnection();
+      boolean isRemoved = false;
+      try {
+        ((LocalReaderAdapter) reader).unregister();
+        removeReaderByKey(reader.getName());
+        isRemoved = true;
+      } finally {
+        FlightRecorderEvents.commitReaderConnection(
+            flightRecorderEvent, pluginName, reader.getName(), false, isRemoved);
+      }
       logger.info(
           "Plugin [{}] removes unplugged reader [{}] from readers list",
           pluginName,
@@ -178,83 +196,73 @@ private void notifyChanges(PluginEvent.Type type, SortedSet<String> changedReade
      * readers accordingly.<br>
      * Observers are notified of changes.
      *
+     * <p>Each list is traversed once, the other one being looked up by hash, and only the changed
+     * reader names are collected.
+     *
      * @param actualNativeReaderNames the list of readers currently known by the system
      * @throws PluginIOException if an error occurs while searching readers.
      */
     private void processChanges(Set<String> actualNativeReaderNames) throws PluginIOException {
-      SortedSet<String> changedReaderNames = new ConcurrentSkipListSet<>();
-      /*
-       * parse the current readers list, notify for disappeared readers, update
-       * readers list
-       */
-      final Set<CardReader> readers = getReaders();
-      for (CardReader reader : readers) {
+      /* notify disconnections if any and update the reader list */
+      SortedSet<String> changedReaderNames = new TreeSet<>();
+      for (CardReader reader : getReadersSnapshot()) {
         if (!actualNativeReaderNames.contains(reader.getName())) {
+          removeReader(reader);
           changedReaderNames.add(reader.getName());
         }
       }
-      /* notify disconnections if any and update the reader list */
       if (!changedReaderNames.isEmpty()) {
-        /* list update */
-        for (CardReader reader : readers) {
-          if (!actualNativeReaderNames.contains(reader.getName())) {
-            removeReader(reader);
-          }
-        }
         notifyChanges(PluginEvent.Type.READER_DISCONNECTED, changedReaderNames);
-        /* clean the list for a possible connection notification */
-        changedReaderNames.clear();
+        changedReaderNames = new TreeSet<>();
       }
-      /*
-       * parse the new readers list, notify for readers appearance, update readers
-       * list
-       */
+      /* notify connections if any and update the reader list */
+      Set<String> registeredReaderNames = getReaderNamesSnapshot();
       for (String readerName : actualNativeReaderNames) {
-        if (!getReaderNames().contains(readerName)) {
+        if (!registeredReaderNames.contains(readerName)) {
           addReader(readerName);
-          /* add to the notification list */
           changedReaderNames.add(readerName);
         }
       }
-      /* notify connections if any */
       if (!changedReaderNames.isEmpty()) {
         notifyChanges(PluginEvent.Type.READER_CONNECTED, changedReaderNames);
       }
     }
 
     /**
-     * Reader monitoring loop<br>
-     * Checks reader insertions and removals<br>
+     * Monitoring cycle<br>
+     * Checks reader insertions and removals, unless the plugin indicates that its list has not
+     * changed<br>
      * Notifies observers of any changes
      */
     @Override
     public void run() {
       try {
-        while (running) {
-          /* retrieves the current readers names list */
-          Set<String> actualNativeReaderNames = observablePluginSpi.searchAvailableReaderNames();
-          /*
-           * checks if it has changed this algorithm favors cases where nothing change
-           */
-          Set<String> currentlyRegisteredReaderNames = getReaderNames();
-          if (!currentlyRegisteredReaderNames.containsAll(actualNativeReaderNames)
-              || !actualNativeReaderNames.containsAll(currentlyRegisteredReaderNames)) {
-            processChanges(actualNativeReaderNames);
-          }
-          /* sleep for a while. */
-          Thread.sleep(monitoringCycleDuration);
+        if (!isFirstSearch
+            && readerListChangeHintPluginSpi != null
+            && !readerListChangeHintPluginSpi.hasReaderListChanged()) {
+          return;
+        }
+        isFirstSearch = false;
+        /* retrieves the current readers names list */
+        Set<String> actualNativeReaderNames = observablePluginSpi.searchAvailableReaderNames();
+        /*
+         * checks if it has changed (size and lookups in the current snapshot, without copy)
+         */
+        if (!getReaderNamesSnapshot().equals(actualNativeReaderNames)) {
+          processChanges(actualNativeReaderNames);
         }
-      } catch (InterruptedException e) {
-        logger.info(
-            "Plugin monitoring stopped, possibly because there is no more registered observer");
-        // Restore interrupted state...
-        Thread.currentThread().interrupt();
       } catch (PluginIOException e) {
+        stopMonitoring();
         getObservationManager()
             .getObservationExceptionHandler()
             .onPluginObservationError(
                 pluginName,
                 new KeyplePluginException("An error occurred while monitoring the readers", e));
+      } catch (RuntimeException e) {
+        stopMonitoring();
+        getObservationManager()
+            .getObservationExceptionHandler()
+            .onPluginObservationError(pluginName, e);
       }
     }
   }
@@ -45,6 +45,12 @@ class ObservableLocalReaderAdapter extends LocalReaderAdapter
 
   private static final Logger logger = LoggerFactory.getLogger(ObservableLocalReaderAdapter.class);
 
+  /**
+   * Maximum time to wait for the end of an exchange in progress before releasing the channels when
+   * the card processing times out.
+   */
+  private static final long CHANNEL_RELEASE_WAIT_MILLIS = 1000;
+
   private static final String READER_MONITORING_ERROR =
       "An error occurred while monitoring the reader";
   private static final byte[] APDU_PING_CARD_PRESENCE = {
@@ -52,6 +58,7 @@ class ObservableLocalReaderAdapter extends LocalReaderAdapter
   };
 
   private final ObservableReaderSpi observableReaderSpi;
+  private final BatchCardPresenceMonitor batchCardPresenceMonitor;
   private final ObservableReaderStateServiceAdapter stateService;
   private final ObservationManagerAdapter<
           CardReaderObserverSpi, CardReaderObservationExceptionHandlerSpi>
@@ -61,6 +68,12 @@ class ObservableLocalReaderAdapter extends LocalReaderAdapter
   private NotificationMode notificationMode;
   private DetectionMode detectionMode;
   private boolean isCardRemovedEventNotificationEnabled;
+  private volatile CardPresencePollingPolicy cardPresencePollingPolicy;
+  private volatile ObserverDispatcher observerDispatcher;
+  private volatile long cardProcessingTimeoutMillis;
+  private volatile long eventDetectionNanos;
+  private volatile CardPresenceCache cardPresenceCache;
+  private volatile CardRemovalProbePolicy cardRemovalProbePolicy;
 
   /**
    * The events that drive the card's observation state machine.
@@ -117,8 +130,26 @@ enum InternalEvent {
    * @since 2.0.0
    */
   ObservableLocalReaderAdapter(ObservableReaderSpi observableReaderSpi, String pluginName) {
+    this(observableReaderSpi, pluginName, null);
+  }
+
+  /**
+   * Creates an instance of {@link ObservableLocalReaderAdapter} whose card presence may be
+   * monitored by the batched card presence polling of its plugin.
+   *
+   * @param observableReaderSpi The reader SPI.
+   * @param pluginName The plugin name.
+   * @param batchCardPresenceMonitor The batched card presence monitor of the plugin, null if the
+   *     plugin doesn't provide this capability.
+   * @since 3.4.0
+   */
+  ObservableLocalReaderAdapter(
+      ObservableReaderSpi observableReaderSpi,
+      String pluginName,
+      BatchCardPresenceMonitor batchCardPresenceMonitor) {
     super(observableReaderSpi, pluginName);
     this.observableReaderSpi = observableReaderSpi;
+    this.batchCardPresenceMonitor = batchCardPresenceMonitor;
     this.stateService = new ObservableReaderStateServiceAdapter(this);
     this.observationManager = new ObservationManagerAdapter<>(pluginName, getName());
     if (observableReaderSpi instanceof CardInsertionWaiterAsynchronousSpi) {
@@ -147,11 +178,142 @@ final ObservableReaderSpi getObservableReaderSpi() {
    * Gets the exception handler used to notify the application of exceptions raised during the
    * observation process.
    *
+   * <p>The last APDU exchanges of the reader are attached to the notified exceptions (see {@link
+   * ApduFlightRecordException}).
+   *
    * @return Null if no exception has been set.
    * @since 2.0.0
    */
   final CardReaderObservationExceptionHandlerSpi getObservationExceptionHandler() {
-    return observationManager.getObservationExceptionHandler();
+    final CardReaderObservationExceptionHandlerSpi exceptionHandler =
+        observationManager.getObservationExceptionHandler();
+    if (exceptionHandler == null) {
+      return null;
+    }
+    return new CardReaderObservationExceptionHandlerSpi() {
+      @Override
+      public void onReaderObservationError(String pluginName, String readerName, Throwable e) {
+        exceptionHandler.onReaderObservationError(
+            pluginName, readerName, getApduFlightRecorder().attachTo(e));
+      }
+    };
+  }
+
+  /**
+   * Gets the batched card presence monitor of the plugin.
+   *
+   * @return Null if the plugin doesn't provide this capability.
+   * @since 3.4.0
+   */
+  final BatchCardPresenceMonitor getBatchCardPresenceMonitor() {
+    return batchCardPresenceMonitor;
+  }
+
+  /**
+   * Gets the card presence polling policy set for this reader.
+   *
+   * @return Null if the default policy of the monitoring jobs is used.
+   * @since 3.4.0
+   */
+  final CardPresencePollingPolicy getCardPresencePollingPolicy() {
+    return cardPresencePollingPolicy;
+  }
+
+  /**
+   * Sets the card presence polling policy of this reader, applied the next time the reader begins
+   * waiting for a card insertion or removal.
+   *
+   * @param cardPresencePollingPolicy The polling policy, null to use the default policy.
+   * @since 3.4.0
+   */
+  final void setCardPresencePollingPolicy(CardPresencePollingPolicy cardPresencePollingPolicy) {
+    this.cardPresencePollingPolicy = cardPresencePollingPolicy;
+  }
+
+  /**
+   * Gets the maximum duration of the processing of a card by the application.
+   *
+   * @return 0 if the processing duration is not limited.
+   * @since 3.4.0
+   */
+  final long getCardProcessingTimeoutMillis() {
+    return cardProcessingTimeoutMillis;
+  }
+
+  /**
+   * Sets the maximum duration of the processing of a card by the application, applied the next
+   * time a card is processed.
+   *
+   * @param cardProcessingTimeoutMillis The timeout in milliseconds, 0 to disable it.
+   * @since 3.4.0
+   */
+  final void setCardProcessingTimeoutMillis(long cardProcessingTimeoutMillis) {
+    this.cardProcessingTimeoutMillis = cardProcessingTimeoutMillis;
+  }
+
+  /**
+   * Sets the policy defining how the events are delivered to the observers, applied to the events
+   * notified afterward. The events already queued are still delivered, before the events notified
+   * afterward.
+   *
+   * @param observerDispatchPolicy The dispatch policy, null to notify the observers synchronously.
+   * @since 3.4.0
+   */
+  final synchronized void setObserverDispatchPolicy(
+      ObserverDispatchPolicy observerDispatchPolicy) {
+    // the dispatcher is kept once created, so that its pending events are delivered first
+    if (observerDispatcher != null) {
+      observerDispatcher.setDispatchPolicy(observerDispatchPolicy);
+    } else if (observerDispatchPolicy != null) {
+      observerDispatcher = new ObserverDispatcher(this, observerDispatchPolicy);
+    }
+  }
+
+  /**
+   * Gets the policy of the probes of the card presence while waiting for its removal.
+   *
+   * @return Null if the default ping APDU is sent at the polling interval.
+   * @since 3.4.0
+   */
+  final CardRemovalProbePolicy getCardRemovalProbePolicy() {
+    return cardRemovalProbePolicy;
+  }
+
+  /**
+   * Sets the policy of the probes of the card presence while waiting for its removal.
+   *
+   * @param cardRemovalProbePolicy The policy, null to restore the default ping APDU.
+   * @since 3.4.0
+   */
+  final void setCardRemovalProbePolicy(CardRemovalProbePolicy cardRemovalProbePolicy) {
+    this.cardRemovalProbePolicy = cardRemovalProbePolicy;
+  }
+
+  /**
+   * Sets the maximum age of the cached card presence state when the card presence is not monitored
+   * by the state machine.
+   *
+   * @param cardPresenceCacheMaxAgeMillis The maximum age in milliseconds, 0 to disable the cache.
+   * @since 3.4.0
+   */
+  final void setCardPresenceCacheMaxAgeMillis(long cardPresenceCacheMaxAgeMillis) {
+    this.cardPresenceCache =
+        cardPresenceCacheMaxAgeMillis > 0
+            ? new CardPresenceCache(cardPresenceCacheMaxAgeMillis)
+            : null;
+  }
+
+  /**
+   * Records the current card presence state in the cache, if enabled.
+   *
+   * @param isCardPresent True if a card is present.
+   * @since 3.4.0
+   */
+  final void updateCardPresenceCache(boolean isCardPresent) {
+    CardPresenceCache cache = cardPresenceCache;
+    if (cache != null) {
+      cache.update(isCardPresent);
+    }
   }
 
   /**
@@ -179,15 +341,27 @@ final AbstractObservableStateAdapter.MonitoringState getCurrentMonitoringState()
    * verified as long as the mere fact that the card responds is sufficient to indicate whether or
    * not it is present.
    *
+   * <p>The APDU sent is the one defined by the {@link CardRemovalProbePolicy} of the reader if any.
+   * If this policy checks the card presence with the reader, no APDU is sent. The duration of the
+   * probe is recorded in the {@link ReaderMetrics} of the reader.
+   *
    * <p>This method has to be called regularly until the card no longer respond.
    *
    * @return True if the card still responds, false if not
    * @since 2.0.0
    */
   final boolean isCardPresentPing() {
+    CardRemovalProbePolicy probePolicy = cardRemovalProbePolicy;
+    long startNanos = System.nanoTime();
     // transmits the APDU and checks for the IO exception.
     try {
-      observableReaderSpi.transmitApdu(APDU_PING_CARD_PRESENCE);
+      if (probePolicy == null) {
+        observableReaderSpi.transmitApdu(APDU_PING_CARD_PRESENCE);
+      } else if (probePolicy.getApduInternal() != null) {
+        observableReaderSpi.transmitApdu(probePolicy.getApduInternal());
+      } else {
+        return observableReaderSpi.checkCardPresence();
+      }
     } catch (ReaderIOException e) {
       // Notify the reader communication failure with the exception handler.
       getObservationExceptionHandler()
@@ -198,6 +372,8 @@ final boolean isCardPresentPing() {
       return false;
     } catch (CardIOException e) {
       return false;
+    } finally {
+      getMetrics().recordRemovalProbe(startNanos);
     }
     return true;
   }
@@ -233,32 +409,29 @@ final CardReaderEvent processCardInserted() {
     }
 
     isCardRemovedEventNotificationEnabled = true;
+    updateCardPresenceCache(true);
+    ReaderEventTimestampsAdapter timestamps = new ReaderEventTimestampsAdapter(eventDetectionNanos);
 
     if (cardSelectionScenario == null) {
       if (logger.isTraceEnabled()) {
         logger.trace("No card selection scenario defined. Notify [CARD_INSERTED] event");
       }
       /* no default request is defined, just notify the card insertion */
-      return new ReaderEventAdapter(
-          getPluginName(), getName(), CardReaderEvent.Type.CARD_INSERTED, null);
+      return createReaderEvent(CardReaderEvent.Type.CARD_INSERTED, null, timestamps);
     }
 
     // a card selection scenario is defined, send it and notify according to the notification mode
     // and the selection status
+    setPendingEventTimestamps(timestamps);
     try {
       List<CardSelectionResponseApi> cardSelectionResponses =
-          transmitCardSelectionRequests(
-              cardSelectionScenario.getCardSelectors(),
-              cardSelectionScenario.getCardSelectionRequests(),
-              cardSelectionScenario.getMultiSelectionProcessing(),
-              cardSelectionScenario.getChannelControl());
+          cardSelectionScenario.transmitCardSelectionRequests(this);
 
       if (hasACardMatched(cardSelectionResponses)) {
-        return new ReaderEventAdapter(
-            getPluginName(),
-            getName(),
+        return createReaderEvent(
             CardReaderEvent.Type.CARD_MATCHED,
-            new ScheduledCardSelectionsResponseAdapter(cardSelectionResponses));
+            new ScheduledCardSelectionsResponseAdapter(cardSelectionResponses),
+            timestamps);
       }
 
       if (notificationMode == NotificationMode.MATCHED_ONLY) {
@@ -275,11 +448,10 @@ final CardReaderEvent processCardInserted() {
       if (logger.isTraceEnabled()) {
         logger.trace("None of {} selection cases matched", cardSelectionResponses.size());
       }
-      return new ReaderEventAdapter(
-          getPluginName(),
-          getName(),
+      return createReaderEvent(
           CardReaderEvent.Type.CARD_INSERTED,
-          new ScheduledCardSelectionsResponseAdapter(cardSelectionResponses));
+          new ScheduledCardSelectionsResponseAdapter(cardSelectionResponses),
+          timestamps);
 
     } catch (ReaderBrokenCommunicationException e) {
       // Notify the reader communication failure with the exception handler.
@@ -295,12 +467,14 @@ final CardReaderEvent processCardInserted() {
       // The card was removed or not read correctly, no exception raising or event notification,
       // just log.
       logger.warn("Error while processing card selection scenario: {}", e.getMessage());
+    } finally {
+      setPendingEventTimestamps(null);
     }
 
     // Here we close the physical channel in case it was opened for a card excluded by the selection
     // scenario.
     try {
-      observableReaderSpi.closePhysicalChannel();
+      closePhysicalChannel();
     } catch (ReaderIOException e) {
       // Notify the reader communication failure with the exception handler.
       getObservationExceptionHandler()
@@ -314,6 +488,26 @@ final CardReaderEvent processCardInserted() {
     return null;
   }
 
+  /**
+   * Builds an event of the reader and records the durations of the phases preceding its creation.
+   *
+   * @param type The type of event.
+   * @param scheduledCardSelectionsResponse The responses to the card selection scenario (can be
+   *     null).
+   * @param timestamps The timestamps of the phases preceding the creation of the event.
+   * @return A not null reference.
+   */
+  private ReaderEventAdapter createReaderEvent(
+      CardReaderEvent.Type type,
+      ScheduledCardSelectionsResponseAdapter scheduledCardSelectionsResponse,
+      ReaderEventTimestampsAdapter timestamps) {
+    ReaderEventAdapter event =
+        new ReaderEventAdapter(
+            getPluginName(), getName(), type, scheduledCardSelectionsResponse, timestamps);
+    getMetrics().recordReaderEventCreation(timestamps);
+    return event;
+  }
+
   /**
    * Check if a card has matched.
    *
@@ -343,12 +537,74 @@ private boolean hasACardMatched(List<CardSelectionResponseApi> cardSelectionResp
    */
   final void processCardRemoved() {
     // RL-DET-REMNOTIF.1
+    updateCardPresenceCache(false);
     closeLogicalAndPhysicalChannelsSilently();
     if (isCardRemovedEventNotificationEnabled) {
       notifyObservers(
-          new ReaderEventAdapter(
-              getPluginName(), getName(), CardReaderEvent.Type.CARD_REMOVED, null));
+          createReaderEvent(
+              CardReaderEvent.Type.CARD_REMOVED,
+              null,
+              new ReaderEventTimestampsAdapter(eventDetectionNanos)));
+    }
+  }
+
+  /**
+   * This method is invoked when the processing of the card has not been finalized in time.
+   *
+   * <p>Releases the channels and notifies the application with the exception handler.
+   *
+   * <p>The channels are released once the exchange possibly in progress with the card has ended,
+   * within a bounded wait. If the reader is still in use afterward (e.g. leased by an application
+   * thread), they are left to its user.
+   *
+   * @since 3.4.0
+   */
+  final void processCardProcessingTimeout() {
+    getMetrics().recordCardProcessingTimeout();
+    if (tryBeginExclusiveUse(CHANNEL_RELEASE_WAIT_MILLIS)) {
+      try {
+        closeLogicalAndPhysicalChannelsSilently();
+      } finally {
+        endExclusiveUse();
+      }
+    } else {
+      logger.warn(
+          "Channels of reader [{}] not released after the card processing timeout, the reader is"
+              + " still in use",
+          getName());
     }
+    getObservationExceptionHandler()
+        .onReaderObservationError(
+            getPluginName(),
+            getName(),
+            new CardProcessingTimeoutException(
+                "The card processing has not been finalized within "
+                    + cardProcessingTimeoutMillis
+                    + " ms"));
+  }
+
+  /**
+   * Sets the detection time of the internal event being processed by the state machine, 0 when no
+   * event is being processed.
+   *
+   * @param eventDetectionNanos The time at which the event was communicated to the state machine.
+   * @since 3.4.0
+   */
+  final void setEventDetectionNanos(long eventDetectionNanos) {
+    this.eventDetectionNanos = eventDetectionNanos;
+  }
+
+  /**
+   * Communicates to the state machine an internal event detected by the monitoring job of the
+   * provided state.
+   *
+   * @param event The internal event.
+   * @param monitoringState The state of the monitoring job.
+   * @since 3.4.0
+   */
+  final void onEvent(
+      InternalEvent event, AbstractObservableStateAdapter.MonitoringState monitoringState) {
+    stateService.onEvent(event, monitoringState);
   }
 
   /**
@@ -367,6 +623,9 @@ final void switchState(AbstractObservableStateAdapter.MonitoringState stateId) {
    * <p>This method never throws an exception. Any errors at runtime are notified to the application
    * using the exception handler.
    *
+   * <p>If an asynchronous dispatch policy is set or has been set, the delivery is handled by the
+   * {@link ObserverDispatcher} of the reader.
+   *
    * @param event The reader event.
    * @since 2.0.0
    */
@@ -380,8 +639,14 @@ final void notifyObservers(final CardReaderEvent event) {
           countObservers());
     }
 
+    ObserverDispatcher dispatcher = observerDispatcher;
+    if (dispatcher != null) {
+      dispatcher.dispatch(observationManager.getObservers(), event);
+      return;
+    }
+    long notificationNanos = System.nanoTime();
     for (CardReaderObserverSpi observer : observationManager.getObservers()) {
-      notifyObserver(observer, event);
+      notifyObserver(observer, event, notificationNanos);
     }
   }
 
@@ -390,19 +655,29 @@ final void notifyObservers(final CardReaderEvent event) {
    *
    * @param observer The observer to notify.
    * @param event The event.
+   * @param notificationNanos The notification time of the event, as provided by {@link
+   *     System#nanoTime()}.
+   * @since 3.4.0
    */
-  private void notifyObserver(CardReaderObserverSpi observer, CardReaderEvent event) {
+  final void notifyObserver(
+      CardReaderObserverSpi observer, CardReaderEvent event, long notificationNanos) {
+    if (event instanceof ReaderEventAdapter) {
+      ReaderEventTimestampsAdapter timestamps = ((ReaderEventAdapter) event).getTimestamps();
+      if (timestamps.setDeliveryNanos(System.nanoTime())) {
+        getMetrics().recordReaderEventDelivery(timestamps);
+      }
+    }
     try {
       observer.onReaderEvent(event);
     } catch (Exception e) {
       try {
-        observationManager
-            .getObservationExceptionHandler()
-            .onReaderObservationError(getPluginName(), getName(), e);
+        getObservationExceptionHandler().onReaderObservationError(getPluginName(), getName(), e);
       } catch (Exception e2) {
         logger.error("Event notification error: {}", e2.getMessage(), e2);
         logger.error("Original cause: {}", e.getMessage(), e);
       }
+    } finally {
+      getMetrics().recordObserverDelivery(notificationNanos);
     }
   }
 
@@ -453,11 +728,37 @@ final void unregister() {
   /**
    * {@inheritDoc}
    *
+   * <p>If the card presence cache is enabled, the last known state is returned without checking
+   * the card presence as long as it is still valid.
+   *
    * @since 2.0.0
    */
   @Override
   public final boolean isCardPresent() {
     checkStatus();
+    CardPresenceCache cache = cardPresenceCache;
+    if (cache == null) {
+      return checkCardPresence();
+    }
+    Boolean isCardPresent =
+        cache.getCardPresence(stateService.getCurrentState().isCardPresenceMonitored());
+    if (isCardPresent == null) {
+      isCardPresent = checkCardPresence();
+      cache.update(isCardPresent);
+    }
+    return isCardPresent;
+  }
+
+  /**
+   * Checks the presence of a card with the reader, regardless of the card presence cache.
+   *
+   * <p>If the card is no longer present but one of the channels is still open, the card removal
+   * sequence is initiated.
+   *
+   * @return True if a card is present.
+   * @since 3.4.0
+   */
+  final boolean checkCardPresence() {
     if (super.isCardPresent()) {
       return true;
     } else {
@@ -12,8 +12,17 @@
 package org.eclipse.keyple.core.service;
 
 import java.util.EnumMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.eclipse.keyple.core.plugin.spi.reader.observable.ObservableReaderSpi;
 import org.eclipse.keyple.core.plugin.spi.reader.observable.state.insertion.*;
 import org.eclipse.keyple.core.plugin.spi.reader.observable.state.processing.CardPresenceMonitorBlockingSpi;
@@ -26,6 +35,11 @@
  * Manages the internal state of an {@link ObservableLocalReaderAdapter} Process InternalEvent
  * against the current state
  *
+ * <p>The internal events are enqueued without lock in a mailbox by any thread and processed one at
+ * a time, in order, by a single consumer event loop running on a shared pool of threads only while
+ * events are pending. The threads notifying an event (application, plugin or monitoring threads)
+ * thus never wait for the processing of a card by the reader.
+ *
  * @since 2.0.0
  */
 final class ObservableReaderStateServiceAdapter {
@@ -39,16 +53,81 @@ final class ObservableReaderStateServiceAdapter {
 
   private final ObservableReaderSpi readerSpi;
 
-  /** Executor service to provide a unique thread used by the various monitoring jobs */
-  private final ExecutorService executorService;
+  /** Delay after which the idle thread of the executor service is released */
+  private static final long IDLE_THREAD_KEEP_ALIVE_MILLIS = 1000;
+
+  /**
+   * Shared pool of daemon threads running the event loops of the readers having pending events. The
+   * threads are released when idle.
+   */
+  private static final ExecutorService EVENT_LOOP_EXECUTOR_SERVICE =
+      new ThreadPoolExecutor(
+          0,
+          Integer.MAX_VALUE,
+          IDLE_THREAD_KEEP_ALIVE_MILLIS,
+          TimeUnit.MILLISECONDS,
+          new SynchronousQueue<Runnable>(),
+          new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+              Thread thread =
+                  new Thread(runnable, "keyple-reader-event-loop-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+
+  /**
+   * Maximum time to wait for the event loop to process the shutdown request, after which the loop,
+   * possibly stuck in an observer or a SPI call, is abandoned.
+   */
+  static final long SHUTDOWN_TIMEOUT_MILLIS = 2000;
+
+  /** Pending event requesting the shutdown of the reader monitoring */
+  private static final PendingEvent SHUTDOWN = new PendingEvent(null, null);
+
+  /**
+   * Executor service to provide a unique thread used by the blocking monitoring jobs. The thread is
+   * released when idle.
+   */
+  private final ThreadPoolExecutor executorService;
+
+  /** Mailbox of the pending events, filled by any thread and emptied by the event loop only */
+  private final Queue<PendingEvent> mailbox = new ConcurrentLinkedQueue<>();
+
+  /** Number of pending events, the thread making it leave zero schedules the event loop */
+  private final AtomicInteger pendingEventCount = new AtomicInteger();
+
+  /** Event loop processing the pending events */
+  private final Runnable eventLoop =
+      new Runnable() {
+        @Override
+        public void run() {
+          processPendingEvents();
+        }
+      };
+
+  /** Released once the event loop has processed the shutdown request */
+  private final CountDownLatch shutdownLatch = new CountDownLatch(1);
+
+  /** Thread currently running the event loop, null if none */
+  private volatile Thread eventLoopThread;
 
   /** Map of all instantiated states possible */
   private final EnumMap<
           AbstractObservableStateAdapter.MonitoringState, AbstractObservableStateAdapter>
       states;
 
-  /** Current currentState of the Observable Reader */
-  private AbstractObservableStateAdapter currentState;
+  /** True once the shutdown request has been processed, only changed by the event loop */
+  private boolean isShutdown;
+
+  /** Watchdog of the card processing if any, only changed by the event loop */
+  private ScheduledFuture<?> cardProcessingWatchdog;
+
+  /** Current currentState of the Observable Reader, only changed by the event loop */
+  private volatile AbstractObservableStateAdapter currentState;
 
   /**
    * Initializes the states according to the interfaces implemented by the provided reader.
@@ -61,7 +140,15 @@ final class ObservableReaderStateServiceAdapter {
     this.readerSpi = reader.getObservableReaderSpi();
 
     this.states = new EnumMap<>(AbstractObservableStateAdapter.MonitoringState.class);
-    this.executorService = Executors.newSingleThreadExecutor();
+    this.executorService =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            IDLE_THREAD_KEEP_ALIVE_MILLIS,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<Runnable>(),
+            new MonitoringThreadFactory(reader.getName()));
+    this.executorService.allowCoreThreadTimeOut(true);
 
     // initialize states for each case:
 
@@ -76,6 +163,16 @@ final class ObservableReaderStateServiceAdapter {
       this.states.put(
           AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_INSERTION,
           new WaitForCardInsertionStateAdapter(this.reader));
+    } else if (reader.getBatchCardPresenceMonitor() != null
+        && (readerSpi instanceof CardInsertionWaiterNonBlockingSpi
+            || readerSpi instanceof WaitForCardInsertionNonBlockingSpi)) {
+      this.states.put(
+          AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_INSERTION,
+          new WaitForCardInsertionStateAdapter(
+              this.reader,
+              new BatchCardPresenceMonitoringJobAdapter(
+                  reader, reader.getBatchCardPresenceMonitor(), true),
+              this.executorService));
     } else if (readerSpi instanceof CardInsertionWaiterNonBlockingSpi
         || readerSpi instanceof WaitForCardInsertionNonBlockingSpi) {
       int sleepDurationMillis =
@@ -124,6 +221,16 @@ final class ObservableReaderStateServiceAdapter {
           AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_REMOVAL,
           new WaitForCardRemovalStateAdapter(this.reader));
 
+    } else if (reader.getBatchCardPresenceMonitor() != null
+        && (readerSpi instanceof CardRemovalWaiterNonBlockingSpi
+            || readerSpi instanceof WaitForCardRemovalNonBlockingSpi)) {
+      this.states.put(
+          AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_REMOVAL,
+          new WaitForCardRemovalStateAdapter(
+              this.reader,
+              new BatchCardPresenceMonitoringJobAdapter(
+                  reader, reader.getBatchCardPresenceMonitor(), false),
+              this.executorService));
     } else if (readerSpi instanceof CardRemovalWaiterNonBlockingSpi
         || readerSpi instanceof WaitForCardRemovalNonBlockingSpi) {
       int sleepDurationMillis =
@@ -157,32 +264,148 @@ final class ObservableReaderStateServiceAdapter {
    * Thread safe method to communicate an internal event to this reader Use this method to inform
    * the reader of external event like a tag discovered or a card inserted
    *
+   * <p>The event is enqueued and processed asynchronously by the event loop of the reader, after
+   * the events previously communicated, the method returns immediately.
+   *
    * @param event internal event
    * @since 2.0.0
    */
-  synchronized void onEvent(ObservableLocalReaderAdapter.InternalEvent event) {
-    switch (event) {
-      case CARD_INSERTED:
-      case CARD_REMOVED:
-      case CARD_PROCESSED:
-      case STOP_DETECT: // Manage during the switchState() method call
-      case TIME_OUT:
-        break;
-      case START_DETECT:
-        readerSpi.onStartDetection();
-        break;
+  void onEvent(ObservableLocalReaderAdapter.InternalEvent event) {
+    postEvent(new PendingEvent(event, null));
+  }
+
+  /**
+   * Thread safe method to communicate an internal event detected by a monitoring job of the
+   * provided state.
+   *
+   * <p>The event is ignored if the provided state is no longer the current state when it is
+   * processed.
+   *
+   * @param event internal event
+   * @param monitoringState The state of the monitoring job.
+   * @since 3.4.0
+   */
+  void onEvent(
+      ObservableLocalReaderAdapter.InternalEvent event,
+      AbstractObservableStateAdapter.MonitoringState monitoringState) {
+    postEvent(new PendingEvent(event, monitoringState));
+  }
+
+  /**
+   * Enqueues a pending event and schedules the event loop if it is not already running.
+   *
+   * @param pendingEvent The pending event.
+   */
+  private void postEvent(PendingEvent pendingEvent) {
+    mailbox.offer(pendingEvent);
+    if (pendingEventCount.getAndIncrement() == 0) {
+      EVENT_LOOP_EXECUTOR_SERVICE.execute(eventLoop);
     }
-    this.currentState.onEvent(event);
   }
 
   /**
-   * Thread safe method to switch the state of this reader should only be invoked by this reader or
-   * its state
+   * Processes the pending events one at a time until the mailbox is empty.
+   *
+   * <p>Only one thread at a time runs this method for a given reader.
+   */
+  private void processPendingEvents() {
+    do {
+      eventLoopThread = Thread.currentThread();
+      try {
+        processEvent(mailbox.poll());
+      } finally {
+        eventLoopThread = null;
+      }
+    } while (pendingEventCount.decrementAndGet() != 0);
+  }
+
+  /**
+   * Processes an event against the current state.
+   *
+   * <p>Any runtime exception is notified to the application using the exception handler.
+   *
+   * @param pendingEvent The pending event.
+   */
+  private void processEvent(PendingEvent pendingEvent) {
+    if (isShutdown) {
+      // the monitoring has ended, the executor service can no longer run a monitoring job
+      if (logger.isDebugEnabled()) {
+        logger.debug(
+            "Internal event [{}] ignored for reader [{}] after the end of its monitoring",
+            pendingEvent == SHUTDOWN ? "SHUTDOWN" : pendingEvent.event,
+            reader.getName());
+      }
+      return;
+    }
+    if (pendingEvent == SHUTDOWN) {
+      isShutdown = true;
+      executorService.shutdown();
+      shutdownLatch.countDown();
+      return;
+    }
+    if (pendingEvent.monitoringState != null
+        && pendingEvent.monitoringState != currentState.getMonitoringState()) {
+      if (logger.isTraceEnabled()) {
+        logger.trace(
+            "Internal event [{}] of state [{}] ignored for reader [{}] in current state [{}]",
+            pendingEvent.event,
+            pendingEvent.monitoringState,
+            reader.getName(),
+            currentState.getMonitoringState());
+      }
+      return;
+    }
+    try {
+      switch (pendingEvent.event) {
+        case CARD_INSERTED:
+        case CARD_REMOVED:
+          reader.setEventDetectionNanos(pendingEvent.postingNanos);
+          break;
+        case CARD_PROCESSED:
+        case STOP_DETECT: // Manage during the switchState() method call
+        case TIME_OUT:
+          break;
+        case START_DETECT:
+          readerSpi.onStartDetection();
+          break;
+      }
+      this.currentState.onEvent(pendingEvent.event);
+    } catch (RuntimeException e) {
+      reader
+          .getObservationExceptionHandler()
+          .onReaderObservationError(reader.getPluginName(), reader.getName(), e);
+    } finally {
+      reader.setEventDetectionNanos(0);
+    }
+  }
+
+  /**
+   * Method to switch the state of this reader should only be invoked by this reader or its state,
+   * from the event loop of the reader
    *
    * @param stateId next state to onActivate
    * @since 2.0.0
    */
-  synchronized void switchState(AbstractObservableStateAdapter.MonitoringState stateId) {
+  void switchState(AbstractObservableStateAdapter.MonitoringState stateId) {
+
+    Object flightRecorderEvent = FlightRecorderEvents.beginStateSwitch();
+    String fromState = currentState != null ? currentState.getMonitoringState().name() : null;
+    boolean isSwitched = false;
+    try {
+      doSwitchState(stateId);
+      isSwitched = true;
+    } finally {
+      FlightRecorderEvents.commitStateSwitch(
+          flightRecorderEvent, reader.getName(), fromState, stateId.name(), isSwitched);
+    }
+  }
+
+  /**
+   * Switches the state of this reader.
+   *
+   * @param stateId next state to onActivate
+   */
+  private void doSwitchState(AbstractObservableStateAdapter.MonitoringState stateId) {
 
     if (currentState != null) {
       if (logger.isTraceEnabled()) {
@@ -193,6 +416,10 @@ synchronized void switchState(AbstractObservableStateAdapter.MonitoringState sta
             stateId);
       }
       currentState.onDeactivate();
+      if (cardProcessingWatchdog != null) {
+        cardProcessingWatchdog.cancel(false);
+        cardProcessingWatchdog = null;
+      }
     } else {
       if (logger.isTraceEnabled()) {
         logger.trace("Switch state of reader [{}] to {}", this.reader.getName(), stateId);
@@ -208,8 +435,32 @@ synchronized void switchState(AbstractObservableStateAdapter.MonitoringState sta
       readerSpi.onStopDetection();
     }
 
+    // The card is considered absent while waiting for its insertion, any card already present
+    // being notified by the monitoring job.
+    if (stateId == AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_INSERTION) {
+      reader.updateCardPresenceCache(false);
+    }
+
     // onActivate the new current state
     currentState.onActivate();
+
+    // As soon as the state machine enters the WAIT_FOR_CARD_PROCESSING state,
+    // we arm the card processing watchdog if a timeout is set.
+    long cardProcessingTimeoutMillis = reader.getCardProcessingTimeoutMillis();
+    if (stateId == AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_PROCESSING
+        && cardProcessingTimeoutMillis > 0) {
+      cardProcessingWatchdog =
+          MonitoringScheduler.schedule(
+              new Runnable() {
+                @Override
+                public void run() {
+                  onEvent(
+                      ObservableLocalReaderAdapter.InternalEvent.TIME_OUT,
+                      AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_PROCESSING);
+                }
+              },
+              cardProcessingTimeoutMillis);
+    }
   }
 
   /**
@@ -218,7 +469,7 @@ synchronized void switchState(AbstractObservableStateAdapter.MonitoringState sta
    * @return reader current state
    * @since 2.0.0
    */
-  synchronized AbstractObservableStateAdapter getCurrentState() {
+  AbstractObservableStateAdapter getCurrentState() {
     return currentState;
   }
 
@@ -228,7 +479,7 @@ synchronized AbstractObservableStateAdapter getCurrentState() {
    * @return current monitoring state
    * @since 2.0.0
    */
-  synchronized AbstractObservableStateAdapter.MonitoringState getCurrentMonitoringState() {
+  AbstractObservableStateAdapter.MonitoringState getCurrentMonitoringState() {
     return this.currentState.getMonitoringState();
   }
 
@@ -238,9 +489,50 @@ synchronized AbstractObservableStateAdapter.MonitoringState getCurrentMonitoring
    * <p>This method should be invoked when the reader monitoring ends in order to stop any remaining
    * threads.
    *
+   * <p>The shutdown is processed by the event loop after the events previously communicated. Unless
+   * invoked from the event loop itself (e.g. by an observer), the method waits for it, at most
+   * {@link #SHUTDOWN_TIMEOUT_MILLIS} ms. The events communicated afterward are ignored.
+   *
    * @since 2.0.0
    */
   void shutdown() {
-    executorService.shutdown();
+    postEvent(SHUTDOWN);
+    if (Thread.currentThread() != eventLoopThread) {
+      boolean isProcessed = false;
+      try {
+        isProcessed = shutdownLatch.await(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (!isProcessed) {
+        // the loop is abandoned, it will end the monitoring when the current event is processed
+        logger.warn(
+            "The event loop of reader [{}] did not process the shutdown request within {} ms",
+            reader.getName(),
+            SHUTDOWN_TIMEOUT_MILLIS);
+      }
+    }
+  }
+
+  /** An internal event waiting in the mailbox. */
+  private static final class PendingEvent {
+
+    private final ObservableLocalReaderAdapter.InternalEvent event;
+    private final AbstractObservableStateAdapter.MonitoringState monitoringState;
+    private final long postingNanos = System.nanoTime();
+
+    /**
+     * Constructor.
+     *
+     * @param event The internal event.
+     * @param monitoringState The state of the monitoring job having detected the event, null if
+     *     the event applies to the current state whatever it is.
+     */
+    private PendingEvent(
+        ObservableLocalReaderAdapter.InternalEvent event,
+        AbstractObservableStateAdapter.MonitoringState monitoringState) {
+      this.event = event;
+      this.monitoringState = monitoringState;
+    }
   }
 }
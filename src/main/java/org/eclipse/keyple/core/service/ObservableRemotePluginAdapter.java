@@ -256,7 +256,7 @@ public void addRemoteReader(RemoteReaderSpi remoteReaderSpi, int clientCoreApiLe
     }
 
     // Register the reader.
-    getReadersMap().put(remoteReaderAdapter.getName(), remoteReaderAdapter);
+    putReader(remoteReaderAdapter.getName(), remoteReaderAdapter);
     remoteReaderAdapter.register();
 
     // Notify observers for a plugin event.
@@ -281,7 +281,7 @@ public void removeRemoteReader(String remoteReaderName) {
     CardReader reader = getReader(remoteReaderName);
 
     if (reader instanceof RemoteReaderAdapter) {
-      getReadersMap().remove(reader.getName());
+      removeReaderByKey(reader.getName());
       ((RemoteReaderAdapter) reader).unregister();
     } else {
       throw new IllegalArgumentException("Reader is not found, not registered or not remote");
@@ -0,0 +1,125 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import org.eclipse.keyple.core.util.Assert;
+
+/**
+ * Policy defining how the events of an observable local reader are delivered to its observers.
+ *
+ * <p>By default, the observers are notified synchronously by the thread processing the events of
+ * the reader, which thus waits for each observer before detecting the next card. With an
+ * asynchronous policy, each observer has its own bounded queue of pending events, delivered in
+ * order by its own worker, and the reader never waits for the application code, unless the queue
+ * of an observer is full and the overflow policy is {@link OverflowPolicy#BLOCK}.
+ *
+ * @see SmartCardService#setObserverDispatchPolicy(org.eclipse.keypop.reader.CardReader,
+ *     ObserverDispatchPolicy)
+ * @since 3.4.0
+ */
+public final class ObserverDispatchPolicy {
+
+  /**
+   * Behavior of the reader when the queue of an observer is full.
+   *
+   * @since 3.4.0
+   */
+  public enum OverflowPolicy {
+    /**
+     * The reader waits until the observer has consumed an event.
+     *
+     * @since 3.4.0
+     */
+    BLOCK,
+    /**
+     * The oldest pending event of the observer is dropped.
+     *
+     * @since 3.4.0
+     */
+    DROP_OLDEST,
+    /**
+     * The oldest pending card insertion event ({@code CARD_INSERTED} or {@code CARD_MATCHED})
+     * followed by the removal of the same card ({@code CARD_REMOVED}) is dropped along with this
+     * removal, the card being already gone. If there is no such pair, the oldest pending event is
+     * dropped.
+     *
+     * @since 3.4.0
+     */
+    COALESCE
+  }
+
+  private final int queueCapacity;
+  private final OverflowPolicy overflowPolicy;
+
+  /**
+   * Constructor.
+   *
+   * @param queueCapacity The capacity of the queue of each observer.
+   * @param overflowPolicy The overflow policy.
+   */
+  private ObserverDispatchPolicy(int queueCapacity, OverflowPolicy overflowPolicy) {
+    this.queueCapacity = queueCapacity;
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  /**
+   * Creates a policy delivering the events asynchronously to each observer through a bounded queue.
+   *
+   * @param queueCapacity The maximum number of pending events per observer.
+   * @param overflowPolicy The behavior when the queue of an observer is full.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the capacity is not strictly positive or if the overflow
+   *     policy is null.
+   * @since 3.4.0
+   */
+  public static ObserverDispatchPolicy asynchronous(
+      int queueCapacity, OverflowPolicy overflowPolicy) {
+    Assert.getInstance()
+        .isTrue(queueCapacity > 0, "queueCapacity")
+        .notNull(overflowPolicy, "overflowPolicy");
+    return new ObserverDispatchPolicy(queueCapacity, overflowPolicy);
+  }
+
+  /**
+   * Gets the maximum number of pending events per observer.
+   *
+   * @return A strictly positive value.
+   * @since 3.4.0
+   */
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  /**
+   * Gets the behavior when the queue of an observer is full.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public String toString() {
+    return "ObserverDispatchPolicy{queueCapacity="
+        + queueCapacity
+        + ", overflowPolicy="
+        + overflowPolicy
+        + '}';
+  }
+}
@@ -0,0 +1,336 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.keypop.reader.CardReaderEvent;
+import org.eclipse.keypop.reader.spi.CardReaderObserverSpi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous delivery of the events of an observable local reader to its observers, according to
+ * an {@link ObserverDispatchPolicy}.
+ *
+ * <p>Each observer has its own bounded queue, emptied in order by its own delivery worker running
+ * on a shared pool of daemon threads only while events are pending.
+ *
+ * <p>The dispatcher of a reader is kept when its policy changes, so that the events are always
+ * delivered to an observer in their notification order: the queues are kept with their pending
+ * events and, once the synchronous notification is restored, an event is only delivered in the
+ * notifying thread if no event is still pending for the observer.
+ *
+ * @since 3.4.0
+ */
+final class ObserverDispatcher {
+
+  private static final Logger logger = LoggerFactory.getLogger(ObserverDispatcher.class);
+
+  /** Delay after which an idle delivery thread is released */
+  private static final long IDLE_THREAD_KEEP_ALIVE_MILLIS = 1000;
+
+  private static final ExecutorService DELIVERY_EXECUTOR_SERVICE =
+      new ThreadPoolExecutor(
+          0,
+          Integer.MAX_VALUE,
+          IDLE_THREAD_KEEP_ALIVE_MILLIS,
+          TimeUnit.MILLISECONDS,
+          new SynchronousQueue<Runnable>(),
+          new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+              Thread thread =
+                  new Thread(runnable, "keyple-observer-delivery-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+
+  private final ObservableLocalReaderAdapter reader;
+  private volatile ObserverDispatchPolicy dispatchPolicy;
+  private final Map<CardReaderObserverSpi, ObserverQueue> observerQueues =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param reader The reader.
+   * @param dispatchPolicy The dispatch policy.
+   * @since 3.4.0
+   */
+  ObserverDispatcher(ObservableLocalReaderAdapter reader, ObserverDispatchPolicy dispatchPolicy) {
+    this.reader = reader;
+    this.dispatchPolicy = dispatchPolicy;
+  }
+
+  /**
+   * Sets the dispatch policy, applied to the events notified afterward.
+   *
+   * @param dispatchPolicy The dispatch policy, null to notify the observers synchronously.
+   * @since 3.4.0
+   */
+  void setDispatchPolicy(ObserverDispatchPolicy dispatchPolicy) {
+    this.dispatchPolicy = dispatchPolicy;
+  }
+
+  /**
+   * Enqueues an event for each of the provided observers, or delivers it in the current thread to
+   * the observers having no pending event if the notification is synchronous.
+   *
+   * <p>The queues of the observers no longer present are forgotten once their pending events are
+   * delivered.
+   *
+   * @param observers The current observers.
+   * @param event The event.
+   * @since 3.4.0
+   */
+  void dispatch(Set<CardReaderObserverSpi> observers, CardReaderEvent event) {
+    long notificationNanos = System.nanoTime();
+    ObserverDispatchPolicy currentDispatchPolicy = dispatchPolicy;
+    observerQueues.keySet().retainAll(observers);
+    for (CardReaderObserverSpi observer : observers) {
+      ObserverQueue observerQueue = observerQueues.get(observer);
+      if (currentDispatchPolicy == null) {
+        // synchronous notification, queued behind the events still pending if any
+        if (observerQueue == null
+            || !observerQueue.offerIfDelivering(
+                new PendingNotification(event, notificationNanos))) {
+          reader.notifyObserver(observer, event, notificationNanos);
+        }
+        continue;
+      }
+      if (observerQueue == null) {
+        ObserverQueue newObserverQueue =
+            new ObserverQueue(observer, currentDispatchPolicy.getQueueCapacity());
+        observerQueue = observerQueues.putIfAbsent(observer, newObserverQueue);
+        if (observerQueue == null) {
+          observerQueue = newObserverQueue;
+        }
+      }
+      observerQueue.offer(new PendingNotification(event, notificationNanos), currentDispatchPolicy);
+    }
+  }
+
+  /** An event waiting to be delivered to an observer. */
+  private static final class PendingNotification {
+
+    private final CardReaderEvent event;
+    private final long notificationNanos;
+
+    private PendingNotification(CardReaderEvent event, long notificationNanos) {
+      this.event = event;
+      this.notificationNanos = notificationNanos;
+    }
+  }
+
+  /** The bounded queue of an observer and its delivery worker. */
+  private final class ObserverQueue implements Runnable {
+
+    private final CardReaderObserverSpi observer;
+    private final ArrayDeque<PendingNotification> pendingNotifications;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private boolean isDelivering;
+    private volatile Thread deliveryThread;
+
+    private ObserverQueue(CardReaderObserverSpi observer, int initialCapacity) {
+      this.observer = observer;
+      this.pendingNotifications = new ArrayDeque<>(initialCapacity);
+    }
+
+    /**
+     * Enqueues a notification, applying the overflow policy if the queue is full, then starts the
+     * delivery worker if it is not running.
+     *
+     * @param pendingNotification The notification.
+     * @param currentDispatchPolicy The current dispatch policy.
+     */
+    private void offer(
+        PendingNotification pendingNotification, ObserverDispatchPolicy currentDispatchPolicy) {
+      lock.lock();
+      try {
+        if (pendingNotifications.size() >= currentDispatchPolicy.getQueueCapacity()
+            && !makeRoom(pendingNotification, currentDispatchPolicy)) {
+          return;
+        }
+        pendingNotifications.add(pendingNotification);
+        reader.getMetrics().recordObserverQueueDepthChange(1);
+        if (!isDelivering) {
+          isDelivering = true;
+          DELIVERY_EXECUTOR_SERVICE.execute(this);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Enqueues a notification only if the delivery worker is still running, i.e. if some events
+     * notified previously may not have been delivered yet.
+     *
+     * <p>The queue is not bounded in this case, the synchronous notification having no overflow
+     * policy.
+     *
+     * @param pendingNotification The notification.
+     * @return False if the notification has not been enqueued and must be delivered by the caller.
+     */
+    private boolean offerIfDelivering(PendingNotification pendingNotification) {
+      lock.lock();
+      try {
+        if (!isDelivering) {
+          return false;
+        }
+        pendingNotifications.add(pendingNotification);
+        reader.getMetrics().recordObserverQueueDepthChange(1);
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Applies the overflow policy to a full queue.
+     *
+     * <p>A notification issued by the worker of the observer itself (e.g. when the observer
+     * checks the card presence) is enqueued beyond the capacity instead of blocking.
+     *
+     * @param pendingNotification The notification to enqueue.
+     * @param currentDispatchPolicy The current dispatch policy.
+     * @return False if the notification must be discarded.
+     */
+    private boolean makeRoom(
+        PendingNotification pendingNotification, ObserverDispatchPolicy currentDispatchPolicy) {
+      switch (currentDispatchPolicy.getOverflowPolicy()) {
+        case BLOCK:
+          if (Thread.currentThread() == deliveryThread) {
+            return true;
+          }
+          try {
+            while (pendingNotifications.size() >= currentDispatchPolicy.getQueueCapacity()) {
+              notFull.await();
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discard(pendingNotification, false);
+            return false;
+          }
+          return true;
+        case COALESCE:
+          if (discardCardInsertionAndRemovalPair()) {
+            return true;
+          }
+          discard(pendingNotifications.poll(), true);
+          return true;
+        default:
+          discard(pendingNotifications.poll(), true);
+          return true;
+      }
+    }
+
+    /**
+     * Removes the oldest pending card insertion immediately followed by a card removal.
+     *
+     * @return False if there is no such pair.
+     */
+    private boolean discardCardInsertionAndRemovalPair() {
+      Iterator<PendingNotification> iterator = pendingNotifications.iterator();
+      PendingNotification previous = null;
+      while (iterator.hasNext()) {
+        PendingNotification current = iterator.next();
+        if (previous != null
+            && current.event.getType() == CardReaderEvent.Type.CARD_REMOVED
+            && (previous.event.getType() == CardReaderEvent.Type.CARD_INSERTED
+                || previous.event.getType() == CardReaderEvent.Type.CARD_MATCHED)) {
+          iterator.remove();
+          pendingNotifications.removeFirstOccurrence(previous);
+          discard(previous, true);
+          discard(current, true);
+          return true;
+        }
+        previous = current;
+      }
+      return false;
+    }
+
+    /**
+     * Records a notification discarded by the overflow policy.
+     *
+     * @param pendingNotification The notification.
+     * @param isQueued True if the notification has been removed from the queue.
+     */
+    private void discard(PendingNotification pendingNotification, boolean isQueued) {
+      if (isQueued) {
+        reader.getMetrics().recordObserverQueueDepthChange(-1);
+      }
+      reader.getMetrics().recordObserverEventDrop();
+      if (logger.isDebugEnabled()) {
+        logger.debug(
+            "Reader [{}] drops event [{}] for observer [{}] (queue full)",
+            reader.getName(),
+            pendingNotification.event.getType().name(),
+            observer.getClass().getSimpleName());
+      }
+    }
+
+    /**
+     * Delivers the pending notifications in order until the queue is empty.
+     *
+     * @since 3.4.0
+     */
+    @Override
+    public void run() {
+      deliveryThread = Thread.currentThread();
+      PendingNotification pendingNotification;
+      while ((pendingNotification = poll()) != null) {
+        reader.notifyObserver(
+            observer, pendingNotification.event, pendingNotification.notificationNanos);
+      }
+    }
+
+    /**
+     * Takes the next notification, or ends the delivery if the queue is empty.
+     *
+     * @return Null if the queue is empty.
+     */
+    private PendingNotification poll() {
+      lock.lock();
+      try {
+        PendingNotification pendingNotification = pendingNotifications.poll();
+        if (pendingNotification == null) {
+          // a new worker may start as soon as the lock is released
+          deliveryThread = null;
+          isDelivering = false;
+        } else {
+          reader.getMetrics().recordObserverQueueDepthChange(-1);
+          notFull.signal();
+        }
+        return pendingNotification;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Outcome of the registration of a plugin performed by {@link
+ * SmartCardService#registerPluginsAsync(java.util.List)}.
+ *
+ * @since 3.4.0
+ */
+public final class PluginRegistration {
+
+  private final Plugin plugin;
+  private final long registrationDurationNanos;
+
+  /**
+   * Constructor.
+   *
+   * @param plugin The registered plugin.
+   * @param registrationDurationNanos The duration of the registration.
+   * @since 3.4.0
+   */
+  PluginRegistration(Plugin plugin, long registrationDurationNanos) {
+    this.plugin = plugin;
+    this.registrationDurationNanos = registrationDurationNanos;
+  }
+
+  /**
+   * Gets the registered plugin.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  public Plugin getPlugin() {
+    return plugin;
+  }
+
+  /**
+   * Gets the duration of the registration of the plugin, from the creation of the plugin by its
+   * factory to the end of the registration of its readers.
+   *
+   * @return The duration in nanoseconds.
+   * @since 3.4.0
+   */
+  public long getRegistrationDurationNanos() {
+    return registrationDurationNanos;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public String toString() {
+    return "PluginRegistration{pluginName="
+        + plugin.getName()
+        + ", registrationDurationNanos="
+        + registrationDurationNanos
+        + '}';
+  }
+}
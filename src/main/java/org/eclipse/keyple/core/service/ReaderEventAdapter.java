@@ -27,6 +27,9 @@ final class ReaderEventAdapter implements CardReaderEvent {
 
   private final Type type;
 
+  /* Local timestamps, not serialized: null for an event received from a remote reader */
+  private transient ReaderEventTimestampsAdapter timestamps;
+
   /**
    * CardReaderEvent constructor for simple insertion notification mode
    *
@@ -42,10 +45,39 @@ final class ReaderEventAdapter implements CardReaderEvent {
       String readerName,
       Type type,
       ScheduledCardSelectionsResponse scheduledCardSelectionsResponse) {
+    this(
+        pluginName,
+        readerName,
+        type,
+        scheduledCardSelectionsResponse,
+        new ReaderEventTimestampsAdapter(0));
+  }
+
+  /**
+   * CardReaderEvent constructor completing the timestamps of the phases preceding the creation of
+   * the event.
+   *
+   * @param pluginName The name of the current plugin (should be not null).
+   * @param readerName The name of the current reader (should be not null).
+   * @param type The type of event (should be not null).
+   * @param scheduledCardSelectionsResponse The responses received during the execution of the card
+   *     selection scenario (can be null).
+   * @param timestamps The timestamps of the phases preceding the creation of the event (should be
+   *     not null).
+   * @since 3.4.0
+   */
+  ReaderEventAdapter(
+      String pluginName,
+      String readerName,
+      Type type,
+      ScheduledCardSelectionsResponse scheduledCardSelectionsResponse,
+      ReaderEventTimestampsAdapter timestamps) {
     this.pluginName = pluginName;
     this.readerName = readerName;
     this.type = type;
     this.scheduledCardSelectionsResponse = scheduledCardSelectionsResponse;
+    this.timestamps = timestamps;
+    timestamps.setCreationNanos(System.nanoTime());
   }
 
   /**
@@ -58,6 +90,22 @@ String getPluginName() {
     return pluginName;
   }
 
+  /**
+   * Returns the timestamps of the processing phases of the event.
+   *
+   * <p>The timestamps are not serialized: those of an event received from a remote reader are
+   * created on first access and only contain the local phases (delivery to the observers).
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  synchronized ReaderEventTimestampsAdapter getTimestamps() {
+    if (timestamps == null) {
+      timestamps = new ReaderEventTimestampsAdapter(0);
+    }
+    return timestamps;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -0,0 +1,72 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.List;
+
+/**
+ * Timestamps of the processing phases of an event notified by an observable local reader.
+ *
+ * <p>The timestamps are monotonic values provided by {@link System#nanoTime()}, they are only
+ * meaningful relative to each other. A timestamp equal to 0 means that the phase did not occur for
+ * the event.
+ *
+ * <p>The durations between the phases are also aggregated in the {@link ReaderMetrics} of the
+ * reader.
+ *
+ * @see SmartCardService#getReaderEventTimestamps(org.eclipse.keypop.reader.CardReaderEvent)
+ * @since 3.4.0
+ */
+public interface ReaderEventTimestamps {
+
+  /**
+   * Returns the time at which the card insertion or removal was detected.
+   *
+   * @return 0 if the event does not result from a detection.
+   * @since 3.4.0
+   */
+  long getDetectionNanos();
+
+  /**
+   * Returns the time at which the physical channel was opened to process the card selection
+   * scenario.
+   *
+   * @return 0 if the physical channel was not opened while processing the event.
+   * @since 3.4.0
+   */
+  long getPhysicalChannelOpeningNanos();
+
+  /**
+   * Returns the end time of each selection attempt of the card selection scenario, in the order of
+   * the attempts.
+   *
+   * @return A not null reference, empty if no selection has been attempted.
+   * @since 3.4.0
+   */
+  List<Long> getSelectionAttemptNanos();
+
+  /**
+   * Returns the time at which the event was built.
+   *
+   * @return A value different from 0.
+   * @since 3.4.0
+   */
+  long getCreationNanos();
+
+  /**
+   * Returns the time at which the event was handed over to the first observer.
+   *
+   * @return 0 if the event has not yet been delivered.
+   * @since 3.4.0
+   */
+  long getDeliveryNanos();
+}
@@ -0,0 +1,156 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of {@link ReaderEventTimestamps}.
+ *
+ * <p>The timestamps preceding the creation of the event are set by the event loop of the reader
+ * only, before the event is published to the observers.
+ *
+ * @since 3.4.0
+ */
+final class ReaderEventTimestampsAdapter implements ReaderEventTimestamps {
+
+  private final long detectionNanos;
+  private long physicalChannelOpeningNanos;
+  private final List<Long> selectionAttemptNanos = new ArrayList<>(1);
+  private long creationNanos;
+  private final AtomicLong deliveryNanos = new AtomicLong();
+
+  /**
+   * Constructor.
+   *
+   * @param detectionNanos The detection time, 0 if the event does not result from a detection.
+   * @since 3.4.0
+   */
+  ReaderEventTimestampsAdapter(long detectionNanos) {
+    this.detectionNanos = detectionNanos;
+  }
+
+  /**
+   * Sets the time at which the physical channel was opened.
+   *
+   * @param physicalChannelOpeningNanos The time.
+   * @since 3.4.0
+   */
+  void setPhysicalChannelOpeningNanos(long physicalChannelOpeningNanos) {
+    this.physicalChannelOpeningNanos = physicalChannelOpeningNanos;
+  }
+
+  /**
+   * Adds the end time of a selection attempt.
+   *
+   * @param nanos The time.
+   * @since 3.4.0
+   */
+  void addSelectionAttemptNanos(long nanos) {
+    selectionAttemptNanos.add(nanos);
+  }
+
+  /**
+   * Sets the time at which the event was built.
+   *
+   * @param creationNanos The time.
+   * @since 3.4.0
+   */
+  void setCreationNanos(long creationNanos) {
+    this.creationNanos = creationNanos;
+  }
+
+  /**
+   * Sets the time at which the event was handed over to an observer, unless it has already been
+   * handed over to another observer.
+   *
+   * @param nanos The time.
+   * @return True if it is the first delivery of the event.
+   * @since 3.4.0
+   */
+  boolean setDeliveryNanos(long nanos) {
+    return deliveryNanos.compareAndSet(0, nanos);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public long getDetectionNanos() {
+    return detectionNanos;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public long getPhysicalChannelOpeningNanos() {
+    return physicalChannelOpeningNanos;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public List<Long> getSelectionAttemptNanos() {
+    return Collections.unmodifiableList(selectionAttemptNanos);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public long getCreationNanos() {
+    return creationNanos;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public long getDeliveryNanos() {
+    return deliveryNanos.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public String toString() {
+    return "ReaderEventTimestamps{detectionNanos="
+        + detectionNanos
+        + ", physicalChannelOpeningNanos="
+        + physicalChannelOpeningNanos
+        + ", selectionAttemptNanos="
+        + selectionAttemptNanos
+        + ", creationNanos="
+        + creationNanos
+        + ", deliveryNanos="
+        + deliveryNanos
+        + '}';
+  }
+}
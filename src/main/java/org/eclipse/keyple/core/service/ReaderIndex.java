@@ -0,0 +1,118 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.keypop.reader.CardReader;
+
+/**
+ * Service-wide index of the readers of all plugins, by name and by reference.
+ *
+ * <p>The index is updated by the plugins each time a reader is added to or removed from their
+ * list. Lookups are lock-free, updates are serialized. Several plugins may expose readers with the
+ * same name, all of them are then kept under this name.
+ *
+ * @since 3.4.0
+ */
+final class ReaderIndex {
+
+  private static final CardReader[] NO_READERS = new CardReader[0];
+
+  private final Map<String, CardReader[]> readersByName = new ConcurrentHashMap<>();
+  private final Map<CardReader, AbstractPluginAdapter> pluginsByReader =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Adds a reader to the index.
+   *
+   * @param reader The reader.
+   * @param plugin The plugin owning the reader.
+   * @since 3.4.0
+   */
+  synchronized void add(CardReader reader, AbstractPluginAdapter plugin) {
+    if (pluginsByReader.put(reader, plugin) != null) {
+      return;
+    }
+    CardReader[] readers = readersByName.get(reader.getName());
+    if (readers == null) {
+      readersByName.put(reader.getName(), new CardReader[] {reader});
+    } else {
+      CardReader[] newReaders = Arrays.copyOf(readers, readers.length + 1);
+      newReaders[readers.length] = reader;
+      readersByName.put(reader.getName(), newReaders);
+    }
+  }
+
+  /**
+   * Removes a reader from the index.
+   *
+   * @param reader The reader.
+   * @since 3.4.0
+   */
+  synchronized void remove(CardReader reader) {
+    if (pluginsByReader.remove(reader) == null) {
+      return;
+    }
+    CardReader[] readers = readersByName.get(reader.getName());
+    if (readers == null) {
+      return;
+    }
+    if (readers.length == 1) {
+      readersByName.remove(reader.getName());
+      return;
+    }
+    CardReader[] newReaders = new CardReader[readers.length - 1];
+    int i = 0;
+    for (CardReader r : readers) {
+      if (r != reader && i < newReaders.length) {
+        newReaders[i++] = r;
+      }
+    }
+    readersByName.put(reader.getName(), newReaders);
+  }
+
+  /**
+   * Gets the readers having the provided name.
+   *
+   * @param readerName The name of the reader.
+   * @return A not null array, empty if no reader has this name. It must not be modified.
+   * @since 3.4.0
+   */
+  CardReader[] getReaders(String readerName) {
+    CardReader[] readers = readersByName.get(readerName);
+    return readers != null ? readers : NO_READERS;
+  }
+
+  /**
+   * Gets the plugin owning the provided reader.
+   *
+   * @param reader The reader.
+   * @return Null if the reader is not indexed.
+   * @since 3.4.0
+   */
+  AbstractPluginAdapter getPlugin(CardReader reader) {
+    return pluginsByReader.get(reader);
+  }
+
+  /**
+   * Gets a live view of the names of all indexed readers.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  Set<String> getReaderNames() {
+    return readersByName.keySet();
+  }
+}
@@ -0,0 +1,71 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import org.eclipse.keypop.reader.CardReader;
+
+/**
+ * Exclusive use of a reader granted to the current thread.
+ *
+ * <p>A reader shared by several threads (e.g. a SAM reader used by a pool of workers) keeps a
+ * state (logical channel, current protocol...) which must not be modified concurrently. All the
+ * threads using the reader have to acquire a lease before communicating with the card and close it
+ * afterwards, typically with a <i>try-with-resources</i> statement:
+ *
+ * <pre>{@code
+ * try (ReaderLease lease = smartCardService.acquireReaderLease(samReader, 1000)) {
+ *   // card transactions on samReader
+ * }
+ * }</pre>
+ *
+ * <p>The leases are granted in the order of the requests. Closing a lease releases the physical
+ * channel of the reader, so that the next holder starts from a known state.
+ *
+ * <p>While a lease is held, the operations of the other threads modifying the state of the reader
+ * (card requests, card selections, channel release) wait for its end, whether these threads use
+ * leases or not.
+ * This includes the card selection scenario processed by an observable reader when a card is
+ * inserted, whose notification is thus delayed until the end of the lease, and the asynchronous
+ * exchanges of {@link AsynchronousProxyReader}, executed by other threads. Therefore, the holder of
+ * a lease must not submit asynchronous exchanges to the leased reader: they are rejected with an
+ * {@link IllegalStateException}.
+ *
+ * @see SmartCardService#acquireReaderLease(CardReader, long)
+ * @since 3.4.0
+ */
+public interface ReaderLease extends AutoCloseable {
+
+  /**
+   * Returns the leased reader.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  CardReader getReader();
+
+  /**
+   * Releases the physical channel of the reader and ends the exclusive use of the reader.
+   *
+   * <p>Nested leases acquired by the same thread are supported, the physical channel is released
+   * only when the outermost lease is closed.
+   *
+   * <p>This method has no effect if the lease is already closed.
+   *
+   * @throws org.eclipse.keypop.reader.ReaderCommunicationException If the physical channel could
+   *     not be released. The lease is closed anyway.
+   * @throws IllegalStateException If called from another thread than the one which acquired the
+   *     lease.
+   * @since 3.4.0
+   */
+  @Override
+  void close();
+}
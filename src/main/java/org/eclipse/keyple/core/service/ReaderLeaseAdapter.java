@@ -0,0 +1,68 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import org.eclipse.keypop.reader.CardReader;
+
+/**
+ * Implementation of {@link ReaderLease}.
+ *
+ * @since 3.4.0
+ */
+final class ReaderLeaseAdapter implements ReaderLease {
+
+  private final AbstractReaderAdapter reader;
+  private final long acquisitionNanos;
+  private final Thread ownerThread;
+  private boolean isClosed;
+
+  /**
+   * Constructor.
+   *
+   * @param reader The leased reader.
+   * @param acquisitionNanos The acquisition time, as provided by {@link System#nanoTime()}.
+   * @since 3.4.0
+   */
+  ReaderLeaseAdapter(AbstractReaderAdapter reader, long acquisitionNanos) {
+    this.reader = reader;
+    this.acquisitionNanos = acquisitionNanos;
+    this.ownerThread = Thread.currentThread();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public CardReader getReader() {
+    return reader;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public void close() {
+    if (Thread.currentThread() != ownerThread) {
+      throw new IllegalStateException(
+          "The lease of the reader " + reader.getName() + " is owned by another thread");
+    }
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+    reader.releaseLease(acquisitionNanos);
+  }
+}
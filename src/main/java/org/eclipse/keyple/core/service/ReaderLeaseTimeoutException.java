@@ -0,0 +1,39 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Indicates that the lease of a reader could not be acquired within the provided timeout, or that
+ * the waiting thread has been interrupted.
+ *
+ * @see SmartCardService#acquireReaderLease(org.eclipse.keypop.reader.CardReader, long)
+ * @since 3.4.0
+ */
+public class ReaderLeaseTimeoutException extends RuntimeException {
+
+  /**
+   * @param message the message to identify the exception context
+   * @since 3.4.0
+   */
+  public ReaderLeaseTimeoutException(String message) {
+    super(message);
+  }
+
+  /**
+   * @param message the message to identify the exception context
+   * @param cause the cause
+   * @since 3.4.0
+   */
+  public ReaderLeaseTimeoutException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
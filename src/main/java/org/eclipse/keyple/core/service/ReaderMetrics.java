@@ -0,0 +1,231 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Always-on performance metrics of a reader.
+ *
+ * <p>The metrics are collected since the registration of the reader, regardless of the logging
+ * configuration. They are only collected for local readers: all the metrics of a remote reader
+ * remain at zero, its performance being measured by the local service hosting the actual reader.
+ *
+ * <p>Each latency histogram allocates about 7 KB on its first record, so the footprint of a reader
+ * ranges from about 30 KB for a local reader transmitting card requests to about 100 KB for an
+ * observable reader using all the features.
+ *
+ * @see SmartCardService#getReaderMetrics(org.eclipse.keypop.reader.CardReader)
+ * @since 3.4.0
+ */
+public interface ReaderMetrics {
+
+  /**
+   * Returns the distribution of the durations of the APDU exchanges with the card.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  LatencyHistogram getApduExchangeLatency();
+
+  /**
+   * Returns the distribution of the durations of the card request transmissions.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  LatencyHistogram getCardRequestLatency();
+
+  /**
+   * Returns the distribution of the durations of the card selection scenario executions.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  LatencyHistogram getCardSelectionScenarioLatency();
+
+  /**
+   * Returns the distribution of the durations of the physical channel openings.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  LatencyHistogram getPhysicalChannelOpeningLatency();
+
+  /**
+   * Returns the distribution of the durations of the physical channel closings.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  LatencyHistogram getPhysicalChannelClosingLatency();
+
+  /**
+   * Returns the distribution of the durations spent waiting for a lease of the reader (including
+   * the unsuccessful waits).
+   *
+   * @return A not null reference.
+   * @see SmartCardService#acquireReaderLease(org.eclipse.keypop.reader.CardReader, long)
+   * @since 3.4.0
+   */
+  LatencyHistogram getLeaseWaitLatency();
+
+  /**
+   * Returns the distribution of the durations during which a lease of the reader was held.
+   *
+   * @return A not null reference.
+   * @see SmartCardService#acquireReaderLease(org.eclipse.keypop.reader.CardReader, long)
+   * @since 3.4.0
+   */
+  LatencyHistogram getLeaseHoldLatency();
+
+  /**
+   * Returns the number of APDUs transmitted to the card.
+   *
+   * @return A positive value or 0.
+   * @since 3.4.0
+   */
+  long getApduCount();
+
+  /**
+   * Returns the number of bytes sent to the card (APDU commands).
+   *
+   * @return A positive value or 0.
+   * @since 3.4.0
+   */
+  long getBytesSentCount();
+
+  /**
+   * Returns the number of bytes received from the card (APDU responses).
+   *
+   * @return A positive value or 0.
+   * @since 3.4.0
+   */
+  long getBytesReceivedCount();
+
+  /**
+   * Returns the number of card requests and card selection scenarios which ended with an error
+   * (communication failure with the reader or the card, unexpected status word...).
+   *
+   * @return A positive value or 0.
+   * @since 3.4.0
+   */
+  long getErrorCount();
+
+  /**
+   * Returns the number of reader leases not acquired within the requested timeout.
+   *
+   * @return A positive value or 0.
+   * @since 3.4.0
+   */
+  long getLeaseTimeoutCount();
+
+  /**
+   * Returns the number of card processings not finalized by the application within the card
+   * processing timeout of an observable local reader.
+   *
+   * @return A positive value or 0.
+   * @see SmartCardService#setCardProcessingTimeout(org.eclipse.keypop.reader.CardReader, long)
+   * @since 3.4.0
+   */
+  long getCardProcessingTimeoutCount();
+
+  /**
+   * Returns the distribution of the durations between the notification of an event by an
+   * observable local reader and the end of its processing by an observer.
+   *
+   * @return A not null reference.
+   * @see SmartCardService#setObserverDispatchPolicy(org.eclipse.keypop.reader.CardReader,
+   *     ObserverDispatchPolicy)
+   * @since 3.4.0
+   */
+  LatencyHistogram getObserverDeliveryLatency();
+
+  /**
+   * Returns the distribution of the durations between the detection of a card by an observable
+   * local reader and the opening of the physical channel to process the card selection scenario.
+   *
+   * @return A not null reference.
+   * @see ReaderEventTimestamps
+   * @since 3.4.0
+   */
+  LatencyHistogram getDetectionToPhysicalChannelOpeningLatency();
+
+  /**
+   * Returns the distribution of the durations of the selection attempts of the card selection
+   * scenarios processed by an observable local reader upon card detection, each attempt being
+   * measured from the end of the previous phase.
+   *
+   * @return A not null reference.
+   * @see ReaderEventTimestamps
+   * @since 3.4.0
+   */
+  LatencyHistogram getSelectionAttemptLatency();
+
+  /**
+   * Returns the distribution of the durations between the detection of a card insertion or removal
+   * by an observable local reader and the creation of the resulting event.
+   *
+   * @return A not null reference.
+   * @see ReaderEventTimestamps
+   * @since 3.4.0
+   */
+  LatencyHistogram getDetectionToEventCreationLatency();
+
+  /**
+   * Returns the distribution of the durations between the detection of a card insertion or removal
+   * by an observable local reader and the delivery of the resulting event to the first observer.
+   *
+   * @return A not null reference.
+   * @see ReaderEventTimestamps
+   * @since 3.4.0
+   */
+  LatencyHistogram getDetectionToEventDeliveryLatency();
+
+  /**
+   * Returns the distribution of the durations of the probes of the card presence performed by an
+   * observable local reader while waiting for the removal of the card.
+   *
+   * @return A not null reference.
+   * @see CardRemovalProbePolicy
+   * @since 3.4.0
+   */
+  LatencyHistogram getRemovalProbeLatency();
+
+  /**
+   * Returns the distribution of the durations between the last probe to which the card responded
+   * and the probe detecting its removal, i.e. the maximum delay of the removal detection.
+   *
+   * @return A not null reference.
+   * @see CardRemovalProbePolicy
+   * @since 3.4.0
+   */
+  LatencyHistogram getRemovalDetectionDelay();
+
+  /**
+   * Returns the current number of events waiting to be delivered to the observers of an observable
+   * local reader using an asynchronous dispatch policy.
+   *
+   * @return A positive value or 0.
+   * @see SmartCardService#setObserverDispatchPolicy(org.eclipse.keypop.reader.CardReader,
+   *     ObserverDispatchPolicy)
+   * @since 3.4.0
+   */
+  int getObserverQueueDepth();
+
+  /**
+   * Returns the number of events not delivered to an observer because its queue was full.
+   *
+   * @return A positive value or 0.
+   * @see ObserverDispatchPolicy.OverflowPolicy
+   * @since 3.4.0
+   */
+  long getObserverDroppedEventCount();
+}
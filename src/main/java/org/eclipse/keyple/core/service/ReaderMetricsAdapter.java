@@ -0,0 +1,628 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free implementation of {@link ReaderMetrics}.
+ *
+ * <p>The histograms allocate their buckets on their first record only (about 7 KB each), so the
+ * footprint of a reader only depends on the metrics actually fed: about 30 KB for a local reader
+ * transmitting card requests, up to about 100 KB for an observable reader using all the features.
+ *
+ * <p>The remote readers share the {@link #DISABLED} instance, which ignores all the records.
+ *
+ * @since 3.4.0
+ */
+final class ReaderMetricsAdapter implements ReaderMetrics {
+
+  /**
+   * Shared instance ignoring all the records, used for the readers whose metrics are not collected.
+   *
+   * @since 3.4.0
+   */
+  static final ReaderMetricsAdapter DISABLED = new ReaderMetricsAdapter(false);
+
+  private final boolean isEnabled;
+
+  private final LatencyHistogramAdapter apduExchangeLatency = new LatencyHistogramAdapter();
+  private final LatencyHistogramAdapter cardRequestLatency = new LatencyHistogramAdapter();
+  private final LatencyHistogramAdapter cardSelectionScenarioLatency =
+      new LatencyHistogramAdapter();
+  private final LatencyHistogramAdapter physicalChannelOpeningLatency =
+      new LatencyHistogramAdapter();
+  private final LatencyHistogramAdapter physicalChannelClosingLatency =
+      new LatencyHistogramAdapter();
+  private final LatencyHistogramAdapter leaseWaitLatency = new LatencyHistogramAdapter();
+  private final LatencyHistogramAdapter leaseHoldLatency = new LatencyHistogramAdapter();
+  private final LatencyHistogramAdapter observerDeliveryLatency = new LatencyHistogramAdapter();
+  private final LatencyHistogramAdapter detectionToPhysicalChannelOpeningLatency =
+      new LatencyHistogramAdapter();
+  private final LatencyHistogramAdapter selectionAttemptLatency = new LatencyHistogramAdapter();
+  private final LatencyHistogramAdapter detectionToEventCreationLatency =
+      new LatencyHistogramAdapter();
+  private final LatencyHistogramAdapter detectionToEventDeliveryLatency =
+      new LatencyHistogramAdapter();
+  private final LatencyHistogramAdapter removalProbeLatency = new LatencyHistogramAdapter();
+  private final LatencyHistogramAdapter removalDetectionDelay = new LatencyHistogramAdapter();
+  private final AtomicLong apduCount = new AtomicLong();
+  private final AtomicLong bytesSentCount = new AtomicLong();
+  private final AtomicLong bytesReceivedCount = new AtomicLong();
+  private final AtomicLong errorCount = new AtomicLong();
+  private final AtomicLong leaseTimeoutCount = new AtomicLong();
+  private final AtomicLong cardProcessingTimeoutCount = new AtomicLong();
+  private final AtomicInteger observerQueueDepth = new AtomicInteger();
+  private final AtomicLong observerDroppedEventCount = new AtomicLong();
+
+  /**
+   * Constructor.
+   *
+   * @since 3.4.0
+   */
+  ReaderMetricsAdapter() {
+    this(true);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param isEnabled False if the records have to be ignored.
+   */
+  private ReaderMetricsAdapter(boolean isEnabled) {
+    this.isEnabled = isEnabled;
+  }
+
+  /**
+   * Records an APDU exchange.
+   *
+   * @param startNanos The start time of the exchange, as provided by {@link System#nanoTime()}.
+   * @param commandLength The length of the APDU command.
+   * @param responseLength The length of the APDU response.
+   * @since 3.4.0
+   */
+  void recordApduExchange(long startNanos, int commandLength, int responseLength) {
+    if (!isEnabled) {
+      return;
+    }
+    apduExchangeLatency.recordSince(startNanos);
+    apduCount.incrementAndGet();
+    bytesSentCount.addAndGet(commandLength);
+    bytesReceivedCount.addAndGet(responseLength);
+  }
+
+  /**
+   * Records a batch of APDU exchanges performed in a single call to the reader.
+   *
+   * <p>The duration of the batch is evenly distributed over its APDUs.
+   *
+   * @param startNanos The start time of the batch, as provided by {@link System#nanoTime()}.
+   * @param apduExchangeCount The number of APDUs of the batch.
+   * @param commandsLength The total length of the APDU commands.
+   * @param responsesLength The total length of the APDU responses.
+   * @since 3.4.0
+   */
+  void recordApduBatchExchange(
+      long startNanos, int apduExchangeCount, int commandsLength, int responsesLength) {
+    if (!isEnabled) {
+      return;
+    }
+    long durationMicros = (System.nanoTime() - startNanos) / 1000 / apduExchangeCount;
+    for (int i = 0; i < apduExchangeCount; i++) {
+      apduExchangeLatency.record(durationMicros);
+    }
+    apduCount.addAndGet(apduExchangeCount);
+    bytesSentCount.addAndGet(commandsLength);
+    bytesReceivedCount.addAndGet(responsesLength);
+  }
+
+  /**
+   * Records a card request transmission.
+   *
+   * @param startNanos The start time of the transmission.
+   * @since 3.4.0
+   */
+  void recordCardRequest(long startNanos) {
+    if (!isEnabled) {
+      return;
+    }
+    cardRequestLatency.recordSince(startNanos);
+  }
+
+  /**
+   * Records a card selection scenario execution.
+   *
+   * @param startNanos The start time of the execution.
+   * @since 3.4.0
+   */
+  void recordCardSelectionScenario(long startNanos) {
+    if (!isEnabled) {
+      return;
+    }
+    cardSelectionScenarioLatency.recordSince(startNanos);
+  }
+
+  /**
+   * Records a physical channel opening.
+   *
+   * @param startNanos The start time of the opening.
+   * @since 3.4.0
+   */
+  void recordPhysicalChannelOpening(long startNanos) {
+    if (!isEnabled) {
+      return;
+    }
+    physicalChannelOpeningLatency.recordSince(startNanos);
+  }
+
+  /**
+   * Records a physical channel closing.
+   *
+   * @param startNanos The start time of the closing.
+   * @since 3.4.0
+   */
+  void recordPhysicalChannelClosing(long startNanos) {
+    if (!isEnabled) {
+      return;
+    }
+    physicalChannelClosingLatency.recordSince(startNanos);
+  }
+
+  /**
+   * Records the wait for a reader lease, whether it has been acquired or not.
+   *
+   * @param startNanos The start time of the wait.
+   * @since 3.4.0
+   */
+  void recordLeaseWait(long startNanos) {
+    if (!isEnabled) {
+      return;
+    }
+    leaseWaitLatency.recordSince(startNanos);
+  }
+
+  /**
+   * Records the holding of a reader lease.
+   *
+   * @param acquisitionNanos The acquisition time of the lease.
+   * @since 3.4.0
+   */
+  void recordLeaseHold(long acquisitionNanos) {
+    if (!isEnabled) {
+      return;
+    }
+    leaseHoldLatency.recordSince(acquisitionNanos);
+  }
+
+  /**
+   * Records a reader lease not acquired within the requested timeout.
+   *
+   * @since 3.4.0
+   */
+  void recordLeaseTimeout() {
+    if (!isEnabled) {
+      return;
+    }
+    leaseTimeoutCount.incrementAndGet();
+  }
+
+  /**
+   * Records a card processing not finalized within the card processing timeout.
+   *
+   * @since 3.4.0
+   */
+  void recordCardProcessingTimeout() {
+    if (!isEnabled) {
+      return;
+    }
+    cardProcessingTimeoutCount.incrementAndGet();
+  }
+
+  /**
+   * Records the delivery of an event to an observer.
+   *
+   * @param notificationNanos The notification time of the event.
+   * @since 3.4.0
+   */
+  void recordObserverDelivery(long notificationNanos) {
+    if (!isEnabled) {
+      return;
+    }
+    observerDeliveryLatency.recordSince(notificationNanos);
+  }
+
+  /**
+   * Records the durations of the phases preceding the creation of an event resulting from a
+   * detection.
+   *
+   * <p>The duration of each selection attempt is measured from the end of the previous phase.
+   *
+   * @param timestamps The timestamps of the event.
+   * @since 3.4.0
+   */
+  void recordReaderEventCreation(ReaderEventTimestamps timestamps) {
+    if (!isEnabled) {
+      return;
+    }
+    long detectionNanos = timestamps.getDetectionNanos();
+    if (detectionNanos == 0) {
+      return;
+    }
+    long previousPhaseNanos = detectionNanos;
+    long physicalChannelOpeningNanos = timestamps.getPhysicalChannelOpeningNanos();
+    if (physicalChannelOpeningNanos != 0) {
+      detectionToPhysicalChannelOpeningLatency.record(
+          (physicalChannelOpeningNanos - detectionNanos) / 1000);
+      previousPhaseNanos = physicalChannelOpeningNanos;
+    }
+    for (long selectionAttemptNanos : timestamps.getSelectionAttemptNanos()) {
+      selectionAttemptLatency.record((selectionAttemptNanos - previousPhaseNanos) / 1000);
+      previousPhaseNanos = selectionAttemptNanos;
+    }
+    detectionToEventCreationLatency.record((timestamps.getCreationNanos() - detectionNanos) / 1000);
+  }
+
+  /**
+   * Records the first delivery to an observer of an event resulting from a detection.
+   *
+   * @param timestamps The timestamps of the event.
+   * @since 3.4.0
+   */
+  void recordReaderEventDelivery(ReaderEventTimestamps timestamps) {
+    if (!isEnabled) {
+      return;
+    }
+    long detectionNanos = timestamps.getDetectionNanos();
+    if (detectionNanos != 0) {
+      detectionToEventDeliveryLatency.record(
+          (timestamps.getDeliveryNanos() - detectionNanos) / 1000);
+    }
+  }
+
+  /**
+   * Records a probe of the card presence while waiting for the card removal.
+   *
+   * @param startNanos The start time of the probe.
+   * @since 3.4.0
+   */
+  void recordRemovalProbe(long startNanos) {
+    if (!isEnabled) {
+      return;
+    }
+    removalProbeLatency.recordSince(startNanos);
+  }
+
+  /**
+   * Records the detection of a card removal by the probes of the card presence.
+   *
+   * @param lastPresenceNanos The end time of the last probe to which the card responded.
+   * @since 3.4.0
+   */
+  void recordRemovalDetection(long lastPresenceNanos) {
+    if (!isEnabled) {
+      return;
+    }
+    removalDetectionDelay.recordSince(lastPresenceNanos);
+  }
+
+  /**
+   * Records a change of the number of events waiting to be delivered to the observers.
+   *
+   * @param delta The number of events added (positive) or removed (negative).
+   * @since 3.4.0
+   */
+  void recordObserverQueueDepthChange(int delta) {
+    if (!isEnabled) {
+      return;
+    }
+    observerQueueDepth.addAndGet(delta);
+  }
+
+  /**
+   * Records an event not delivered to an observer because its queue was full.
+   *
+   * @since 3.4.0
+   */
+  void recordObserverEventDrop() {
+    if (!isEnabled) {
+      return;
+    }
+    observerDroppedEventCount.incrementAndGet();
+  }
+
+  /**
+   * Records a card request or card selection scenario which ended with an error.
+   *
+   * @since 3.4.0
+   */
+  void recordError() {
+    if (!isEnabled) {
+      return;
+    }
+    errorCount.incrementAndGet();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public LatencyHistogram getApduExchangeLatency() {
+    return apduExchangeLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public LatencyHistogram getCardRequestLatency() {
+    return cardRequestLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public LatencyHistogram getCardSelectionScenarioLatency() {
+    return cardSelectionScenarioLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public LatencyHistogram getPhysicalChannelOpeningLatency() {
+    return physicalChannelOpeningLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public LatencyHistogram getPhysicalChannelClosingLatency() {
+    return physicalChannelClosingLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public LatencyHistogram getLeaseWaitLatency() {
+    return leaseWaitLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public LatencyHistogram getLeaseHoldLatency() {
+    return leaseHoldLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public long getApduCount() {
+    return apduCount.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public long getBytesSentCount() {
+    return bytesSentCount.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public long getBytesReceivedCount() {
+    return bytesReceivedCount.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public long getErrorCount() {
+    return errorCount.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public long getLeaseTimeoutCount() {
+    return leaseTimeoutCount.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public long getCardProcessingTimeoutCount() {
+    return cardProcessingTimeoutCount.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public LatencyHistogram getObserverDeliveryLatency() {
+    return observerDeliveryLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public LatencyHistogram getDetectionToPhysicalChannelOpeningLatency() {
+    return detectionToPhysicalChannelOpeningLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public LatencyHistogram getSelectionAttemptLatency() {
+    return selectionAttemptLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public LatencyHistogram getDetectionToEventCreationLatency() {
+    return detectionToEventCreationLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public LatencyHistogram getDetectionToEventDeliveryLatency() {
+    return detectionToEventDeliveryLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public LatencyHistogram getRemovalProbeLatency() {
+    return removalProbeLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public LatencyHistogram getRemovalDetectionDelay() {
+    return removalDetectionDelay;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public int getObserverQueueDepth() {
+    return observerQueueDepth.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public long getObserverDroppedEventCount() {
+    return observerDroppedEventCount.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public String toString() {
+    return "ReaderMetrics{apduExchangeLatency="
+        + apduExchangeLatency
+        + ", cardRequestLatency="
+        + cardRequestLatency
+        + ", cardSelectionScenarioLatency="
+        + cardSelectionScenarioLatency
+        + ", physicalChannelOpeningLatency="
+        + physicalChannelOpeningLatency
+        + ", physicalChannelClosingLatency="
+        + physicalChannelClosingLatency
+        + ", leaseWaitLatency="
+        + leaseWaitLatency
+        + ", leaseHoldLatency="
+        + leaseHoldLatency
+        + ", observerDeliveryLatency="
+        + observerDeliveryLatency
+        + ", detectionToPhysicalChannelOpeningLatency="
+        + detectionToPhysicalChannelOpeningLatency
+        + ", selectionAttemptLatency="
+        + selectionAttemptLatency
+        + ", detectionToEventCreationLatency="
+        + detectionToEventCreationLatency
+        + ", detectionToEventDeliveryLatency="
+        + detectionToEventDeliveryLatency
+        + ", removalProbeLatency="
+        + removalProbeLatency
+        + ", removalDetectionDelay="
+        + removalDetectionDelay
+        + ", apduCount="
+        + apduCount
+        + ", bytesSentCount="
+        + bytesSentCount
+        + ", bytesReceivedCount="
+        + bytesReceivedCount
+        + ", errorCount="
+        + errorCount
+        + ", leaseTimeoutCount="
+        + leaseTimeoutCount
+        + ", cardProcessingTimeoutCount="
+        + cardProcessingTimeoutCount
+        + ", observerQueueDepth="
+        + observerQueueDepth
+        + ", observerDroppedEventCount="
+        + observerDroppedEventCount
+        + '}';
+  }
+}
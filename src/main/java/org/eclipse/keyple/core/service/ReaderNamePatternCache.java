@@ -0,0 +1,76 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Cache of the compiled reader name patterns used to search readers.
+ *
+ * <p>The cache is bounded: it is emptied when it reaches its maximum size, the patterns in use
+ * being compiled again on demand.
+ *
+ * @since 3.4.0
+ */
+final class ReaderNamePatternCache {
+
+  private static final int MAX_SIZE = 256;
+  private static final Map<String, Pattern> patterns = new ConcurrentHashMap<>();
+
+  /** Private constructor. */
+  private ReaderNamePatternCache() {}
+
+  /**
+   * Gets the compiled pattern of the provided regular expression.
+   *
+   * @param readerNameRegex The regular expression.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the regular expression is invalid.
+   * @since 3.4.0
+   */
+  static Pattern getPattern(String readerNameRegex) {
+    Pattern pattern = patterns.get(readerNameRegex);
+    if (pattern == null) {
+      try {
+        pattern = Pattern.compile(readerNameRegex);
+      } catch (PatternSyntaxException e) {
+        throw new IllegalArgumentException("readerNameRegex is invalid: " + e.getMessage(), e);
+      }
+      if (patterns.size() >= MAX_SIZE) {
+        patterns.clear();
+      }
+      patterns.put(readerNameRegex, pattern);
+    }
+    return pattern;
+  }
+
+  /**
+   * Gets the literal reader name matched by the provided regular expression if it is a quoted
+   * literal as built by {@link Pattern#quote(String)}.
+   *
+   * @param readerNameRegex The regular expression.
+   * @return Null if the regular expression is not a single quoted literal.
+   * @since 3.4.0
+   */
+  static String getQuotedLiteral(String readerNameRegex) {
+    if (readerNameRegex.length() >= 4
+        && readerNameRegex.startsWith("\\Q")
+        && readerNameRegex.endsWith("\\E")
+        && readerNameRegex.indexOf("\\E") == readerNameRegex.length() - 2) {
+      return readerNameRegex.substring(2, readerNameRegex.length() - 2);
+    }
+    return null;
+  }
+}
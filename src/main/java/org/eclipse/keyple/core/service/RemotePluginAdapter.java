@@ -98,35 +98,52 @@ final void register() throws PluginIOException {
     }
 
     // Build a remote reader for each local reader
-    for (Map.Entry<String, Boolean> entry : localReaders.entrySet()) {
-
-      String localReaderName = entry.getKey();
-      String remoteReaderName = localReaderName + REMOTE_READER_NAME_SUFFIX;
-      boolean isObservable = entry.getValue();
-
-      RemoteReaderAdapter remoteReaderAdapter = null;
-      if (isObservable) {
-        try {
-          ObservableRemoteReaderSpi observableRemoteReaderSpi =
-              remotePluginSpi.createObservableRemoteReader(remoteReaderName, localReaderName);
-          remoteReaderAdapter =
-              new ObservableRemoteReaderAdapter(
-                  observableRemoteReaderSpi, getName(), CORE_API_LEVEL);
-        } catch (IllegalStateException e) {
-          logger.warn(e.getMessage());
-          isObservable = false;
-        }
-      }
-      if (!isObservable) {
-        RemoteReaderSpi remoteReaderSpi =
-            remotePluginSpi.createRemoteReader(remoteReaderName, localReaderName);
+    Map<String, ReaderBuilder> readerBuilders = new HashMap<>(localReaders.size() * 2);
+    for (final Map.Entry<String, Boolean> entry : localReaders.entrySet()) {
+      readerBuilders.put(
+          entry.getKey(),
+          new ReaderBuilder() {
+            @Override
+            public AbstractReaderAdapter build() {
+              return buildRemoteReaderAdapter(entry.getKey(), entry.getValue());
+            }
+          });
+    }
+    registerReaders(readerBuilders);
+  }
+
+  /**
+   * Builds a remote reader adapter associated to a local reader, falling back to a non observable
+   * reader if the observable one cannot be created.
+   *
+   * @param localReaderName The name of the local reader.
+   * @param isObservable true if the local reader is observable.
+   * @return A new instance.
+   */
+  private RemoteReaderAdapter buildRemoteReaderAdapter(
+      String localReaderName, boolean isObservable) {
+
+    String remoteReaderName = localReaderName + REMOTE_READER_NAME_SUFFIX;
+
+    RemoteReaderAdapter remoteReaderAdapter = null;
+    if (isObservable) {
+      try {
+        ObservableRemoteReaderSpi observableRemoteReaderSpi =
+            remotePluginSpi.createObservableRemoteReader(remoteReaderName, localReaderName);
         remoteReaderAdapter =
-            new RemoteReaderAdapter(remoteReaderSpi, getName(), null, CORE_API_LEVEL);
+            new ObservableRemoteReaderAdapter(observableRemoteReaderSpi, getName(), CORE_API_LEVEL);
+      } catch (IllegalStateException e) {
+        logger.warn(e.getMessage());
+        isObservable = false;
       }
-
-      getReadersMap().put(localReaderName, remoteReaderAdapter);
-      remoteReaderAdapter.register();
     }
+    if (!isObservable) {
+      RemoteReaderSpi remoteReaderSpi =
+          remotePluginSpi.createRemoteReader(remoteReaderName, localReaderName);
+      remoteReaderAdapter =
+          new RemoteReaderAdapter(remoteReaderSpi, getName(), null, CORE_API_LEVEL);
+    }
+    return remoteReaderAdapter;
   }
 
   /**
@@ -181,7 +181,7 @@ public CardReader allocateReader(String readerGroupReference) {
     RemoteReaderAdapter remoteReaderAdapter =
         new RemoteReaderAdapter(remoteReaderSpi, getName(), selectedSmartCard, CORE_API_LEVEL);
 
-    getReadersMap().put(remoteReaderSpi.getName(), remoteReaderAdapter);
+    putReader(remoteReaderSpi.getName(), remoteReaderAdapter);
     remoteReaderAdapter.register();
     return remoteReaderAdapter;
   }
@@ -236,7 +236,7 @@ public void releaseReader(CardReader reader) {
     } catch (Exception e) {
       throwRuntimeException(e);
     } finally {
-      getReadersMap().remove(reader.getName());
+      removeReaderByKey(reader.getName());
       ((RemoteReaderAdapter) reader).unregister();
     }
   }
@@ -64,7 +64,8 @@ class RemoteReaderAdapter extends AbstractReaderAdapter {
       String pluginName,
       SmartCard selectedSmartCard,
       int clientCoreApiLevel) {
-    super(remoteReaderSpi.getName(), (KeypleReaderExtension) remoteReaderSpi, pluginName);
+    // the performance of a remote reader is measured on the local side
+    super(remoteReaderSpi.getName(), (KeypleReaderExtension) remoteReaderSpi, pluginName, false);
     this.remoteReaderSpi = remoteReaderSpi;
     this.selectedSmartCard = selectedSmartCard;
     this.clientCoreApiLevel = clientCoreApiLevel;
@@ -473,6 +474,7 @@ public final void releaseChannel() throws ReaderBrokenCommunicationException {
     }
 
     // Execute the remote service.
+    beginExclusiveUse();
     try {
       executeReaderServiceRemotely(input, remoteReaderSpi, getName(), logger);
 
@@ -480,6 +482,8 @@ public final void releaseChannel() throws ReaderBrokenCommunicationException {
       throw e;
     } catch (Exception e) {
       throwRuntimeException(e);
+    } finally {
+      endExclusiveUse();
     }
   }
 }
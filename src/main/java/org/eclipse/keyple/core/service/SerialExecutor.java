@@ -0,0 +1,104 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor running the submitted tasks one at a time, in submission order, on the threads of a
+ * shared pool.
+ *
+ * <p>No thread is dedicated to the executor: a thread of the pool is only used while tasks are
+ * pending.
+ *
+ * @since 3.4.0
+ */
+final class SerialExecutor implements Executor {
+
+  private static final ExecutorService SHARED_EXECUTOR_SERVICE =
+      Executors.newCachedThreadPool(
+          new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+              Thread thread =
+                  new Thread(runnable, "keyple-serial-executor-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+
+  private final Executor executor;
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+  private Runnable activeTask;
+
+  /**
+   * Constructor using the shared pool of daemon threads of the service.
+   *
+   * @since 3.4.0
+   */
+  SerialExecutor() {
+    this(SHARED_EXECUTOR_SERVICE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param executor The executor actually running the tasks.
+   * @since 3.4.0
+   */
+  SerialExecutor(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public synchronized void execute(final Runnable command) {
+    tasks.add(
+        new Runnable() {
+          @Override
+          public void run() {
+            try {
+              command.run();
+            } finally {
+              scheduleNext();
+            }
+          }
+        });
+    if (activeTask == null) {
+      scheduleNext();
+    }
+  }
+
+  /**
+   * Hands the next pending task, if any, over to the underlying executor.
+   *
+   * @since 3.4.0
+   */
+  private synchronized void scheduleNext() {
+    activeTask = tasks.poll();
+    if (activeTask != null) {
+      executor.execute(activeTask);
+    }
+  }
+}
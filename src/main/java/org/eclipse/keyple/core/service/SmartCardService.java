@@ -11,12 +11,16 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.eclipse.keyple.core.common.KeypleCardExtension;
 import org.eclipse.keyple.core.common.KeypleDistributedLocalServiceExtensionFactory;
 import org.eclipse.keyple.core.common.KeyplePluginExtensionFactory;
 import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.reader.CardReaderEvent;
 import org.eclipse.keypop.reader.ReaderApiFactory;
+import org.eclipse.keypop.reader.selection.CardSelectionManager;
 
 /**
  * Keyple main service.
@@ -36,6 +40,50 @@ public interface SmartCardService {
    */
   Plugin registerPlugin(KeyplePluginExtensionFactory pluginFactory);
 
+  /**
+   * Registers several plugins to the service concurrently, at most 8 plugins, and 8 readers of a
+   * plugin, being registered at a time.
+   *
+   * <p>Same as {@link #registerPluginsAsync(List, int)} with a maximum of 8 concurrent
+   * registrations.
+   *
+   * @param pluginFactories The plugin factories.
+   * @return A not null future providing the registration of each plugin, in the order of the
+   *     factories, including its duration.
+   * @throws IllegalArgumentException If the list or one of the factories is null.
+   * @since 3.4.0
+   */
+  CompletableFuture<List<PluginRegistration>> registerPluginsAsync(
+      List<? extends KeyplePluginExtensionFactory> pluginFactories);
+
+  /**
+   * Registers several plugins to the service concurrently.
+   *
+   * <p>The names of the plugins provided by the factories are checked first: if one of them is
+   * already registered or provided by several factories, the returned future completes
+   * exceptionally with an {@link IllegalStateException} and no plugin is created.
+   *
+   * <p>The plugins are then created and registered in parallel, as well as the readers of each
+   * plugin, at most {@code maxConcurrentRegistrations} plugins, and {@code
+   * maxConcurrentRegistrations} readers of a plugin, at a time. The plugins are added to the
+   * service together once all of them are registered: if the registration of one of them fails,
+   * none of them is added to the service, the plugins already created are unregistered and the
+   * returned future completes exceptionally with the first error (same exceptions as {@link
+   * #registerPlugin(KeyplePluginExtensionFactory)}).
+   *
+   * @param pluginFactories The plugin factories.
+   * @param maxConcurrentRegistrations The maximum number of plugins, and of readers of a plugin,
+   *     registered at a time.
+   * @return A not null future providing the registration of each plugin, in the order of the
+   *     factories, including its duration.
+   * @throws IllegalArgumentException If the list or one of the factories is null, or if {@code
+   *     maxConcurrentRegistrations} is less than 1.
+   * @since 3.4.0
+   */
+  CompletableFuture<List<PluginRegistration>> registerPluginsAsync(
+      List<? extends KeyplePluginExtensionFactory> pluginFactories,
+      int maxConcurrentRegistrations);
+
   /**
    * Attempts to unregister the plugin having the provided name from the service.
    *
@@ -143,4 +191,258 @@ DistributedLocalService registerDistributedLocalService(
    * @since 3.0.0
    */
   ReaderApiFactory getReaderApiFactory();
+
+  /**
+   * Compiles the card selection scenario prepared in the provided {@link CardSelectionManager}.
+   *
+   * <p>The returned {@link CompiledCardSelectionScenario} is an immutable and thread safe snapshot
+   * of the scenario, which is not affected by further changes made to the card selection manager.
+   * It is intended to be shared by many readers and threads when the same scenario is executed
+   * many times.
+   *
+   * @param cardSelectionManager The card selection manager containing the prepared selections.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the card selection manager is null, not a Keyple
+   *     implementation, if no selection has been prepared or if one of the card selectors is not a
+   *     Keyple implementation.
+   * @since 3.4.0
+   */
+  CompiledCardSelectionScenario compileCardSelectionScenario(
+      CardSelectionManager cardSelectionManager);
+
+  /**
+   * Compiles the card selection scenario prepared in the provided {@link CardSelectionManager} with
+   * the provided selection ordering.
+   *
+   * <p>With an adaptive ordering, when the scenario stops at the first matching selection, the
+   * selections are attempted in decreasing order of their observed match ratio, so that the most
+   * likely selection is attempted first. The results are still reported under the original
+   * selection indexes.
+   *
+   * <p>When several selections may match the same card, an adaptive ordering may change which of
+   * them is reported as matched: only the first matching selection attempted is reported. See
+   * {@link CardSelectionOrdering} for details.
+   *
+   * @param cardSelectionManager The card selection manager containing the prepared selections.
+   * @param cardSelectionOrdering The selection ordering.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If one of the arguments is null, if the card selection manager
+   *     is not a Keyple implementation, if no selection has been prepared or if one of the card
+   *     selectors is not a Keyple implementation.
+   * @see #compileCardSelectionScenario(CardSelectionManager)
+   * @since 3.4.0
+   */
+  CompiledCardSelectionScenario compileCardSelectionScenario(
+      CardSelectionManager cardSelectionManager, CardSelectionOrdering cardSelectionOrdering);
+
+  /**
+   * Returns the performance metrics of the provided reader.
+   *
+   * <p>The metrics of the local readers are always collected, they don't depend on the logging
+   * configuration. The metrics of the remote readers are not collected.
+   *
+   * @param reader The card reader.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the reader is null or not a Keyple reader.
+   * @since 3.4.0
+   */
+  ReaderMetrics getReaderMetrics(CardReader reader);
+
+  /**
+   * Acquires the exclusive use of the provided reader for the current thread, waiting at most the
+   * provided time if the reader is leased by another thread.
+   *
+   * <p>The waiting threads are served in the order of their requests. The time spent waiting for
+   * and holding the leases is recorded in the {@link ReaderMetrics} of the reader.
+   *
+   * <p>The lease is enforced: while it is held, the card requests, card selections and channel
+   * releases of the reader performed by the other threads (including the card selections of an
+   * observable reader triggered by a card insertion) wait for its end.
+   *
+   * @param reader The card reader.
+   * @param timeoutMillis The maximum time to wait, in milliseconds.
+   * @return A not null reference to be closed when the exclusive use of the reader is no longer
+   *     necessary.
+   * @throws IllegalArgumentException If the reader is null or not a Keyple reader, or if the
+   *     timeout is negative.
+   * @throws IllegalStateException If the reader is not or no longer registered.
+   * @throws ReaderLeaseTimeoutException If the lease could not be acquired in time or if the
+   *     current thread has been interrupted while waiting.
+   * @see ReaderLease
+   * @since 3.4.0
+   */
+  ReaderLease acquireReaderLease(CardReader reader, long timeoutMillis);
+
+  /**
+   * Sets the kind of threads used by the observable local readers to run their card monitoring jobs
+   * based on blocking SPIs.
+   *
+   * <p>The events of the readers are processed by a pool of platform threads shared by all the
+   * readers, whatever the mode.
+   *
+   * <p>The default mode is {@link MonitoringThreadMode#PLATFORM}. The new mode applies to the
+   * threads created afterward: as the monitoring thread of a reader is released when the reader is
+   * idle, it is taken into account by all the readers at their next card detection.
+   *
+   * @param monitoringThreadMode The thread mode.
+   * @throws IllegalArgumentException If the mode is null.
+   * @throws IllegalStateException If {@link MonitoringThreadMode#VIRTUAL} is requested but not
+   *     supported by the running JVM (Java 21 or later is required).
+   * @since 3.4.0
+   */
+  void setMonitoringThreadMode(MonitoringThreadMode monitoringThreadMode);
+
+  /**
+   * Sets the number of APDU exchanges kept by the APDU flight recorder of each local reader.
+   *
+   * <p>The recorded exchanges are attached as a suppressed {@link ApduFlightRecordException} to the
+   * reader and card communication exceptions, which may then reach the application logs and the
+   * reader observation exception handlers. The default capacity is 32, 0 disables the recorder. The
+   * new capacity applies to the readers registered afterward.
+   *
+   * @param capacity The number of exchanges kept.
+   * @throws IllegalArgumentException If the capacity is negative.
+   * @see #setApduFlightRecorderDataMasking(boolean)
+   * @since 3.4.0
+   */
+  void setApduFlightRecorderCapacity(int capacity);
+
+  /**
+   * Enables or disables the masking of the data of the exchanges kept by the APDU flight recorder
+   * of each local reader.
+   *
+   * <p>The masking is enabled by default: since the commands and responses may convey secrets (PIN,
+   * keys, cryptograms...) or personal data, only the header, the Lc and Le bytes of the commands
+   * and the status words of the responses are recorded. Disabling it should be reserved to
+   * debugging sessions. The new setting applies to the readers registered afterward.
+   *
+   * @param isDataMaskingEnabled True to mask the data, false to record the whole exchanges.
+   * @since 3.4.0
+   */
+  void setApduFlightRecorderDataMasking(boolean isDataMaskingEnabled);
+
+  /**
+   * Sets the policy defining the intervals between two polls of the card presence by the provided
+   * observable local reader, without any change to its plugin.
+   *
+   * <p>The policy only applies to the readers whose plugin provides non-blocking SPIs for the card
+   * insertion or removal monitoring, it is ignored by the other readers. It is taken into account
+   * the next time the reader begins waiting for a card insertion or removal. It is also ignored
+   * when the plugin provides the {@link
+   * org.eclipse.keyple.core.service.spi.BatchCardPresencePluginSpi} capability, the card presence
+   * being then polled for all the readers at the interval provided by the plugin.
+   *
+   * @param reader The card reader.
+   * @param pollingPolicy The polling policy, null to restore the fixed interval provided by the
+   *     plugin.
+   * @throws IllegalArgumentException If the reader is null or not an observable local Keyple
+   *     reader.
+   * @see CardPresencePollingPolicy
+   * @since 3.4.0
+   */
+  void setCardPresencePollingPolicy(CardReader reader, CardPresencePollingPolicy pollingPolicy);
+
+  /**
+   * Sets the policy defining how the events of the provided observable local reader are delivered
+   * to its observers.
+   *
+   * <p>By default, the observers are notified synchronously by the thread processing the events of
+   * the reader. With an asynchronous policy, each observer has its own bounded queue and delivery
+   * worker, so that a slow observer no longer delays the detection of the next card. The queue
+   * depth, the delivery latency and the dropped events are reported by the {@link ReaderMetrics} of
+   * the reader.
+   *
+   * <p>The policy applies to the events notified afterward, the events already queued are still
+   * delivered, before them.
+   *
+   * @param reader The card reader.
+   * @param dispatchPolicy The dispatch policy, null to restore the synchronous notification.
+   * @throws IllegalArgumentException If the reader is null or not an observable local Keyple
+   *     reader.
+   * @see ObserverDispatchPolicy
+   * @since 3.4.0
+   */
+  void setObserverDispatchPolicy(CardReader reader, ObserverDispatchPolicy dispatchPolicy);
+
+  /**
+   * Sets the maximum duration of the processing of a card by the application on the provided
+   * observable local reader, i.e. the delay between the notification of the card insertion and the
+   * call to {@link org.eclipse.keypop.reader.ObservableCardReader#finalizeCardProcessing()}.
+   *
+   * <p>When the delay expires, the channels of the reader are released, the card detection resumes
+   * as if the processing had been finalized, and a {@link CardProcessingTimeoutException} is
+   * notified to the observation exception handler of the reader. The timeouts are counted by the
+   * {@link ReaderMetrics} of the reader.
+   *
+   * <p>The timeout is taken into account the next time a card is processed. By default, the
+   * processing duration is not limited.
+   *
+   * @param reader The card reader.
+   * @param timeoutMillis The timeout in milliseconds, 0 to disable it.
+   * @throws IllegalArgumentException If the reader is null or not an observable local Keyple
+   *     reader, or if the timeout is negative.
+   * @since 3.4.0
+   */
+  void setCardProcessingTimeout(CardReader reader, long timeoutMillis);
+
+  /**
+   * Returns the timestamps of the processing phases of the provided event, notified by an
+   * observable local reader.
+   *
+   * <p>Only the creation and delivery timestamps are available for the events not resulting from
+   * a card detection (e.g. {@code UNAVAILABLE}). The timestamps are not transmitted with the
+   * events of the remote readers, only the delivery timestamp is available for these events.
+   *
+   * <p>The timestamps can be retrieved while the event is being delivered to an observer as well as
+   * afterward, for example to trace the latency of a card detection in the application logs.
+   *
+   * @param readerEvent The reader event.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the event is null or not a Keyple implementation.
+   * @since 3.4.0
+   */
+  ReaderEventTimestamps getReaderEventTimestamps(CardReaderEvent readerEvent);
+
+  /**
+   * Enables a cache of the card presence state of the provided observable local reader, making
+   * {@link CardReader#isCardPresent()} a memory read in most cases.
+   *
+   * <p>The cached state is fed by the card insertion and removal events of the reader and by the
+   * card presence checks actually performed. It is used without any check as long as the card
+   * presence is monitored by the reader (while waiting for the insertion or the removal of a card,
+   * or during the processing of a card if the plugin monitors its removal). Otherwise, e.g. when
+   * the card detection is stopped, it is only used if it is not older than the provided maximum
+   * age.
+   *
+   * @param reader The card reader.
+   * @param maxAgeMillis The maximum age in milliseconds of a cached state not monitored by the
+   *     reader, 0 to disable the cache.
+   * @throws IllegalArgumentException If the reader is null or not an observable local Keyple
+   *     reader, or if the maximum age is negative.
+   * @since 3.4.0
+   */
+  void setCardPresenceCacheMaxAge(CardReader reader, long maxAgeMillis);
+
+  /**
+   * Sets the policy defining how the provided observable local reader probes the presence of the
+   * card while waiting for its removal: APDU sent to the card or card presence check with the
+   * reader, interval and jitter of the probes.
+   *
+   * <p>The policy only applies to the readers whose plugin provides a non-blocking SPI for the card
+   * removal monitoring (without the {@link
+   * org.eclipse.keyple.core.service.spi.BatchCardPresencePluginSpi} capability), it is ignored by
+   * the other readers. It is taken into account the next time the reader begins waiting for a card
+   * removal, and takes precedence over the {@link CardPresencePollingPolicy} of the reader. The
+   * cost of the probes and the delay of the removal detection are reported by the {@link
+   * ReaderMetrics} of the reader.
+   *
+   * @param reader The card reader.
+   * @param probePolicy The probe policy, null to restore the default ping APDU sent at the polling
+   *     interval.
+   * @throws IllegalArgumentException If the reader is null or not an observable local Keyple
+   *     reader.
+   * @see CardRemovalProbePolicy
+   * @since 3.4.0
+   */
+  void setCardRemovalProbePolicy(CardReader reader, CardRemovalProbePolicy probePolicy);
 }
@@ -13,10 +13,21 @@
 
 import static org.eclipse.keyple.core.service.JsonAdapter.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
 import org.eclipse.keyple.core.common.CommonApiProperties;
 import org.eclipse.keyple.core.common.KeypleCardExtension;
 import org.eclipse.keyple.core.common.KeypleDistributedLocalServiceExtensionFactory;
@@ -37,8 +48,10 @@
 import org.eclipse.keypop.card.CardResponseApi;
 import org.eclipse.keypop.card.CardSelectionResponseApi;
 import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.reader.CardReaderEvent;
 import org.eclipse.keypop.reader.ReaderApiFactory;
 import org.eclipse.keypop.reader.ReaderApiProperties;
+import org.eclipse.keypop.reader.selection.CardSelectionManager;
 import org.eclipse.keypop.reader.selection.ScheduledCardSelectionsResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,10 +68,28 @@ final class SmartCardServiceAdapter implements SmartCardService {
   private static final String MSG_VERSION_MISMATCH_DETECTED =
       "Version mismatch detected: {} [{}] uses '{}' version '{}' (expected '{}'). Compatibility issues may arise";
 
+  /**
+   * Default maximum number of plugins, and of readers of a plugin, registered concurrently by
+   * {@link #registerPluginsAsync(List)}, not bound to the number of processors since the
+   * registrations mostly wait for the readers.
+   */
+  private static final int DEFAULT_MAX_CONCURRENT_REGISTRATIONS = 8;
+
+  /** Delay after which the idle threads of the plugin registration pool are released */
+  private static final long IDLE_THREAD_KEEP_ALIVE_MILLIS = 1000;
+
+  /**
+   * Elastic pool of daemon threads registering the plugins and their readers, released when idle.
+   * The concurrency is bounded by each call of {@link #registerPluginsAsync(List, int)}.
+   */
+  private static final ThreadPoolExecutor PLUGIN_REGISTRATION_EXECUTOR =
+      createPluginRegistrationExecutor();
+
   private static final SmartCardServiceAdapter INSTANCE = new SmartCardServiceAdapter();
 
   private final Map<String, Plugin> plugins = new ConcurrentHashMap<>();
   private final Object pluginMonitor = new Object();
+  private final ReaderIndex readerIndex = new ReaderIndex();
 
   private final Map<String, DistributedLocalService> distributedLocalServices =
       new ConcurrentHashMap<>();
@@ -83,6 +114,31 @@ final class SmartCardServiceAdapter implements SmartCardService {
   /** Private constructor. */
   private SmartCardServiceAdapter() {}
 
+  /**
+   * Creates the elastic pool of threads registering the plugins and their readers.
+   *
+   * @return A not null reference.
+   */
+  private static ThreadPoolExecutor createPluginRegistrationExecutor() {
+    return new ThreadPoolExecutor(
+        0,
+        Integer.MAX_VALUE,
+        IDLE_THREAD_KEEP_ALIVE_MILLIS,
+        TimeUnit.MILLISECONDS,
+        new SynchronousQueue<Runnable>(),
+        new ThreadFactory() {
+          private final AtomicInteger threadCount = new AtomicInteger();
+
+          @Override
+          public Thread newThread(Runnable runnable) {
+            Thread thread =
+                new Thread(runnable, "keyple-plugin-registration-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+  }
+
   /**
    * Gets the single instance of SmartCardServiceAdapter.
    *
@@ -93,6 +149,43 @@ static SmartCardServiceAdapter getInstance() {
     return INSTANCE;
   }
 
+  /**
+   * Gets the service-wide index of the readers of all plugins.
+   *
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  ReaderIndex getReaderIndex() {
+    return readerIndex;
+  }
+
+  /**
+   * Gets the registered plugin owning the provided reader, using the reader index.
+   *
+   * @param reader The reader.
+   * @return Null if the reader is not owned by a registered plugin.
+   */
+  private Plugin getRegisteredPlugin(CardReader reader) {
+    AbstractPluginAdapter plugin = readerIndex.getPlugin(reader);
+    return plugin != null && plugins.get(plugin.getName()) == plugin ? plugin : null;
+  }
+
+  /**
+   * Gets a reader having the provided name and owned by a registered plugin, using the reader
+   * index.
+   *
+   * @param readerName The name of the reader.
+   * @return Null if no reader is found.
+   */
+  private CardReader getRegisteredReader(String readerName) {
+    for (CardReader reader : readerIndex.getReaders(readerName)) {
+      if (getRegisteredPlugin(reader) != null) {
+        return reader;
+      }
+    }
+    return null;
+  }
+
   /**
    * Compare versions.
    *
@@ -337,19 +430,7 @@ public Plugin registerPlugin(KeyplePluginExtensionFactory pluginFactory) {
     AbstractPluginAdapter plugin = null;
     try {
       synchronized (pluginMonitor) {
-        if (pluginFactory instanceof PluginFactorySpi) {
-          plugin = createLocalPlugin((PluginFactorySpi) pluginFactory);
-
-        } else if (pluginFactory instanceof PoolPluginFactorySpi) {
-          plugin = createLocalPoolPlugin((PoolPluginFactorySpi) pluginFactory);
-
-        } else if (pluginFactory instanceof RemotePluginFactorySpi) {
-          plugin = createRemotePlugin((RemotePluginFactorySpi) pluginFactory);
-
-        } else {
-          throw new IllegalArgumentException("The factory doesn't implement the right SPI");
-        }
-
+        plugin = createPlugin(pluginFactory);
         plugins.put(plugin.getName(), plugin);
         plugin.register();
       }
@@ -365,6 +446,269 @@ public Plugin registerPlugin(KeyplePluginExtensionFactory pluginFactory) {
     return plugin;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public CompletableFuture<List<PluginRegistration>> registerPluginsAsync(
+      List<? extends KeyplePluginExtensionFactory> pluginFactories) {
+    return registerPluginsAsync(pluginFactories, DEFAULT_MAX_CONCURRENT_REGISTRATIONS);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public CompletableFuture<List<PluginRegistration>> registerPluginsAsync(
+      final List<? extends KeyplePluginExtensionFactory> pluginFactories,
+      final int maxConcurrentRegistrations) {
+
+    Assert.getInstance()
+        .notNull(pluginFactories, "pluginFactories")
+        .greaterOrEqual(maxConcurrentRegistrations, 1, "maxConcurrentRegistrations");
+    for (KeyplePluginExtensionFactory pluginFactory : pluginFactories) {
+      Assert.getInstance().notNull(pluginFactory, "pluginFactory");
+    }
+
+    final CompletableFuture<List<PluginRegistration>> future = new CompletableFuture<>();
+    final int pluginCount = pluginFactories.size();
+    if (pluginCount == 0) {
+      future.complete(Collections.<PluginRegistration>emptyList());
+      return future;
+    }
+    // reject the name conflicts before any native registration
+    try {
+      checkPluginNames(pluginFactories);
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      return future;
+    }
+    final AbstractPluginAdapter[] createdPlugins = new AbstractPluginAdapter[pluginCount];
+    final long[] registrationDurations = new long[pluginCount];
+    final AtomicReference<Throwable> firstError = new AtomicReference<>();
+    final AtomicInteger nextIndex = new AtomicInteger();
+    int workerCount = Math.min(maxConcurrentRegistrations, pluginCount);
+    final AtomicInteger pendingWorkers = new AtomicInteger(workerCount);
+
+    // each worker registers the plugins not yet taken by the others
+    for (int i = 0; i < workerCount; i++) {
+      PLUGIN_REGISTRATION_EXECUTOR.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              try {
+                int index;
+                while (firstError.get() == null
+                    && (index = nextIndex.getAndIncrement()) < pluginCount) {
+                  long startNanos = System.nanoTime();
+                  createdPlugins[index] =
+                      createAndRegisterPlugin(
+                          pluginFactories.get(index), maxConcurrentRegistrations);
+                  registrationDurations[index] = System.nanoTime() - startNanos;
+                }
+              } catch (RuntimeException e) {
+                firstError.compareAndSet(null, e);
+              } catch (Error e) {
+                firstError.compareAndSet(null, e);
+                throw e;
+              } finally {
+                if (pendingWorkers.decrementAndGet() == 0) {
+                  publishPlugins(createdPlugins, registrationDurations, firstError.get(), future);
+                }
+              }
+            }
+          });
+    }
+    return future;
+  }
+
+  /**
+   * Checks that the names of the plugins provided by the factories are valid, distinct and not
+   * already registered.
+   *
+   * @param pluginFactories The plugin factories.
+   * @throws IllegalArgumentException If a factory doesn't implement the plugin API properly.
+   * @throws IllegalStateException If a plugin has already been registered or is provided by several
+   *     factories.
+   */
+  private void checkPluginNames(List<? extends KeyplePluginExtensionFactory> pluginFactories) {
+    Set<String> pluginNames = new HashSet<>();
+    synchronized (pluginMonitor) {
+      for (KeyplePluginExtensionFactory pluginFactory : pluginFactories) {
+        String pluginName;
+        try {
+          pluginName = getPluginName(pluginFactory);
+          Assert.getInstance().notEmpty(pluginName, "pluginName");
+        } catch (IllegalArgumentException e) {
+          throw new IllegalArgumentException(
+              "The provided plugin factory doesn't implement the plugin API properly", e);
+        }
+        if (plugins.containsKey(pluginName)) {
+          throw new IllegalStateException(
+              String.format("Plugin [%s] has already been registered to the service", pluginName));
+        }
+        if (!pluginNames.add(pluginName)) {
+          throw new IllegalStateException(
+              String.format("Plugin [%s] is provided by several factories", pluginName));
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the name of the plugin provided by a factory, according to the SPI it implements.
+   *
+   * @param pluginFactory The plugin factory.
+   * @return The name provided by the factory.
+   * @throws IllegalArgumentException If the factory doesn't implement the right SPI.
+   */
+  private static String getPluginName(KeyplePluginExtensionFactory pluginFactory) {
+    if (pluginFactory instanceof PluginFactorySpi) {
+      return ((PluginFactorySpi) pluginFactory).getPluginName();
+
+    } else if (pluginFactory instanceof PoolPluginFactorySpi) {
+      return ((PoolPluginFactorySpi) pluginFactory).getPoolPluginName();
+
+    } else if (pluginFactory instanceof RemotePluginFactorySpi) {
+      return ((RemotePluginFactorySpi) pluginFactory).getRemotePluginName();
+
+    } else {
+      throw new IllegalArgumentException("The factory doesn't implement the right SPI");
+    }
+  }
+
+  /**
+   * Creates and registers a plugin, without adding it to the service.
+   *
+   * <p>The plugin is unregistered if its registration fails.
+   *
+   * <p>The readers of the plugin are built concurrently, at most {@code maxConcurrentReaders} at a
+   * time.
+   *
+   * @param pluginFactory The plugin factory.
+   * @param maxConcurrentReaders The maximum number of readers built concurrently.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the factory doesn't implement the plugin API properly.
+   * @throws IllegalStateException If the plugin has already been registered.
+   * @throws KeyplePluginException If the registration of the plugin failed.
+   */
+  private AbstractPluginAdapter createAndRegisterPlugin(
+      KeyplePluginExtensionFactory pluginFactory, int maxConcurrentReaders) {
+    AbstractPluginAdapter plugin = null;
+    try {
+      plugin = createPlugin(pluginFactory);
+      plugin.setReaderRegistrationExecutor(PLUGIN_REGISTRATION_EXECUTOR, maxConcurrentReaders);
+      plugin.register();
+      return plugin;
+    } catch (IllegalArgumentException e) {
+      unregisterQuietly(plugin);
+      throw new IllegalArgumentException(
+          "The provided plugin factory doesn't implement the plugin API properly", e);
+    } catch (PluginIOException e) {
+      unregisterQuietly(plugin);
+      throw new KeyplePluginException(
+          String.format("Unable to register the plugin [%s]: %s", plugin.getName(), e.getMessage()),
+          e);
+    } catch (RuntimeException e) {
+      unregisterQuietly(plugin);
+      throw e;
+    }
+  }
+
+  /**
+   * Adds to the service the plugins registered by {@link #registerPluginsAsync(List, int)} and
+   * completes the associated future, or unregisters them all if one of the registrations failed.
+   *
+   * @param createdPlugins The plugins created, containing null values if an error occurred.
+   * @param registrationDurations The registration durations of the plugins.
+   * @param error The first error that occurred, null if all the registrations succeeded.
+   * @param future The future to complete.
+   */
+  private void publishPlugins(
+      AbstractPluginAdapter[] createdPlugins,
+      long[] registrationDurations,
+      Throwable error,
+      CompletableFuture<List<PluginRegistration>> future) {
+    synchronized (pluginMonitor) {
+      if (error == null) {
+        // a plugin may have been registered by registerPlugin in the meantime
+        for (AbstractPluginAdapter plugin : createdPlugins) {
+          if (plugins.containsKey(plugin.getName())) {
+            error =
+                new IllegalStateException(
+                    String.format(
+                        "Plugin [%s] has already been registered to the service",
+                        plugin.getName()));
+            break;
+          }
+        }
+      }
+      if (error == null) {
+        for (AbstractPluginAdapter plugin : createdPlugins) {
+          plugins.put(plugin.getName(), plugin);
+        }
+      }
+    }
+    if (error != null) {
+      for (AbstractPluginAdapter plugin : createdPlugins) {
+        unregisterQuietly(plugin);
+      }
+      future.completeExceptionally(error);
+      return;
+    }
+    List<PluginRegistration> registrations = new ArrayList<>(createdPlugins.length);
+    for (int i = 0; i < createdPlugins.length; i++) {
+      logger.info(
+          "Plugin [{}] registered in {} ms",
+          createdPlugins[i].getName(),
+          TimeUnit.NANOSECONDS.toMillis(registrationDurations[i]));
+      registrations.add(new PluginRegistration(createdPlugins[i], registrationDurations[i]));
+    }
+    future.complete(registrations);
+  }
+
+  /**
+   * Unregisters a plugin not added to the service, logging any error.
+   *
+   * @param plugin The plugin, may be null.
+   */
+  private void unregisterQuietly(AbstractPluginAdapter plugin) {
+    if (plugin == null) {
+      return;
+    }
+    try {
+      plugin.unregister();
+    } catch (Exception e) {
+      logger.error("Error unregistering plugin [{}]", plugin.getName(), e);
+    }
+  }
+
+  /**
+   * Creates an instance of plugin according to the SPI implemented by the provided factory.
+   *
+   * @param pluginFactory The plugin factory.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the factory doesn't implement the right SPI.
+   */
+  private AbstractPluginAdapter createPlugin(KeyplePluginExtensionFactory pluginFactory) {
+    if (pluginFactory instanceof PluginFactorySpi) {
+      return createLocalPlugin((PluginFactorySpi) pluginFactory);
+
+    } else if (pluginFactory instanceof PoolPluginFactorySpi) {
+      return createLocalPoolPlugin((PoolPluginFactorySpi) pluginFactory);
+
+    } else if (pluginFactory instanceof RemotePluginFactorySpi) {
+      return createRemotePlugin((RemotePluginFactorySpi) pluginFactory);
+
+    } else {
+      throw new IllegalArgumentException("The factory doesn't implement the right SPI");
+    }
+  }
+
   /**
    * Creates an instance of local plugin.
    *
@@ -510,14 +854,10 @@ public Plugin getPlugin(String pluginName) {
    */
   @Override
   public Plugin getPlugin(CardReader cardReader) {
-    for (Plugin plugin : plugins.values()) {
-      for (CardReader reader : plugin.getReaders()) {
-        if (reader == cardReader) {
-          return plugin;
-        }
-      }
+    if (cardReader == null) {
+      return null;
     }
-    return null;
+    return getRegisteredPlugin(cardReader);
   }
 
   /**
@@ -527,14 +867,10 @@ public Plugin getPlugin(CardReader cardReader) {
    */
   @Override
   public CardReader getReader(String readerName) {
-    for (Plugin plugin : plugins.values()) {
-      for (CardReader reader : plugin.getReaders()) {
-        if (reader.getName().equals(readerName)) {
-          return reader;
-        }
-      }
+    if (readerName == null) {
+      return null;
     }
-    return null;
+    return getRegisteredReader(readerName);
   }
 
   /**
@@ -544,10 +880,17 @@ public CardReader getReader(String readerName) {
    */
   @Override
   public CardReader findReader(String readerNameRegex) {
-    for (Plugin plugin : plugins.values()) {
-      CardReader reader = plugin.findReader(readerNameRegex);
-      if (reader != null) {
-        return reader;
+    String readerName = ReaderNamePatternCache.getQuotedLiteral(readerNameRegex);
+    if (readerName != null) {
+      return getRegisteredReader(readerName);
+    }
+    Pattern pattern = ReaderNamePatternCache.getPattern(readerNameRegex);
+    for (String name : readerIndex.getReaderNames()) {
+      if (pattern.matcher(name).matches()) {
+        CardReader reader = getRegisteredReader(name);
+        if (reader != null) {
+          return reader;
+        }
       }
     }
     return null;
@@ -650,4 +993,205 @@ public DistributedLocalService getDistributedLocalService(String distributedLoca
   public ReaderApiFactory getReaderApiFactory() {
     return new ReaderApiFactoryAdapter();
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public CompiledCardSelectionScenario compileCardSelectionScenario(
+      CardSelectionManager cardSelectionManager) {
+
+    Assert.getInstance().notNull(cardSelectionManager, "cardSelectionManager");
+
+    if (!(cardSelectionManager instanceof CardSelectionManagerAdapter)) {
+      throw new IllegalArgumentException("Not a Keyple card selection manager implementation");
+    }
+    return ((CardSelectionManagerAdapter) cardSelectionManager).compile();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public CompiledCardSelectionScenario compileCardSelectionScenario(
+      CardSelectionManager cardSelectionManager, CardSelectionOrdering cardSelectionOrdering) {
+
+    Assert.getInstance()
+        .notNull(cardSelectionManager, "cardSelectionManager")
+        .notNull(cardSelectionOrdering, "cardSelectionOrdering");
+
+    if (!(cardSelectionManager instanceof CardSelectionManagerAdapter)) {
+      throw new IllegalArgumentException("Not a Keyple card selection manager implementation");
+    }
+    return ((CardSelectionManagerAdapter) cardSelectionManager).compile(cardSelectionOrdering);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public ReaderMetrics getReaderMetrics(CardReader reader) {
+
+    Assert.getInstance().notNull(reader, "reader");
+
+    if (!(reader instanceof AbstractReaderAdapter)) {
+      throw new IllegalArgumentException("Not a Keyple reader implementation");
+    }
+    return ((AbstractReaderAdapter) reader).getMetrics();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public ReaderLease acquireReaderLease(CardReader reader, long timeoutMillis) {
+
+    Assert.getInstance().notNull(reader, "reader").isTrue(timeoutMillis >= 0, "timeoutMillis");
+
+    if (!(reader instanceof AbstractReaderAdapter)) {
+      throw new IllegalArgumentException("Not a Keyple reader implementation");
+    }
+    return ((AbstractReaderAdapter) reader).acquireLease(timeoutMillis);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public void setMonitoringThreadMode(MonitoringThreadMode monitoringThreadMode) {
+
+    Assert.getInstance().notNull(monitoringThreadMode, "monitoringThreadMode");
+
+    MonitoringThreadFactory.setThreadMode(monitoringThreadMode);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public void setApduFlightRecorderCapacity(int capacity) {
+
+    Assert.getInstance().greaterOrEqual(capacity, 0, "capacity");
+
+    ApduFlightRecorder.setDefaultCapacity(capacity);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public void setApduFlightRecorderDataMasking(boolean isDataMaskingEnabled) {
+    ApduFlightRecorder.setDataMaskingEnabledByDefault(isDataMaskingEnabled);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public void setCardPresencePollingPolicy(
+      CardReader reader, CardPresencePollingPolicy pollingPolicy) {
+
+    Assert.getInstance().notNull(reader, "reader");
+
+    if (!(reader instanceof ObservableLocalReaderAdapter)) {
+      throw new IllegalArgumentException("Not an observable local Keyple reader implementation");
+    }
+    ((ObservableLocalReaderAdapter) reader).setCardPresencePollingPolicy(pollingPolicy);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public void setObserverDispatchPolicy(CardReader reader, ObserverDispatchPolicy dispatchPolicy) {
+
+    Assert.getInstance().notNull(reader, "reader");
+
+    if (!(reader instanceof ObservableLocalReaderAdapter)) {
+      throw new IllegalArgumentException("Not an observable local Keyple reader implementation");
+    }
+    ((ObservableLocalReaderAdapter) reader).setObserverDispatchPolicy(dispatchPolicy);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public void setCardProcessingTimeout(CardReader reader, long timeoutMillis) {
+
+    Assert.getInstance().notNull(reader, "reader").isTrue(timeoutMillis >= 0, "timeoutMillis");
+
+    if (!(reader instanceof ObservableLocalReaderAdapter)) {
+      throw new IllegalArgumentException("Not an observable local Keyple reader implementation");
+    }
+    ((ObservableLocalReaderAdapter) reader).setCardProcessingTimeoutMillis(timeoutMillis);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public ReaderEventTimestamps getReaderEventTimestamps(CardReaderEvent readerEvent) {
+
+    Assert.getInstance().notNull(readerEvent, "readerEvent");
+
+    if (!(readerEvent instanceof ReaderEventAdapter)) {
+      throw new IllegalArgumentException("Not a Keyple reader event implementation");
+    }
+    return ((ReaderEventAdapter) readerEvent).getTimestamps();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public void setCardPresenceCacheMaxAge(CardReader reader, long maxAgeMillis) {
+
+    Assert.getInstance().notNull(reader, "reader").isTrue(maxAgeMillis >= 0, "maxAgeMillis");
+
+    if (!(reader instanceof ObservableLocalReaderAdapter)) {
+      throw new IllegalArgumentException("Not an observable local Keyple reader implementation");
+    }
+    ((ObservableLocalReaderAdapter) reader).setCardPresenceCacheMaxAgeMillis(maxAgeMillis);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.4.0
+   */
+  @Override
+  public void setCardRemovalProbePolicy(CardReader reader, CardRemovalProbePolicy probePolicy) {
+
+    Assert.getInstance().notNull(reader, "reader");
+
+    if (!(reader instanceof ObservableLocalReaderAdapter)) {
+      throw new IllegalArgumentException("Not an observable local Keyple reader implementation");
+    }
+    ((ObservableLocalReaderAdapter) reader).setCardRemovalProbePolicy(probePolicy);
+  }
 }
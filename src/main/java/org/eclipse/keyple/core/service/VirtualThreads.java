@@ -0,0 +1,50 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Factory of virtual threads.
+ *
+ * <p>Virtual threads are not supported by this Java 8 version. The library is packaged as a
+ * multi-release JAR whose Java 21 version of this class creates virtual threads (see {@code
+ * src/main/java21}).
+ *
+ * @since 3.4.0
+ */
+final class VirtualThreads {
+
+  /** Constructor. */
+  private VirtualThreads() {}
+
+  /**
+   * Indicates if virtual threads are supported by the running JVM.
+   *
+   * @return False.
+   * @since 3.4.0
+   */
+  static boolean isSupported() {
+    return false;
+  }
+
+  /**
+   * Creates a virtual thread, not started.
+   *
+   * @param name The name of the thread.
+   * @param task The task to run.
+   * @return A not null reference.
+   * @throws UnsupportedOperationException Always.
+   * @since 3.4.0
+   */
+  static Thread newThread(String name, Runnable task) {
+    throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+  }
+}
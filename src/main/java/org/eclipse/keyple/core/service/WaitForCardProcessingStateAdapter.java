@@ -26,6 +26,9 @@
  *       WAIT_FOR_CARD_DETECTION according to the {@link ObservableCardReader.DetectionMode}
  *       setting.
  *   <li>Upon STOP_DETECT event, the machine changes state for WAIT_FOR_CARD_DETECTION.
+ *   <li>Upon TIME_OUT event (card processing timeout), the channels are released, the application
+ *       is notified with the exception handler and the machine changes state as for
+ *       CARD_PROCESSED.
  * </ul>
  *
  * @since 2.0.0
@@ -79,14 +82,14 @@ void onEvent(ObservableLocalReaderAdapter.InternalEvent event) {
      */
     switch (event) {
       case CARD_PROCESSED:
-        if (this.getReader().getDetectionMode() == ObservableCardReader.DetectionMode.REPEATING) {
-          switchState(MonitoringState.WAIT_FOR_CARD_REMOVAL);
-        } else {
-          // We close the channels now and notify the application of
-          // the CARD_REMOVED event.
-          this.getReader().processCardRemoved();
-          switchState(MonitoringState.WAIT_FOR_START_DETECTION);
-        }
+        processCardProcessed();
+        break;
+
+      case TIME_OUT:
+        // the application did not finalize the processing in time, we release the channels and
+        // resume the detection as if it had.
+        getReader().processCardProcessingTimeout();
+        processCardProcessed();
         break;
 
       case CARD_REMOVED:
@@ -95,8 +98,8 @@ void onEvent(ObservableLocalReaderAdapter.InternalEvent event) {
         // for insertion
         // We notify the application of the CARD_REMOVED event.
 
-        // FIXME bug if mode REPEATING and if user execute the stopCardDetection in the same thread
-        // during the processCardRemoved method.
+        // a stopCardDetection invoked by an observer during the processCardRemoved method is
+        // enqueued, thus processed once the new state is active.
         getReader().processCardRemoved();
         if (getReader().getDetectionMode() == ObservableCardReader.DetectionMode.REPEATING) {
           switchState(MonitoringState.WAIT_FOR_CARD_INSERTION);
@@ -117,4 +120,16 @@ void onEvent(ObservableLocalReaderAdapter.InternalEvent event) {
         break;
     }
   }
+
+  /** Leaves the processing state once the processing of the card is finalized. */
+  private void processCardProcessed() {
+    if (this.getReader().getDetectionMode() == ObservableCardReader.DetectionMode.REPEATING) {
+      switchState(MonitoringState.WAIT_FOR_CARD_REMOVAL);
+    } else {
+      // We close the channels now and notify the application of
+      // the CARD_REMOVED event.
+      this.getReader().processCardRemoved();
+      switchState(MonitoringState.WAIT_FOR_START_DETECTION);
+    }
+  }
 }
@@ -0,0 +1,57 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service.spi;
+
+import java.util.Set;
+import org.eclipse.keyple.core.plugin.PluginIOException;
+
+/**
+ * Optional capability of a plugin SPI ({@link org.eclipse.keyple.core.plugin.spi.PluginSpi}, {@link
+ * org.eclipse.keyple.core.plugin.spi.ObservablePluginSpi}, etc.) able to report the card presence
+ * of many readers in a single call (e.g. PC/SC {@code SCardGetStatusChange} with several reader
+ * states).
+ *
+ * <p>When a plugin provides this capability, the card insertion and removal monitoring of all its
+ * observable readers based on non-blocking SPIs is performed by a single polling loop per plugin,
+ * instead of one polling loop per reader. The card removal is then detected when the card is no
+ * longer reported as present, without pinging the card.
+ *
+ * <p>Unlike most of the interfaces of this package, this one is implemented by a plugin, not by the
+ * application (see the package documentation).
+ *
+ * <p>The call may block: it is executed by a thread of the service dedicated to the polls and does
+ * not delay the monitoring of the readers of the other plugins. A call blocking for a long time
+ * delays the next batched check of the plugin, which is only performed once the call has returned.
+ *
+ * @since 3.4.0
+ */
+public interface BatchCardPresencePluginSpi {
+
+  /**
+   * Checks in a single call the presence of a card in the provided readers.
+   *
+   * @param readerNames The names of the readers to check.
+   * @return A not null set containing the names, among the provided ones, of the readers in which a
+   *     card is present.
+   * @throws PluginIOException If the communication with the readers has failed.
+   * @since 3.4.0
+   */
+  Set<String> checkCardPresence(Set<String> readerNames) throws PluginIOException;
+
+  /**
+   * Gets the interval between two batched card presence checks.
+   *
+   * @return The interval in milliseconds.
+   * @since 3.4.0
+   */
+  int getCardPresenceMonitoringSleepDuration();
+}
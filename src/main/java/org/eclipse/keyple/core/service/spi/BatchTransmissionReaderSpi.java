@@ -0,0 +1,47 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service.spi;
+
+import java.util.List;
+import org.eclipse.keyple.core.plugin.CardIOException;
+import org.eclipse.keyple.core.plugin.ReaderIOException;
+
+/**
+ * Optional capability of a {@link org.eclipse.keyple.core.plugin.spi.reader.ReaderSpi} able to
+ * transmit several APDUs to the card in a single exchange with the reader.
+ *
+ * <p>The service uses this capability for the card requests that do not stop on an unsuccessful
+ * status word and in which all the APDUs but the last one have no Le field (case 1 or case 3), the
+ * last one being possibly a case 2 APDU, i.e. when the APDUs can be sent without examining the
+ * previous responses. The other card requests are transmitted one APDU at a time using {@link
+ * org.eclipse.keyple.core.plugin.spi.reader.ReaderSpi#transmitApdu(byte[])}.
+ *
+ * <p>The 61XX and 6CXX status words of the last APDU are handled by the service after the batch.
+ * Such status words received for the other APDUs are returned as is.
+ *
+ * @since 3.4.0
+ */
+public interface BatchTransmissionReaderSpi {
+
+  /**
+   * Transmits the provided APDUs to the card in the provided order and returns their responses.
+   *
+   * @param apduCommands The APDUs to transmit.
+   * @return A not null list containing exactly one response (data and status word) per APDU
+   *     command, in the same order. Any other result is considered as a reader communication
+   *     failure.
+   * @throws ReaderIOException If the communication with the reader has failed.
+   * @throws CardIOException If the communication with the card has failed.
+   * @since 3.4.0
+   */
+  List<byte[]> transmitApdus(List<byte[]> apduCommands) throws ReaderIOException, CardIOException;
+}
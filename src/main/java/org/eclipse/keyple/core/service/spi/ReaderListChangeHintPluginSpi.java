@@ -0,0 +1,43 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service.spi;
+
+import org.eclipse.keyple.core.plugin.PluginIOException;
+
+/**
+ * Optional capability of an {@link org.eclipse.keyple.core.plugin.spi.ObservablePluginSpi} able to
+ * tell cheaply whether its list of available readers may have changed (e.g. from a device
+ * notification counter of the operating system).
+ *
+ * <p>When a plugin provides this capability, each monitoring cycle of its list of readers first
+ * calls {@link #hasReaderListChanged()}, and the search of the available reader names is skipped
+ * when the list has not changed.
+ *
+ * <p>Unlike most of the interfaces of this package, this one is implemented by a plugin, not by the
+ * application (see the package documentation).
+ *
+ * @since 3.4.0
+ */
+public interface ReaderListChangeHintPluginSpi {
+
+  /**
+   * Indicates whether the list of available readers may have changed since the previous call to
+   * {@link org.eclipse.keyple.core.plugin.spi.ObservablePluginSpi#searchAvailableReaderNames()}.
+   *
+   * <p>When in doubt, the method must return true.
+   *
+   * @return False if the list of available readers has certainly not changed.
+   * @throws PluginIOException If the communication with the plugin has failed.
+   * @since 3.4.0
+   */
+  boolean hasReaderListChanged() throws PluginIOException;
+}
@@ -2,6 +2,12 @@
  * Interfaces to be implemented by applications to allow Keyple services to call the dedicated
  * methods.
  *
+ * <p>Since 3.4.0, this package also contains optional capabilities to be implemented by the plugins
+ * in addition to their SPIs of the Keyple Plugin API ({@link BatchCardPresencePluginSpi}, {@link
+ * BatchTransmissionReaderSpi} and {@link ReaderListChangeHintPluginSpi}). A plugin implementing
+ * them depends on this library, whose service detects them at runtime; the plugins not depending on
+ * it keep working without these optimizations.
+ *
  * @since 2.0.0
  */
 package org.eclipse.keyple.core.service.spi;
@@ -0,0 +1,362 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitter of the Java Flight Recorder (JFR) events of the service.
+ *
+ * <p>This Java 11 version of the class is packaged in the {@code META-INF/versions/11} directory of
+ * the multi-release JAR and emits the JFR events of the {@code Keyple} category.
+ *
+ * <p>Each {@code beginXxx} method returns an event token to be provided to the corresponding {@code
+ * commitXxx} method once the operation is complete. The token is null when the event is disabled,
+ * in which case no event object is allocated.
+ *
+ * @since 3.4.0
+ */
+final class FlightRecorderEvents {
+
+  private static final EventType APDU_EXCHANGE_EVENT_TYPE =
+      EventType.getEventType(ApduExchangeEvent.class);
+  private static final EventType CARD_SELECTION_SCENARIO_EVENT_TYPE =
+      EventType.getEventType(CardSelectionScenarioEvent.class);
+  private static final EventType PHYSICAL_CHANNEL_OPENING_EVENT_TYPE =
+      EventType.getEventType(PhysicalChannelOpeningEvent.class);
+  private static final EventType PHYSICAL_CHANNEL_CLOSING_EVENT_TYPE =
+      EventType.getEventType(PhysicalChannelClosingEvent.class);
+  private static final EventType STATE_SWITCH_EVENT_TYPE =
+      EventType.getEventType(StateSwitchEvent.class);
+  private static final EventType READER_CONNECTION_EVENT_TYPE =
+      EventType.getEventType(ReaderConnectionEvent.class);
+
+  /** Constructor. */
+  private FlightRecorderEvents() {}
+
+  /**
+   * Begins an APDU exchange event.
+   *
+   * @return Null if the event is disabled.
+   * @since 3.4.0
+   */
+  static Object beginApduExchange() {
+    return APDU_EXCHANGE_EVENT_TYPE.isEnabled() ? begin(new ApduExchangeEvent()) : null;
+  }
+
+  /**
+   * Commits an APDU exchange event.
+   *
+   * @param event The token returned by {@link #beginApduExchange()}.
+   * @param readerName The name of the reader.
+   * @param apduCount The number of APDUs exchanged (more than 1 for a batch transmission).
+   * @param commandLength The total length of the APDU commands.
+   * @param responseLength The total length of the APDU responses.
+   * @param isSuccessful False if the exchange has failed.
+   * @since 3.4.0
+   */
+  static void commitApduExchange(
+      Object event,
+      String readerName,
+      int apduCount,
+      int commandLength,
+      int responseLength,
+      boolean isSuccessful) {
+    if (event == null) {
+      return;
+    }
+    ApduExchangeEvent apduExchangeEvent = (ApduExchangeEvent) event;
+    apduExchangeEvent.end();
+    if (apduExchangeEvent.shouldCommit()) {
+      apduExchangeEvent.readerName = readerName;
+      apduExchangeEvent.apduCount = apduCount;
+      apduExchangeEvent.commandLength = commandLength;
+      apduExchangeEvent.responseLength = responseLength;
+      apduExchangeEvent.successful = isSuccessful;
+      apduExchangeEvent.commit();
+    }
+  }
+
+  /**
+   * Begins a card selection scenario event.
+   *
+   * @return Null if the event is disabled.
+   * @since 3.4.0
+   */
+  static Object beginCardSelectionScenario() {
+    return CARD_SELECTION_SCENARIO_EVENT_TYPE.isEnabled()
+        ? begin(new CardSelectionScenarioEvent())
+        : null;
+  }
+
+  /**
+   * Commits a card selection scenario event.
+   *
+   * @param event The token returned by {@link #beginCardSelectionScenario()}.
+   * @param readerName The name of the reader.
+   * @param selectionCount The number of selection cases of the scenario.
+   * @param isSuccessful False if the scenario has failed.
+   * @since 3.4.0
+   */
+  static void commitCardSelectionScenario(
+      Object event, String readerName, int selectionCount, boolean isSuccessful) {
+    if (event == null) {
+      return;
+    }
+    CardSelectionScenarioEvent cardSelectionScenarioEvent = (CardSelectionScenarioEvent) event;
+    cardSelectionScenarioEvent.end();
+    if (cardSelectionScenarioEvent.shouldCommit()) {
+      cardSelectionScenarioEvent.readerName = readerName;
+      cardSelectionScenarioEvent.selectionCount = selectionCount;
+      cardSelectionScenarioEvent.successful = isSuccessful;
+      cardSelectionScenarioEvent.commit();
+    }
+  }
+
+  /**
+   * Begins a physical channel opening event.
+   *
+   * @return Null if the event is disabled.
+   * @since 3.4.0
+   */
+  static Object beginPhysicalChannelOpening() {
+    return PHYSICAL_CHANNEL_OPENING_EVENT_TYPE.isEnabled()
+        ? begin(new PhysicalChannelOpeningEvent())
+        : null;
+  }
+
+  /**
+   * Commits a physical channel opening event.
+   *
+   * @param event The token returned by {@link #beginPhysicalChannelOpening()}.
+   * @param readerName The name of the reader.
+   * @param isSuccessful False if the opening has failed.
+   * @since 3.4.0
+   */
+  static void commitPhysicalChannelOpening(Object event, String readerName, boolean isSuccessful) {
+    commitReaderEvent((AbstractReaderEvent) event, readerName, isSuccessful);
+  }
+
+  /**
+   * Begins a physical channel closing event.
+   *
+   * @return Null if the event is disabled.
+   * @since 3.4.0
+   */
+  static Object beginPhysicalChannelClosing() {
+    return PHYSICAL_CHANNEL_CLOSING_EVENT_TYPE.isEnabled()
+        ? begin(new PhysicalChannelClosingEvent())
+        : null;
+  }
+
+  /**
+   * Commits a physical channel closing event.
+   *
+   * @param event The token returned by {@link #beginPhysicalChannelClosing()}.
+   * @param readerName The name of the reader.
+   * @param isSuccessful False if the closing has failed.
+   * @since 3.4.0
+   */
+  static void commitPhysicalChannelClosing(Object event, String readerName, boolean isSuccessful) {
+    commitReaderEvent((AbstractReaderEvent) event, readerName, isSuccessful);
+  }
+
+  /**
+   * Begins a monitoring state switch event.
+   *
+   * @return Null if the event is disabled.
+   * @since 3.4.0
+   */
+  static Object beginStateSwitch() {
+    return STATE_SWITCH_EVENT_TYPE.isEnabled() ? begin(new StateSwitchEvent()) : null;
+  }
+
+  /**
+   * Commits a monitoring state switch event.
+   *
+   * @param event The token returned by {@link #beginStateSwitch()}.
+   * @param readerName The name of the reader.
+   * @param fromState The previous state, null if none.
+   * @param toState The new state.
+   * @param isSuccessful False if the switch has failed.
+   * @since 3.4.0
+   */
+  static void commitStateSwitch(
+      Object event, String readerName, String fromState, String toState, boolean isSuccessful) {
+    if (event == null) {
+      return;
+    }
+    StateSwitchEvent stateSwitchEvent = (StateSwitchEvent) event;
+    stateSwitchEvent.end();
+    if (stateSwitchEvent.shouldCommit()) {
+      stateSwitchEvent.readerName = readerName;
+      stateSwitchEvent.fromState = fromState;
+      stateSwitchEvent.toState = toState;
+      stateSwitchEvent.successful = isSuccessful;
+      stateSwitchEvent.commit();
+    }
+  }
+
+  /**
+   * Begins a reader connection or disconnection event.
+   *
+   * @return Null if the event is disabled.
+   * @since 3.4.0
+   */
+  static Object beginReaderConnection() {
+    return READER_CONNECTION_EVENT_TYPE.isEnabled() ? begin(new ReaderConnectionEvent()) : null;
+  }
+
+  /**
+   * Commits a reader connection or disconnection event.
+   *
+   * @param event The token returned by {@link #beginReaderConnection()}.
+   * @param pluginName The name of the plugin.
+   * @param readerName The name of the reader.
+   * @param isConnection True for a connection, false for a disconnection.
+   * @param isSuccessful False if the connection or disconnection has failed.
+   * @since 3.4.0
+   */
+  static void commitReaderConnection(
+      Object event,
+      String pluginName,
+      String readerName,
+      boolean isConnection,
+      boolean isSuccessful) {
+    if (event == null) {
+      return;
+    }
+    ReaderConnectionEvent readerConnectionEvent = (ReaderConnectionEvent) event;
+    readerConnectionEvent.end();
+    if (readerConnectionEvent.shouldCommit()) {
+      readerConnectionEvent.pluginName = pluginName;
+      readerConnectionEvent.readerName = readerName;
+      readerConnectionEvent.connection = isConnection;
+      readerConnectionEvent.successful = isSuccessful;
+      readerConnectionEvent.commit();
+    }
+  }
+
+  /**
+   * Starts the timing of the provided event.
+   *
+   * @param event The event.
+   * @return The provided event.
+   */
+  private static Event begin(Event event) {
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Commits an event having only the common reader fields.
+   *
+   * @param event The event, null if disabled.
+   * @param readerName The name of the reader.
+   * @param isSuccessful False if the operation has failed.
+   */
+  private static void commitReaderEvent(
+      AbstractReaderEvent event, String readerName, boolean isSuccessful) {
+    if (event == null) {
+      return;
+    }
+    event.end();
+    if (event.shouldCommit()) {
+      event.readerName = readerName;
+      event.successful = isSuccessful;
+      event.commit();
+    }
+  }
+
+  /** Fields common to all the reader events. */
+  @Category({"Keyple", "Reader"})
+  abstract static class AbstractReaderEvent extends Event {
+
+    @Label("Reader Name")
+    String readerName;
+
+    @Label("Successful")
+    @Description("False if the operation has failed")
+    boolean successful;
+  }
+
+  /** APDU exchange with the card. */
+  @Name("org.eclipse.keyple.ApduExchange")
+  @Label("APDU Exchange")
+  @Description("Transmission of one APDU, or of a batch of APDUs, to the card")
+  static final class ApduExchangeEvent extends AbstractReaderEvent {
+
+    @Label("APDU Count")
+    int apduCount;
+
+    @Label("Command Length")
+    @DataAmount
+    int commandLength;
+
+    @Label("Response Length")
+    @DataAmount
+    int responseLength;
+  }
+
+  /** Card selection scenario execution. */
+  @Name("org.eclipse.keyple.CardSelectionScenario")
+  @Label("Card Selection Scenario")
+  @Description("Execution of a card selection scenario")
+  static final class CardSelectionScenarioEvent extends AbstractReaderEvent {
+
+    @Label("Selection Count")
+    int selectionCount;
+  }
+
+  /** Physical channel opening. */
+  @Name("org.eclipse.keyple.PhysicalChannelOpening")
+  @Label("Physical Channel Opening")
+  static final class PhysicalChannelOpeningEvent extends AbstractReaderEvent {}
+
+  /** Physical channel closing. */
+  @Name("org.eclipse.keyple.PhysicalChannelClosing")
+  @Label("Physical Channel Closing")
+  static final class PhysicalChannelClosingEvent extends AbstractReaderEvent {}
+
+  /** Card detection state machine transition. */
+  @Name("org.eclipse.keyple.StateSwitch")
+  @Label("Monitoring State Switch")
+  @Description("Transition of the card detection state machine of an observable reader")
+  static final class StateSwitchEvent extends AbstractReaderEvent {
+
+    @Label("From State")
+    String fromState;
+
+    @Label("To State")
+    String toState;
+  }
+
+  /** Reader connection or disconnection notified by a plugin. */
+  @Name("org.eclipse.keyple.ReaderConnection")
+  @Label("Reader Connection")
+  @Description("Connection or disconnection of a reader of an observable plugin")
+  static final class ReaderConnectionEvent extends AbstractReaderEvent {
+
+    @Label("Plugin Name")
+    String pluginName;
+
+    @Label("Connection")
+    @Description("True for a connection, false for a disconnection")
+    boolean connection;
+  }
+}
@@ -0,0 +1,48 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Factory of virtual threads.
+ *
+ * <p>This Java 21 version of the class is packaged in the {@code META-INF/versions/21} directory
+ * of the multi-release JAR.
+ *
+ * @since 3.4.0
+ */
+final class VirtualThreads {
+
+  /** Constructor. */
+  private VirtualThreads() {}
+
+  /**
+   * Indicates if virtual threads are supported by the running JVM.
+   *
+   * @return True.
+   * @since 3.4.0
+   */
+  static boolean isSupported() {
+    return true;
+  }
+
+  /**
+   * Creates a virtual thread, not started.
+   *
+   * @param name The name of the thread.
+   * @param task The task to run.
+   * @return A not null reference.
+   * @since 3.4.0
+   */
+  static Thread newThread(String name, Runnable task) {
+    return Thread.ofVirtual().name(name).unstarted(task);
+  }
+}
@@ -12,12 +12,17 @@
 package org.eclipse.keyple.core.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 import static org.eclipse.keyple.core.service.util.PluginAdapterTestUtils.PLUGIN_NAME;
 import static org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils.READER_NAME;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.keyple.core.common.KeypleReaderExtension;
 import org.eclipse.keyple.core.plugin.spi.reader.ReaderSpi;
 import org.eclipse.keypop.card.*;
@@ -27,6 +32,7 @@
 import org.eclipse.keypop.reader.selection.CardSelector;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 public class AbstractReaderAdapterTest {
@@ -85,6 +91,167 @@ public void transmitCardRequest_shouldInvoke_processCardRequest()
     verify(readerAdapter, times(1)).processCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN);
   }
 
+  @Test(expected = IllegalStateException.class)
+  public void transmitCardRequestAsync_whenReaderIsNotRegistered_shouldISE() {
+    readerAdapter.transmitCardRequestAsync(cardRequestSpi, ChannelControl.KEEP_OPEN);
+  }
+
+  @Test
+  public void transmitCardRequestAsync_shouldProcessCardRequestsInSubmissionOrder()
+      throws Exception {
+    CardRequestSpi cardRequestSpi2 = mock(CardRequestSpi.class);
+    readerAdapter = Mockito.spy(readerAdapter);
+    readerAdapter.register();
+    CompletableFuture<CardResponseApi> future1 =
+        readerAdapter.transmitCardRequestAsync(cardRequestSpi, ChannelControl.KEEP_OPEN);
+    CompletableFuture<CardResponseApi> future2 =
+        readerAdapter.transmitCardRequestAsync(cardRequestSpi2, ChannelControl.CLOSE_AFTER);
+    assertThat(future2.get(1, TimeUnit.SECONDS)).isNotNull();
+    assertThat(future1.isDone()).isTrue();
+    InOrder inOrder = inOrder(readerAdapter);
+    inOrder.verify(readerAdapter).processCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN);
+    inOrder.verify(readerAdapter).processCardRequest(cardRequestSpi2, ChannelControl.CLOSE_AFTER);
+  }
+
+  @Test(expected = CardBrokenCommunicationException.class)
+  public void transmitCardRequestAsync_whenProcessCardRequestFails_shouldCompleteExceptionally()
+      throws Throwable {
+    readerAdapter = Mockito.spy(readerAdapter);
+    readerAdapter.register();
+    doThrow(new CardBrokenCommunicationException(null, false, "", new RuntimeException()))
+        .when(readerAdapter)
+        .processCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN);
+    CompletableFuture<CardResponseApi> future =
+        readerAdapter.transmitCardRequestAsync(cardRequestSpi, ChannelControl.KEEP_OPEN);
+    try {
+      future.get(1, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      throw e.getCause();
+    }
+  }
+
+  @Test
+  public void acquireLease_whenClosed_shouldReleaseChannelAndRecordMetrics() {
+    readerAdapter = Mockito.spy(readerAdapter);
+    readerAdapter.register();
+    ReaderLease lease = readerAdapter.acquireLease(100);
+    assertThat(lease.getReader()).isSameAs(readerAdapter);
+    lease.close();
+    lease.close();
+    verify(readerAdapter, times(1)).releaseChannel();
+    assertThat(readerAdapter.getMetrics().getLeaseWaitLatency().getCount()).isEqualTo(1);
+    assertThat(readerAdapter.getMetrics().getLeaseHoldLatency().getCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void acquireLease_whenNested_shouldReleaseChannelOnlyOnOutermostClose() {
+    readerAdapter = Mockito.spy(readerAdapter);
+    readerAdapter.register();
+    ReaderLease outerLease = readerAdapter.acquireLease(100);
+    ReaderLease innerLease = readerAdapter.acquireLease(100);
+    innerLease.close();
+    verify(readerAdapter, never()).releaseChannel();
+    outerLease.close();
+    verify(readerAdapter, times(1)).releaseChannel();
+  }
+
+  @Test
+  public void acquireLease_whenLeasedByAnotherThread_shouldThrowRLTEAfterTimeout()
+      throws Exception {
+    readerAdapter.register();
+    final CountDownLatch leased = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(1);
+    Thread thread =
+        new Thread(
+            new Runnable() {
+              @Override
+              public void run() {
+                ReaderLease lease = readerAdapter.acquireLease(100);
+                leased.countDown();
+                try {
+                  done.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                } finally {
+                  lease.close();
+                }
+              }
+            });
+    thread.start();
+    leased.await();
+    try {
+      readerAdapter.acquireLease(10);
+      fail("ReaderLeaseTimeoutException expected");
+    } catch (ReaderLeaseTimeoutException e) {
+      assertThat(readerAdapter.getMetrics().getLeaseTimeoutCount()).isEqualTo(1);
+    } finally {
+      done.countDown();
+      thread.join();
+    }
+    readerAdapter.acquireLease(100).close();
+  }
+
+  @Test
+  public void transmitCardRequestAsync_whenLeasedByCurrentThread_shouldISE() throws Exception {
+    readerAdapter.register();
+    ReaderLease lease = readerAdapter.acquireLease(100);
+    try {
+      readerAdapter.transmitCardRequestAsync(cardRequestSpi, ChannelControl.KEEP_OPEN);
+      fail("IllegalStateException expected");
+    } catch (IllegalStateException e) {
+      // expected
+    } finally {
+      lease.close();
+    }
+    // the lease being closed, the asynchronous exchanges are processed again
+    assertThat(
+            readerAdapter
+                .transmitCardRequestAsync(cardRequestSpi, ChannelControl.KEEP_OPEN)
+                .get(1, TimeUnit.SECONDS))
+        .isNotNull();
+  }
+
+  @Test
+  public void transmitCardRequest_whenLeasedByAnotherThread_shouldWaitForLeaseEnd()
+      throws Exception {
+    readerAdapter.register();
+    ReaderLease lease = readerAdapter.acquireLease(100);
+    final CountDownLatch transmitted = new CountDownLatch(1);
+    Thread thread =
+        new Thread(
+            new Runnable() {
+              @Override
+              public void run() {
+                try {
+                  readerAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN);
+                  transmitted.countDown();
+                } catch (Exception e) {
+                  // the latch is not counted down
+                }
+              }
+            });
+    thread.start();
+    try {
+      assertThat(transmitted.await(200, TimeUnit.MILLISECONDS)).isFalse();
+    } finally {
+      lease.close();
+    }
+    assertThat(transmitted.await(1, TimeUnit.SECONDS)).isTrue();
+    thread.join();
+  }
+
+  @Test
+  public void transmitCardRequest_whenLeasedByCurrentThread_shouldNotWait() throws Exception {
+    readerAdapter.register();
+    ReaderLease lease = readerAdapter.acquireLease(100);
+    try {
+      assertThat(readerAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN))
+          .isNotNull();
+    } finally {
+      lease.close();
+    }
+  }
+
   private static class DefaultAbstractReaderAdapter extends AbstractReaderAdapter {
 
     DefaultAbstractReaderAdapter(
@@ -0,0 +1,46 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class AdaptiveCardSelectionOrderTest {
+
+  private static final String READER_1 = "reader1";
+  private static final String READER_2 = "reader2";
+
+  @Test
+  public void getOrder_whenNoOutcome_shouldReturnDeclarationOrder() {
+    AdaptiveCardSelectionOrder order = new AdaptiveCardSelectionOrder(3, false);
+    assertThat(order.getOrder(READER_1)).containsExactly(0, 1, 2);
+  }
+
+  @Test
+  public void getOrder_whenLastSelectionMatches_shouldPutItFirst() {
+    AdaptiveCardSelectionOrder order = new AdaptiveCardSelectionOrder(3, false);
+    int[] currentOrder = order.getOrder(READER_1);
+    order.recordOutcome(READER_1, currentOrder, 3, 2);
+    assertThat(order.getOrder(READER_1)).containsExactly(2, 0, 1);
+    assertThat(order.getOrder(READER_2)).containsExactly(2, 0, 1);
+  }
+
+  @Test
+  public void getOrder_whenPerReader_shouldNotShareStatistics() {
+    AdaptiveCardSelectionOrder order = new AdaptiveCardSelectionOrder(3, true);
+    int[] currentOrder = order.getOrder(READER_1);
+    order.recordOutcome(READER_1, currentOrder, 2, 1);
+    assertThat(order.getOrder(READER_1)).containsExactly(1, 2, 0);
+    assertThat(order.getOrder(READER_2)).containsExactly(0, 1, 2);
+  }
+}
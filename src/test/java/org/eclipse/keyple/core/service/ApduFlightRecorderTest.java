@@ -0,0 +1,100 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.keyple.core.util.HexUtil;
+import org.junit.Test;
+
+public class ApduFlightRecorderTest {
+
+  @Test
+  public void dump_whenNothingRecorded_shouldReturnNull() {
+    assertThat(new ApduFlightRecorder(4).dump()).isNull();
+  }
+
+  @Test
+  public void dump_whenBufferIsFull_shouldKeepTheLastExchangesInOrder() {
+    ApduFlightRecorder recorder = new ApduFlightRecorder(2);
+    recorder.record(10, 20, HexUtil.toByteArray("00B2014400"), HexUtil.toByteArray("9000"));
+    recorder.record(30, 45, HexUtil.toByteArray("00B2024400"), HexUtil.toByteArray("6A82"));
+    recorder.record(50, 60, HexUtil.toByteArray("00B2034400"), null);
+    String dump = recorder.dump();
+    assertThat(dump)
+        .isEqualTo(
+            "Last 2 APDU exchanges:"
+                + "\n#1 t=30ns (15ns) --> 00B2024400 <-- 6A82"
+                + "\n#2 t=50ns (10ns) --> 00B2034400 <-- (no response)");
+  }
+
+  @Test
+  public void attachTo_shouldAddSuppressedFlightRecordOnlyOnce() {
+    ApduFlightRecorder recorder = new ApduFlightRecorder(2);
+    recorder.record(10, 20, HexUtil.toByteArray("00B2014400"), HexUtil.toByteArray("9000"));
+    Exception cause = recorder.attachTo(new Exception("cause"));
+    Exception exception = recorder.attachTo(new RuntimeException("wrapper", cause));
+    assertThat(cause.getSuppressed()).hasSize(1);
+    assertThat(cause.getSuppressed()[0])
+        .isInstanceOf(ApduFlightRecordException.class)
+        .hasMessageContaining("00B2014400 <-- 9000");
+    assertThat(exception.getSuppressed()).isEmpty();
+  }
+
+  @Test
+  public void attachTo_whenNothingRecorded_shouldNotAddSuppressedException() {
+    Exception exception = new ApduFlightRecorder(2).attachTo(new Exception());
+    assertThat(exception.getSuppressed()).isEmpty();
+  }
+
+  @Test
+  public void attachTo_whenDataMaskingIsEnabled_shouldNotExposeData() {
+    ApduFlightRecorder recorder = new ApduFlightRecorder(2);
+    recorder.record(
+        10, 20, HexUtil.toByteArray("0020000008112233445566778800"), HexUtil.toByteArray("9000"));
+    recorder.record(
+        30, 40, HexUtil.toByteArray("00840000"), HexUtil.toByteArray("A1B2C3D4E5F607089000"));
+    Exception exception = recorder.attachTo(new Exception("error"));
+    String message = exception.getSuppressed()[0].getMessage();
+    assertThat(message)
+        .contains("0020000008[8 bytes masked]00 <-- 9000")
+        .contains("00840000 <-- [8 bytes masked]9000")
+        .doesNotContain("1122334455667788")
+        .doesNotContain("A1B2C3D4E5F60708");
+  }
+
+  @Test
+  public void dump_whenMaskedResponseIsTruncated_shouldKeepItsStatusWord() {
+    ApduFlightRecorder recorder = new ApduFlightRecorder(2);
+    byte[] response = new byte[300];
+    response[298] = (byte) 0x62;
+    response[299] = (byte) 0x83;
+    recorder.record(10, 20, HexUtil.toByteArray("00B0000000"), response);
+    assertThat(recorder.dump()).endsWith("00B0000000 <-- [298 bytes masked]6283");
+  }
+
+  @Test
+  public void dump_whenDataMaskingIsDisabled_shouldExposeData() {
+    ApduFlightRecorder recorder = new ApduFlightRecorder(2, false);
+    recorder.record(
+        10, 20, HexUtil.toByteArray("00200000081122334455667788"), HexUtil.toByteArray("9000"));
+    assertThat(recorder.dump()).contains("00200000081122334455667788 <-- 9000");
+  }
+
+  @Test
+  public void dump_whenCapacityIsZero_shouldReturnNull() {
+    ApduFlightRecorder recorder = new ApduFlightRecorder(0);
+    recorder.record(10, 20, HexUtil.toByteArray("00B2014400"), HexUtil.toByteArray("9000"));
+    assertThat(recorder.dump()).isNull();
+    assertThat(recorder.attachTo(new Exception()).getSuppressed()).isEmpty();
+  }
+}
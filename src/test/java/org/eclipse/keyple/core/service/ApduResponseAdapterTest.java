@@ -29,4 +29,18 @@ public void buildApduResponseAdapter() {
     assertThat(apduResponseAdapter.getStatusWord()).isEqualTo(0x9000);
     assertThat(apduResponseAdapter.getDataOut()).isEqualTo(HexUtil.toByteArray(HEX_REQUEST_DATA));
   }
+
+  @Test
+  public void getDataOut_whenNoData_shouldReturnEmptyArray() {
+    apduResponseAdapter = new ApduResponseAdapter(HexUtil.toByteArray("6283"));
+    assertThat(apduResponseAdapter.getDataOut()).isEmpty();
+    assertThat(apduResponseAdapter.getDataOutLength()).isZero();
+    assertThat(apduResponseAdapter.getStatusWord()).isEqualTo(0x6283);
+  }
+
+  @Test
+  public void getDataOutLength_shouldReturnLengthWithoutStatusWord() {
+    apduResponseAdapter = new ApduResponseAdapter(HexUtil.toByteArray(HEX_REQUEST));
+    assertThat(apduResponseAdapter.getDataOutLength()).isEqualTo(4);
+  }
 }
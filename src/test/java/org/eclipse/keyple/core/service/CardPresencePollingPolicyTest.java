@@ -0,0 +1,55 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class CardPresencePollingPolicyTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void fixed_whenIntervalIsZero_shouldThrowIAE() {
+    CardPresencePollingPolicy.fixed(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void adaptive_whenMaxIntervalIsLessThanMinInterval_shouldThrowIAE() {
+    CardPresencePollingPolicy.adaptive(100, 50, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void adaptive_whenFastPollingDurationIsNegative_shouldThrowIAE() {
+    CardPresencePollingPolicy.adaptive(10, 50, -1);
+  }
+
+  @Test
+  public void getNextIntervalMillis_whenFixed_shouldAlwaysReturnInterval() {
+    CardPresencePollingPolicy pollingPolicy = CardPresencePollingPolicy.fixed(100);
+    assertThat(pollingPolicy.getNextIntervalMillis(0, 0)).isEqualTo(100);
+    assertThat(pollingPolicy.getNextIntervalMillis(100, 10000)).isEqualTo(100);
+  }
+
+  @Test
+  public void getNextIntervalMillis_whenAdaptive_shouldPollFastThenBackOffToCeiling() {
+    CardPresencePollingPolicy pollingPolicy = CardPresencePollingPolicy.adaptive(10, 50, 200);
+    // fast polling after an activity
+    assertThat(pollingPolicy.getNextIntervalMillis(0, 0)).isEqualTo(10);
+    assertThat(pollingPolicy.getNextIntervalMillis(10, 150)).isEqualTo(10);
+    // exponential back-off
+    assertThat(pollingPolicy.getNextIntervalMillis(10, 200)).isEqualTo(20);
+    assertThat(pollingPolicy.getNextIntervalMillis(20, 220)).isEqualTo(40);
+    // ceiling
+    assertThat(pollingPolicy.getNextIntervalMillis(40, 260)).isEqualTo(50);
+    assertThat(pollingPolicy.getNextIntervalMillis(50, 10000)).isEqualTo(50);
+  }
+}
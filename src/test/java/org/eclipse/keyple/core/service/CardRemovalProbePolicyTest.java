@@ -0,0 +1,56 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class CardRemovalProbePolicyTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void apduPing_whenApduIsNull_shouldThrowIAE() {
+    CardRemovalProbePolicy.apduPing(null, 100, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void apduPing_whenApduIsTooShort_shouldThrowIAE() {
+    CardRemovalProbePolicy.apduPing(new byte[] {0x00, (byte) 0xB0, 0x00}, 100, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void cardPresenceCheck_whenIntervalIsZero_shouldThrowIAE() {
+    CardRemovalProbePolicy.cardPresenceCheck(0, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void cardPresenceCheck_whenJitterIsNegative_shouldThrowIAE() {
+    CardRemovalProbePolicy.cardPresenceCheck(100, -1);
+  }
+
+  @Test
+  public void apduPing_shouldCopyApdu() {
+    byte[] apdu = {0x00, (byte) 0xB0, 0x00, 0x00, 0x01};
+    CardRemovalProbePolicy probePolicy = CardRemovalProbePolicy.apduPing(apdu, 100, 0);
+    apdu[1] = 0x00;
+    assertThat(probePolicy.getApdu()).containsExactly(0x00, 0xB0, 0x00, 0x00, 0x01);
+  }
+
+  @Test
+  public void getPollingPolicy_shouldApplyIntervalAndJitter() {
+    CardPresencePollingPolicy pollingPolicy =
+        CardRemovalProbePolicy.cardPresenceCheck(100, 20).getPollingPolicy();
+    assertThat(pollingPolicy.getNextIntervalMillis(0, 0)).isEqualTo(100);
+    assertThat(pollingPolicy.getNextIntervalMillis(100, 10000)).isEqualTo(100);
+    assertThat(pollingPolicy.getJitterMillis()).isEqualTo(20);
+  }
+}
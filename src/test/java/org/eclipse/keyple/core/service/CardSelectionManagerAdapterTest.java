@@ -51,4 +51,14 @@ public void importProcessedCardSelectionScenario_whenArgIsEmpty_shouldThrowIAE()
   public void importProcessedCardSelectionScenario_whenArgIsMalformed_shouldThrowIAE() {
     manager.importProcessedCardSelectionScenario("test");
   }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void compile_whenNoSelectionIsPrepared_shouldThrowIAE() {
+    manager.compile();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void compileCardSelectionScenario_whenArgIsNull_shouldThrowIAE() {
+    SmartCardServiceProvider.getService().compileCardSelectionScenario(null);
+  }
 }
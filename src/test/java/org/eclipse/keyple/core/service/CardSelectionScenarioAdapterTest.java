@@ -0,0 +1,84 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.gson.JsonObject;
+import java.util.Collections;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.spi.CardSelectionRequestSpi;
+import org.eclipse.keypop.reader.selection.CardSelector;
+import org.junit.Test;
+
+public class CardSelectionScenarioAdapterTest {
+
+  private static CardSelectionScenarioAdapter buildScenario() {
+    return new CardSelectionScenarioAdapter(
+        Collections.<CardSelector<?>>emptyList(),
+        Collections.<CardSelectionRequestSpi>singletonList(null),
+        MultiSelectionProcessing.FIRST_MATCH,
+        ChannelControl.KEEP_OPEN);
+  }
+
+  private static JsonObject buildJsonScenario() {
+    JsonObject json = new JsonObject();
+    json.add("cardSelectors", JsonUtil.getParser().toJsonTree(Collections.emptyList()));
+    json.add("cardSelectionRequests", JsonUtil.getParser().toJsonTree(Collections.emptyList()));
+    json.addProperty("multiSelectionProcessing", MultiSelectionProcessing.FIRST_MATCH.name());
+    json.addProperty("channelControl", ChannelControl.KEEP_OPEN.name());
+    return json;
+  }
+
+  @Test
+  public void compile_whenAdaptive_shouldKeepOrdering() {
+    CardSelectionScenarioAdapter scenario =
+        buildScenario().compile(CardSelectionOrdering.ADAPTIVE_PER_READER);
+    assertThat(scenario.isCompiled()).isTrue();
+    assertThat(scenario.getCardSelectionOrdering())
+        .isEqualTo(CardSelectionOrdering.ADAPTIVE_PER_READER);
+  }
+
+  @Test
+  public void toJson_whenAdaptive_shouldSerializeOrdering() {
+    CardSelectionScenarioAdapter scenario = buildScenario().compile(CardSelectionOrdering.ADAPTIVE);
+    JsonObject json = JsonUtil.getParser().toJsonTree(scenario).getAsJsonObject();
+    assertThat(json.get("cardSelectionOrdering").getAsString())
+        .isEqualTo(CardSelectionOrdering.ADAPTIVE.name());
+  }
+
+  @Test
+  public void compile_whenReceivedWithAdaptiveOrdering_shouldRestoreOrdering() {
+    JsonObject json = buildJsonScenario();
+    json.addProperty("cardSelectionOrdering", CardSelectionOrdering.ADAPTIVE.name());
+    CardSelectionScenarioAdapter scenario =
+        JsonUtil.getParser().fromJson(json, CardSelectionScenarioAdapter.class);
+    assertThat(scenario.isCompiled()).isFalse();
+
+    CardSelectionScenarioAdapter compiledScenario = scenario.compile();
+
+    assertThat(compiledScenario.isCompiled()).isTrue();
+    assertThat(compiledScenario.getCardSelectionOrdering())
+        .isEqualTo(CardSelectionOrdering.ADAPTIVE);
+  }
+
+  @Test
+  public void compile_whenReceivedFromPeerWithoutOrdering_shouldUseDeclarationOrder() {
+    CardSelectionScenarioAdapter scenario =
+        JsonUtil.getParser().fromJson(buildJsonScenario(), CardSelectionScenarioAdapter.class);
+    assertThat(scenario.getCardSelectionOrdering()).isNull();
+
+    assertThat(scenario.compile().getCardSelectionOrdering())
+        .isEqualTo(CardSelectionOrdering.DECLARATION_ORDER);
+  }
+}
@@ -0,0 +1,61 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class LatencyHistogramAdapterTest {
+
+  private LatencyHistogramAdapter histogram;
+
+  @Before
+  public void setUp() {
+    histogram = new LatencyHistogramAdapter();
+  }
+
+  @Test
+  public void getPercentileMicros_whenEmpty_shouldReturnZero() {
+    assertThat(histogram.getCount()).isZero();
+    assertThat(histogram.getPercentileMicros(99)).isZero();
+    assertThat(histogram.getMeanMicros()).isZero();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getPercentileMicros_whenPercentileIsOutOfRange_shouldThrowIAE() {
+    histogram.getPercentileMicros(101);
+  }
+
+  @Test
+  public void getPercentileMicros_shouldBeWithinBucketPrecision() {
+    for (long value = 1; value <= 10000; value++) {
+      histogram.record(value);
+    }
+    assertThat(histogram.getCount()).isEqualTo(10000);
+    assertThat(histogram.getMaxMicros()).isEqualTo(10000);
+    assertThat(histogram.getMeanMicros()).isEqualTo(5000.5);
+    assertThat((double) histogram.getPercentileMicros(50)).isCloseTo(5000, within(5000 * 0.035));
+    assertThat((double) histogram.getPercentileMicros(99)).isCloseTo(9900, within(9900 * 0.035));
+    assertThat(histogram.getPercentileMicros(100)).isEqualTo(10000);
+  }
+
+  @Test
+  public void record_whenSmallValues_shouldBeExact() {
+    histogram.record(3);
+    histogram.record(7);
+    assertThat(histogram.getPercentileMicros(50)).isEqualTo(3);
+    assertThat(histogram.getPercentileMicros(100)).isEqualTo(7);
+  }
+}
@@ -113,6 +113,59 @@ public void register_whenSearchReaderReturnsObservableReader_shouldRegisterObser
         .isInstanceOf(ObservableLocalReaderAdapter.class);
   }
 
+  @Test
+  public void getReadersSnapshot_whenListIsUnchanged_shouldReturnSameSnapshot() throws Exception {
+    Set<ReaderSpi> readerSpis = new HashSet<ReaderSpi>();
+    readerSpis.add(readerSpi1);
+    when(pluginSpi.searchAvailableReaders()).thenReturn(readerSpis);
+    LocalPluginAdapter localPluginAdapter = new LocalPluginAdapter(pluginSpi);
+    localPluginAdapter.register();
+    long version = localPluginAdapter.getReadersVersion();
+    assertThat(localPluginAdapter.getReadersSnapshot())
+        .isSameAs(localPluginAdapter.getReadersSnapshot());
+    assertThat(localPluginAdapter.getReaderNamesSnapshot())
+        .isSameAs(localPluginAdapter.getReaderNamesSnapshot());
+    assertThat(localPluginAdapter.getReadersVersion()).isEqualTo(version);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void getReaderNamesSnapshot_shouldReturnUnmodifiableSet() throws Exception {
+    LocalPluginAdapter localPluginAdapter = new LocalPluginAdapter(pluginSpi);
+    localPluginAdapter.register();
+    localPluginAdapter.getReaderNamesSnapshot().add(READER_NAME_1);
+  }
+
+  @Test
+  public void getReaderNames_shouldReturnModifiableCopy() throws Exception {
+    Set<ReaderSpi> readerSpis = new HashSet<ReaderSpi>();
+    readerSpis.add(readerSpi1);
+    when(pluginSpi.searchAvailableReaders()).thenReturn(readerSpis);
+    LocalPluginAdapter localPluginAdapter = new LocalPluginAdapter(pluginSpi);
+    localPluginAdapter.register();
+    Set<String> readerNames = localPluginAdapter.getReaderNames();
+    readerNames.add(READER_NAME_2);
+    Set<CardReader> readers = localPluginAdapter.getReaders();
+    readers.clear();
+    assertThat(localPluginAdapter.getReaderNames()).containsExactly(READER_NAME_1);
+    assertThat(localPluginAdapter.getReaders()).hasSize(1);
+  }
+
+  @Test
+  public void removeReaderByKey_shouldPublishNewSnapshotAndIncrementVersion() throws Exception {
+    Set<ReaderSpi> readerSpis = new HashSet<ReaderSpi>();
+    readerSpis.add(readerSpi1);
+    readerSpis.add(readerSpi2);
+    when(pluginSpi.searchAvailableReaders()).thenReturn(readerSpis);
+    LocalPluginAdapter localPluginAdapter = new LocalPluginAdapter(pluginSpi);
+    localPluginAdapter.register();
+    long version = localPluginAdapter.getReadersVersion();
+    Set<String> readerNames = localPluginAdapter.getReaderNames();
+    localPluginAdapter.removeReaderByKey(READER_NAME_1);
+    assertThat(localPluginAdapter.getReadersVersion()).isGreaterThan(version);
+    assertThat(localPluginAdapter.getReaderNames()).containsExactly(READER_NAME_2);
+    assertThat(readerNames).containsExactlyInAnyOrder(READER_NAME_1, READER_NAME_2);
+  }
+
   @Test(expected = IllegalStateException.class)
   public void getReaders_whenNotRegistered_shouldISE() {
     LocalPluginAdapter localPluginAdapter = new LocalPluginAdapter(pluginSpi);
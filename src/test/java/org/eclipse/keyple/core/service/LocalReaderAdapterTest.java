@@ -12,6 +12,7 @@
 package org.eclipse.keyple.core.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.shouldHaveThrown;
 import static org.eclipse.keyple.core.service.util.PluginAdapterTestUtils.PLUGIN_NAME;
 import static org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils.*;
 import static org.mockito.Mockito.*;
@@ -190,6 +191,41 @@ public void getReaderSpi_shouldReturnReaderSpi() {
     assertThat(localReaderAdapter.isLogicalChannelOpen()).isTrue();
   }
 
+  @Test
+  public void
+      transmitCardSelectionRequests_withCompiledScenario_shouldSendPrebuiltSelectCommandAtEachExecution()
+          throws Exception {
+    byte[] selectResponseApdu = HexUtil.toByteArray("123456789000");
+    when(readerSpi.transmitApdu(any(byte[].class))).thenReturn(selectResponseApdu);
+    cardSelector =
+        SmartCardServiceProvider.getService()
+            .getReaderApiFactory()
+            .createIsoCardSelector()
+            .filterByDfName("1122334455");
+    CardSelectionScenarioAdapter cardSelectionScenario =
+        new CardSelectionScenarioAdapter(
+                new ArrayList<CardSelector<?>>(Collections.singletonList(cardSelector)),
+                new ArrayList<CardSelectionRequestSpi>(
+                    Collections.singletonList(cardSelectionRequestSpi)),
+                MultiSelectionProcessing.FIRST_MATCH,
+                ChannelControl.CLOSE_AFTER)
+            .compile();
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(readerSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+    for (int i = 0; i < 2; i++) {
+      List<CardSelectionResponseApi> cardSelectionResponses =
+          localReaderAdapter.transmitCardSelectionRequests(
+              cardSelectionScenario.getCardSelectors(),
+              cardSelectionScenario.getCardSelectionRequests(),
+              cardSelectionScenario.getMultiSelectionProcessing(),
+              cardSelectionScenario.getChannelControl());
+      assertThat(cardSelectionResponses).hasSize(1);
+      assertThat(cardSelectionResponses.get(0).hasMatched()).isTrue();
+    }
+    verify(readerSpi, times(2)).transmitApdu(HexUtil.toByteArray("00A4040005112233445500"));
+  }
+
   @Test
   public void
       transmitCardSelectionRequests_withMatchingDFNameFilteringCardSelectorInvalidatedRejected_shouldReturnNotMatchingResponseAndNotOpenChannel()
@@ -437,6 +473,273 @@ public void transmitCardRequest_isCase4() throws Exception {
     assertThat(response.getApduResponses().get(0).getApdu()).isEqualTo(getResponseCApdu);
   }
 
+  @Test
+  public void transmitCardRequest_whenResponseIs61XX_shouldTransmitGetResponse() throws Exception {
+    byte[] requestApdu = HexUtil.toByteArray("00B2014400");
+    byte[] responseApdu = HexUtil.toByteArray("6104");
+    byte[] getResponseRApdu = HexUtil.toByteArray("00C0000004");
+    byte[] getResponseCApdu = HexUtil.toByteArray("112233449000");
+    when(apduRequestSpi.getApdu()).thenReturn(requestApdu);
+    when(readerSpi.transmitApdu(requestApdu)).thenReturn(responseApdu);
+    when(readerSpi.transmitApdu(getResponseRApdu)).thenReturn(getResponseCApdu);
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(readerSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+    CardResponseApi response =
+        localReaderAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.CLOSE_AFTER);
+
+    verify(readerSpi).transmitApdu(getResponseRApdu);
+    assertThat(response.getApduResponses()).hasSize(1);
+    assertThat(response.getApduResponses().get(0).getApdu()).isEqualTo(getResponseCApdu);
+    assertThat(response.getApduResponses().get(0).getDataOut())
+        .isEqualTo(HexUtil.toByteArray("11223344"));
+  }
+
+  @Test
+  public void transmitCardRequest_isCase4_shouldUpdateMetrics() throws Exception {
+    byte[] requestApdu = HexUtil.toByteArray("11223344041234567802");
+    byte[] responseApdu = HexUtil.toByteArray("9000");
+    byte[] getResponseRApdu = HexUtil.toByteArray("00C0000002");
+    byte[] getResponseCApdu = HexUtil.toByteArray("00009000");
+    when(apduRequestSpi.getApdu()).thenReturn(requestApdu);
+    when(readerSpi.transmitApdu(requestApdu)).thenReturn(responseApdu);
+    when(readerSpi.transmitApdu(getResponseRApdu)).thenReturn(getResponseCApdu);
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(readerSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+    localReaderAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.CLOSE_AFTER);
+
+    ReaderMetrics metrics =
+        SmartCardServiceProvider.getService().getReaderMetrics(localReaderAdapter);
+    assertThat(metrics.getApduCount()).isEqualTo(2);
+    assertThat(metrics.getBytesSentCount()).isEqualTo(15);
+    assertThat(metrics.getBytesReceivedCount()).isEqualTo(6);
+    assertThat(metrics.getApduExchangeLatency().getCount()).isEqualTo(2);
+    assertThat(metrics.getCardRequestLatency().getCount()).isEqualTo(1);
+    assertThat(metrics.getErrorCount()).isZero();
+  }
+
+  @Test
+  public void transmitCardRequest_whenBatchTransmissionIsSupported_shouldTransmitInOneCall()
+      throws Exception {
+    BatchTransmissionReaderSpiMock batchReaderSpi = getBatchTransmissionReaderSpi();
+    byte[] requestApdu1 = HexUtil.toByteArray("00DC01440411223344");
+    byte[] requestApdu2 = HexUtil.toByteArray("00B2024400");
+    byte[] responseApdu1 = HexUtil.toByteArray("9000");
+    byte[] responseApdu2 = HexUtil.toByteArray("33449000");
+    ApduRequestSpi apduRequestSpi2 = mock(ApduRequestSpi.class);
+    when(apduRequestSpi.getApdu()).thenReturn(requestApdu1);
+    when(apduRequestSpi2.getApdu()).thenReturn(requestApdu2);
+    when(cardRequestSpi.getApduRequests())
+        .thenReturn(Arrays.asList(apduRequestSpi, apduRequestSpi2));
+    when(batchReaderSpi.transmitApdus(ArgumentMatchers.<byte[]>anyList()))
+        .thenReturn(Arrays.asList(responseApdu1, responseApdu2));
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(batchReaderSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+    CardResponseApi response =
+        localReaderAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.CLOSE_AFTER);
+
+    assertThat(response.getApduResponses()).hasSize(2);
+    assertThat(response.getApduResponses().get(0).getApdu()).isEqualTo(responseApdu1);
+    assertThat(response.getApduResponses().get(1).getApdu()).isEqualTo(responseApdu2);
+    verify(batchReaderSpi).transmitApdus(Arrays.asList(requestApdu1, requestApdu2));
+    verify(batchReaderSpi, never()).transmitApdu(any(byte[].class));
+    ReaderMetrics metrics =
+        SmartCardServiceProvider.getService().getReaderMetrics(localReaderAdapter);
+    assertThat(metrics.getApduCount()).isEqualTo(2);
+    assertThat(metrics.getApduExchangeLatency().getCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void transmitCardRequest_whenBatchSupportedAndCommandBeforeLastHasLe_shouldNotUseBatch()
+      throws Exception {
+    BatchTransmissionReaderSpiMock batchReaderSpi = getBatchTransmissionReaderSpi();
+    ApduRequestSpi apduRequestSpi2 = mock(ApduRequestSpi.class);
+    when(apduRequestSpi.getApdu()).thenReturn(HexUtil.toByteArray("00B2014400"));
+    when(apduRequestSpi2.getApdu()).thenReturn(HexUtil.toByteArray("00DC02440411223344"));
+    when(cardRequestSpi.getApduRequests())
+        .thenReturn(Arrays.asList(apduRequestSpi, apduRequestSpi2));
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(batchReaderSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+    localReaderAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.CLOSE_AFTER);
+
+    verify(batchReaderSpi, never()).transmitApdus(ArgumentMatchers.<byte[]>anyList());
+    verify(batchReaderSpi, times(2)).transmitApdu(any(byte[].class));
+  }
+
+  @Test
+  public void transmitCardRequest_whenBatchResponseOfLastCommandIs6CXX_shouldReplayLastCommand()
+      throws Exception {
+    BatchTransmissionReaderSpiMock batchReaderSpi = getBatchTransmissionReaderSpi();
+    byte[] requestApdu1 = HexUtil.toByteArray("00DC01440411223344");
+    byte[] requestApdu2 = HexUtil.toByteArray("00B2024400");
+    byte[] replayedApdu2 = HexUtil.toByteArray("00B2024402");
+    byte[] responseApdu1 = HexUtil.toByteArray("9000");
+    byte[] responseApdu2 = HexUtil.toByteArray("33449000");
+    ApduRequestSpi apduRequestSpi2 = mock(ApduRequestSpi.class);
+    when(apduRequestSpi.getApdu()).thenReturn(requestApdu1);
+    when(apduRequestSpi2.getApdu()).thenReturn(requestApdu2);
+    when(cardRequestSpi.getApduRequests())
+        .thenReturn(Arrays.asList(apduRequestSpi, apduRequestSpi2));
+    when(batchReaderSpi.transmitApdus(ArgumentMatchers.<byte[]>anyList()))
+        .thenReturn(Arrays.asList(responseApdu1, HexUtil.toByteArray("6C02")));
+    when(batchReaderSpi.transmitApdu(replayedApdu2)).thenReturn(responseApdu2);
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(batchReaderSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+    CardResponseApi response =
+        localReaderAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.CLOSE_AFTER);
+
+    assertThat(response.getApduResponses().get(0).getApdu()).isEqualTo(responseApdu1);
+    assertThat(response.getApduResponses().get(1).getApdu()).isEqualTo(responseApdu2);
+  }
+
+  @Test
+  public void transmitCardRequest_whenBatchResponseOfLastCommandIs61XX_shouldGetResponse()
+      throws Exception {
+    BatchTransmissionReaderSpiMock batchReaderSpi = getBatchTransmissionReaderSpi();
+    byte[] requestApdu1 = HexUtil.toByteArray("00DC01440411223344");
+    byte[] requestApdu2 = HexUtil.toByteArray("00B2024400");
+    byte[] getResponseRApdu = HexUtil.toByteArray("00C0000004");
+    byte[] getResponseCApdu = HexUtil.toByteArray("112233449000");
+    ApduRequestSpi apduRequestSpi2 = mock(ApduRequestSpi.class);
+    when(apduRequestSpi.getApdu()).thenReturn(requestApdu1);
+    when(apduRequestSpi2.getApdu()).thenReturn(requestApdu2);
+    when(cardRequestSpi.getApduRequests())
+        .thenReturn(Arrays.asList(apduRequestSpi, apduRequestSpi2));
+    when(batchReaderSpi.transmitApdus(ArgumentMatchers.<byte[]>anyList()))
+        .thenReturn(Arrays.asList(HexUtil.toByteArray("9000"), HexUtil.toByteArray("6104")));
+    when(batchReaderSpi.transmitApdu(getResponseRApdu)).thenReturn(getResponseCApdu);
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(batchReaderSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+    CardResponseApi response =
+        localReaderAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.CLOSE_AFTER);
+
+    assertThat(response.getApduResponses().get(1).getApdu()).isEqualTo(getResponseCApdu);
+  }
+
+  @Test
+  public void transmitCardRequest_whenBatchResponseMidBatchIs6CXX_shouldNotReplayCommand()
+      throws Exception {
+    BatchTransmissionReaderSpiMock batchReaderSpi = getBatchTransmissionReaderSpi();
+    byte[] requestApdu1 = HexUtil.toByteArray("00DC01440411223344");
+    byte[] requestApdu2 = HexUtil.toByteArray("00B2024400");
+    byte[] responseApdu1 = HexUtil.toByteArray("6C02");
+    byte[] responseApdu2 = HexUtil.toByteArray("33449000");
+    ApduRequestSpi apduRequestSpi2 = mock(ApduRequestSpi.class);
+    when(apduRequestSpi.getApdu()).thenReturn(requestApdu1);
+    when(apduRequestSpi2.getApdu()).thenReturn(requestApdu2);
+    when(cardRequestSpi.getApduRequests())
+        .thenReturn(Arrays.asList(apduRequestSpi, apduRequestSpi2));
+    when(batchReaderSpi.transmitApdus(ArgumentMatchers.<byte[]>anyList()))
+        .thenReturn(Arrays.asList(responseApdu1, responseApdu2));
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(batchReaderSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+    CardResponseApi response =
+        localReaderAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.CLOSE_AFTER);
+
+    assertThat(response.getApduResponses().get(0).getApdu()).isEqualTo(responseApdu1);
+    assertThat(response.getApduResponses().get(1).getApdu()).isEqualTo(responseApdu2);
+    assertThat(requestApdu1).isEqualTo(HexUtil.toByteArray("00DC01440411223344"));
+    verify(batchReaderSpi, never()).transmitApdu(any(byte[].class));
+  }
+
+  @Test
+  public void transmitCardRequest_whenBatchResponseMidBatchIs61XX_shouldNotGetResponse()
+      throws Exception {
+    BatchTransmissionReaderSpiMock batchReaderSpi = getBatchTransmissionReaderSpi();
+    byte[] requestApdu1 = HexUtil.toByteArray("00DC01440411223344");
+    byte[] requestApdu2 = HexUtil.toByteArray("00B2024400");
+    byte[] responseApdu1 = HexUtil.toByteArray("6104");
+    byte[] responseApdu2 = HexUtil.toByteArray("33449000");
+    ApduRequestSpi apduRequestSpi2 = mock(ApduRequestSpi.class);
+    when(apduRequestSpi.getApdu()).thenReturn(requestApdu1);
+    when(apduRequestSpi2.getApdu()).thenReturn(requestApdu2);
+    when(cardRequestSpi.getApduRequests())
+        .thenReturn(Arrays.asList(apduRequestSpi, apduRequestSpi2));
+    when(batchReaderSpi.transmitApdus(ArgumentMatchers.<byte[]>anyList()))
+        .thenReturn(Arrays.asList(responseApdu1, responseApdu2));
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(batchReaderSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+    CardResponseApi response =
+        localReaderAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.CLOSE_AFTER);
+
+    assertThat(response.getApduResponses().get(0).getApdu()).isEqualTo(responseApdu1);
+    assertThat(response.getApduResponses().get(1).getApdu()).isEqualTo(responseApdu2);
+    verify(batchReaderSpi, never()).transmitApdu(any(byte[].class));
+  }
+
+  @Test
+  public void transmitCardRequest_whenBatchResponseCountIsWrong_shouldThrowRBCEAndCloseChannel()
+      throws Exception {
+    BatchTransmissionReaderSpiMock batchReaderSpi = getBatchTransmissionReaderSpi();
+    ApduRequestSpi apduRequestSpi2 = mock(ApduRequestSpi.class);
+    when(apduRequestSpi.getApdu()).thenReturn(HexUtil.toByteArray("00DC01440411223344"));
+    when(apduRequestSpi2.getApdu()).thenReturn(HexUtil.toByteArray("00B2024400"));
+    when(cardRequestSpi.getApduRequests())
+        .thenReturn(Arrays.asList(apduRequestSpi, apduRequestSpi2));
+    when(batchReaderSpi.transmitApdus(ArgumentMatchers.<byte[]>anyList()))
+        .thenReturn(Collections.singletonList(HexUtil.toByteArray("9000")));
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(batchReaderSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+    try {
+      localReaderAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN);
+      shouldHaveThrown(ReaderBrokenCommunicationException.class);
+    } catch (ReaderBrokenCommunicationException e) {
+      assertThat(e.getCause()).isInstanceOf(ReaderIOException.class);
+    }
+    verify(batchReaderSpi).closePhysicalChannel();
+  }
+
+  @Test
+  public void transmitCardRequest_whenBatchResponseIsNull_shouldThrowRBCEAndCloseChannel()
+      throws Exception {
+    BatchTransmissionReaderSpiMock batchReaderSpi = getBatchTransmissionReaderSpi();
+    ApduRequestSpi apduRequestSpi2 = mock(ApduRequestSpi.class);
+    when(apduRequestSpi.getApdu()).thenReturn(HexUtil.toByteArray("00DC01440411223344"));
+    when(apduRequestSpi2.getApdu()).thenReturn(HexUtil.toByteArray("00B2024400"));
+    when(cardRequestSpi.getApduRequests())
+        .thenReturn(Arrays.asList(apduRequestSpi, apduRequestSpi2));
+    when(batchReaderSpi.transmitApdus(ArgumentMatchers.<byte[]>anyList())).thenReturn(null);
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(batchReaderSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+    try {
+      localReaderAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN);
+      shouldHaveThrown(ReaderBrokenCommunicationException.class);
+    } catch (ReaderBrokenCommunicationException e) {
+      assertThat(e.getCause()).isInstanceOf(ReaderIOException.class);
+    }
+    verify(batchReaderSpi).closePhysicalChannel();
+  }
+
+  @Test(expected = UnexpectedStatusWordException.class)
+  public void transmitCardRequest_whenBatchSupportedAndStopOnUnsuccessfulSW_shouldNotUseBatch()
+      throws Exception {
+    BatchTransmissionReaderSpiMock batchReaderSpi = getBatchTransmissionReaderSpi();
+    ApduRequestSpi apduRequestSpi2 = mock(ApduRequestSpi.class);
+    when(apduRequestSpi.getApdu()).thenReturn(HexUtil.toByteArray("00B2014400"));
+    when(apduRequestSpi2.getApdu()).thenReturn(HexUtil.toByteArray("00B2024400"));
+    when(cardRequestSpi.getApduRequests())
+        .thenReturn(Arrays.asList(apduRequestSpi, apduRequestSpi2));
+    when(cardRequestSpi.stopOnUnsuccessfulStatusWord()).thenReturn(true);
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(batchReaderSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+    try {
+      localReaderAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.CLOSE_AFTER);
+    } finally {
+      verify(batchReaderSpi, never()).transmitApdus(ArgumentMatchers.<byte[]>anyList());
+      verify(batchReaderSpi, times(1)).transmitApdu(any(byte[].class));
+    }
+  }
+
   @Test(expected = UnexpectedStatusWordException.class)
   public void transmitCardRequest_withUnsuccessfulStatusWord_shouldThrow_USW() throws Exception {
     byte[] responseApdu = HexUtil.toByteArray("123456789000");
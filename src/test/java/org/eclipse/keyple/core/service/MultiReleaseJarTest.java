@@ -0,0 +1,77 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.reflect.Method;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Smoke test of the versioned classes of the multi-release JAR.
+ *
+ * <p>Only run by the {@code multiReleaseJarTest} Gradle task, on Java 21 against the packaged JAR
+ * (the Java APIs used by the versioned classes are accessed by reflection).
+ */
+public class MultiReleaseJarTest {
+
+  private static final String APDU_EXCHANGE_EVENT_NAME = "org.eclipse.keyple.ApduExchange";
+
+  @Before
+  public void setUp() {
+    assumeTrue(Boolean.getBoolean("keyple.multiReleaseJarTest"));
+  }
+
+  @Test
+  public void flightRecorderEvents_shouldBeTheJava11Version() throws Exception {
+    assertThat(Class.forName(FlightRecorderEvents.class.getName() + "$ApduExchangeEvent"))
+        .isNotNull();
+  }
+
+  @Test
+  public void beginApduExchange_whenNoRecording_shouldReturnNull() {
+    assertThat(FlightRecorderEvents.beginApduExchange()).isNull();
+  }
+
+  @Test
+  public void beginApduExchange_whenRecording_shouldReturnEvent() throws Exception {
+    Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+    Object recording = recordingClass.getConstructor().newInstance();
+    try {
+      recordingClass.getMethod("enable", String.class).invoke(recording, APDU_EXCHANGE_EVENT_NAME);
+      recordingClass.getMethod("start").invoke(recording);
+      Object event = FlightRecorderEvents.beginApduExchange();
+      assertThat(event).isNotNull();
+      FlightRecorderEvents.commitApduExchange(event, "reader", 1, 5, 2, true);
+    } finally {
+      recordingClass.getMethod("close").invoke(recording);
+    }
+  }
+
+  @Test
+  public void virtualThreads_shouldBeTheJava21Version() throws Exception {
+    assertThat(VirtualThreads.isSupported()).isTrue();
+    Thread thread =
+        VirtualThreads.newThread(
+            "virtual",
+            new Runnable() {
+              @Override
+              public void run() {
+                // nothing to do
+              }
+            });
+    Method isVirtual = Thread.class.getMethod("isVirtual");
+    assertThat((Boolean) isVirtual.invoke(thread)).isTrue();
+  }
+}
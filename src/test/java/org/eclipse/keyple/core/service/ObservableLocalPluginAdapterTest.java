@@ -17,9 +17,14 @@
 import static org.eclipse.keyple.core.service.PluginEvent.Type.READER_DISCONNECTED;
 import static org.eclipse.keyple.core.service.util.PluginAdapterTestUtils.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.eclipse.keyple.core.plugin.PluginIOException;
+import org.eclipse.keyple.core.service.spi.PluginObserverSpi;
+import org.eclipse.keyple.core.service.spi.ReaderListChangeHintPluginSpi;
 import org.eclipse.keyple.core.service.util.ObservableLocalPluginSpiMock;
 import org.eclipse.keyple.core.service.util.PluginExceptionHandlerMock;
 import org.eclipse.keyple.core.service.util.PluginObserverSpiMock;
@@ -190,6 +195,89 @@ public void whileMonitoring_pluginThrowException_isPassedTo_exceptionHandler() t
     assertThat(exceptionHandlerMock.getE().getCause()).isEqualTo(exception);
   }
 
+  @Test
+  public void whileMonitoring_whenObserversOfOtherPluginsBlock_shouldNotify_andCreateReaders()
+      throws Throwable {
+    // more blocked observers than threads in the monitoring scheduler
+    final CountDownLatch unblock = new CountDownLatch(1);
+    final CountDownLatch blockedObservers = new CountDownLatch(8);
+    List<ObservableLocalPluginAdapter> blockedPluginAdapters =
+        new ArrayList<ObservableLocalPluginAdapter>();
+    try {
+      for (int i = 0; i < 8; i++) {
+        ObservableLocalPluginSpiMock blockedPluginMock =
+            new ObservableLocalPluginSpiMock("BLOCKED_PLUGIN_" + i, null);
+        ObservableLocalPluginAdapter blockedPluginAdapter =
+            new ObservableLocalPluginAdapter(blockedPluginMock);
+        blockedPluginAdapter.register();
+        blockedPluginAdapters.add(blockedPluginAdapter);
+        blockedPluginAdapter.setPluginObservationExceptionHandler(exceptionHandlerMock);
+        blockedPluginAdapter.addObserver(
+            new PluginObserverSpi() {
+              @Override
+              public void onPluginEvent(PluginEvent pluginEvent) {
+                blockedObservers.countDown();
+                try {
+                  unblock.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              }
+            });
+        blockedPluginMock.addReaderName("BLOCKED_READER_" + i);
+      }
+      assertThat(blockedObservers.await(1, TimeUnit.SECONDS)).isTrue();
+
+      whileMonitoring_readerNames_appears_shouldNotify_andCreateReaders();
+    } finally {
+      unblock.countDown();
+      for (ObservableLocalPluginAdapter blockedPluginAdapter : blockedPluginAdapters) {
+        blockedPluginAdapter.unregister();
+      }
+    }
+  }
+
+  @Test
+  public void whileMonitoring_whenPluginHintsNoChange_shouldNotSearchReaders() throws Throwable {
+    ReaderListChangeHintPluginSpiMock hintPluginMock =
+        new ReaderListChangeHintPluginSpiMock(PLUGIN_NAME);
+    observablePluginMock = hintPluginMock;
+    pluginAdapter = new ObservableLocalPluginAdapter(observablePluginMock);
+
+    // start plugin, the first search is always performed
+    addFirstObserver_shouldStartEventThread();
+
+    // add reader name while the plugin reports no change
+    observablePluginMock.addReaderName(READER_NAME_1);
+    Thread.sleep(100);
+    assertThat(observerMock.hasReceived(READER_CONNECTED)).isFalse();
+    assertThat(pluginAdapter.getReaderNames()).isEmpty();
+
+    // report the change
+    hintPluginMock.hasChanged = true;
+
+    await().atMost(1, TimeUnit.SECONDS).until(eventOfTypeIsReceived(READER_CONNECTED));
+    assertThat(pluginAdapter.getReaderNames()).containsExactly(READER_NAME_1);
+  }
+
+  /*
+   * Mocks
+   */
+  private static final class ReaderListChangeHintPluginSpiMock extends ObservableLocalPluginSpiMock
+      implements ReaderListChangeHintPluginSpi {
+
+    private volatile boolean hasChanged;
+
+    private ReaderListChangeHintPluginSpiMock(String name) {
+      super(name, null);
+    }
+
+    @Override
+    public boolean hasReaderListChanged() {
+      return hasChanged;
+    }
+  }
+
   /*
    * Callables
    */
@@ -11,19 +11,24 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
+import static org.awaitility.Awaitility.await;
 import static org.eclipse.keyple.core.service.util.PluginAdapterTestUtils.PLUGIN_NAME;
 import static org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils.*;
 import static org.mockito.Mockito.*;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.keyple.core.service.util.ObservableReaderAsynchronousSpiMock;
 import org.eclipse.keyple.core.service.util.ReaderObserverSpiMock;
 import org.eclipse.keypop.card.CardResponseApi;
 import org.eclipse.keypop.card.CardSelectionResponseApi;
 import org.eclipse.keypop.card.spi.CardSelectionRequestSpi;
 import org.eclipse.keypop.reader.CardReaderEvent;
+import org.eclipse.keypop.reader.ObservableCardReader;
 import org.eclipse.keypop.reader.spi.CardReaderObservationExceptionHandlerSpi;
+import org.eclipse.keypop.reader.spi.CardReaderObserverSpi;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -113,4 +118,40 @@ public void observerThrowsError_shouldBe_transferTo_handler() {
     testSuite.insertCard_onWaitForCard_shouldNotify_CardInsertedEvent();
     verify(handler, times(1)).onReaderObservationError(anyString(), eq(READER_NAME), eq(e));
   }
+
+  @Test
+  public void stopDetection_fromObserverOnCardRemoved_shouldStopDetection() {
+    reader.setReaderObservationExceptionHandler(handler);
+    reader.addObserver(
+        new CardReaderObserverSpi() {
+          @Override
+          public void onReaderEvent(CardReaderEvent readerEvent) {
+            if (readerEvent.getType() == CardReaderEvent.Type.CARD_REMOVED) {
+              reader.stopCardDetection();
+            }
+          }
+        });
+    reader.startCardDetection(ObservableCardReader.DetectionMode.REPEATING);
+    readerSpi.setCardPresent(true);
+    await()
+        .atMost(1, TimeUnit.SECONDS)
+        .until(stateIs(AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_PROCESSING));
+
+    readerSpi.setCardPresent(false);
+
+    // the stop requested during the removal processing is applied once the detection is resumed
+    await()
+        .atMost(1, TimeUnit.SECONDS)
+        .until(stateIs(AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_START_DETECTION));
+  }
+
+  private Callable<Boolean> stateIs(
+      final AbstractObservableStateAdapter.MonitoringState monitoringState) {
+    return new Callable<Boolean>() {
+      @Override
+      public Boolean call() {
+        return reader.getCurrentMonitoringState() == monitoringState;
+      }
+    };
+  }
 }
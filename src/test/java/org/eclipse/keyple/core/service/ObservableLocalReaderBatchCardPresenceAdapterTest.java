@@ -0,0 +1,172 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.keyple.core.service.util.PluginAdapterTestUtils.PLUGIN_NAME;
+import static org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils.READER_NAME;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.keyple.core.plugin.PluginIOException;
+import org.eclipse.keyple.core.plugin.ReaderIOException;
+import org.eclipse.keyple.core.service.spi.BatchCardPresencePluginSpi;
+import org.eclipse.keyple.core.service.util.ObservableReaderNonBlockingSpiMock;
+import org.eclipse.keyple.core.service.util.ReaderObserverSpiMock;
+import org.eclipse.keypop.reader.CardReaderEvent;
+import org.eclipse.keypop.reader.ObservableCardReader;
+import org.eclipse.keypop.reader.spi.CardReaderObservationExceptionHandlerSpi;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ObservableLocalReaderBatchCardPresenceAdapterTest {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(ObservableLocalReaderBatchCardPresenceAdapterTest.class);
+
+  ObservableLocalReaderAdapter reader;
+  ObservableReaderNonBlockingSpiMock readerSpi;
+  ReaderObserverSpiMock observer;
+  CardReaderObservationExceptionHandlerSpi handler;
+  ObservableLocalReaderSuite testSuite;
+  AtomicInteger batchCheckCount;
+
+  @Before
+  public void setup() {
+    readerSpi = new ObservableReaderNonBlockingSpiMock(READER_NAME);
+    handler = mock(CardReaderObservationExceptionHandlerSpi.class);
+    batchCheckCount = new AtomicInteger();
+    reader =
+        new ObservableLocalReaderAdapter(
+            readerSpi,
+            PLUGIN_NAME,
+            new BatchCardPresenceMonitor(PLUGIN_NAME, new BatchCardPresencePluginSpiMock()));
+    observer = new ReaderObserverSpiMock(null);
+    testSuite = new ObservableLocalReaderSuite(reader, readerSpi, observer, handler, logger);
+    reader.register();
+  }
+
+  @After
+  public void tearDown() {
+    reader.unregister();
+  }
+
+  @Test
+  public void insertCard_shouldNotify_CardInsertedEvent() {
+    testSuite.insertCard_onWaitForCard_shouldNotify_CardInsertedEvent();
+    assertThat(batchCheckCount.get()).isPositive();
+  }
+
+  @Test
+  public void removeCard_afterFinalize_shouldNotify_CardRemoved() {
+    testSuite.removeCard_afterFinalize_shouldNotify_CardRemoved();
+  }
+
+  @Test
+  public void insertCard_whenOtherPluginsBlockInBatchedCheck_shouldNotify_CardInsertedEvent() {
+    // more blocked plugins than threads in the monitoring scheduler
+    final CountDownLatch unblock = new CountDownLatch(1);
+    List<ObservableLocalReaderAdapter> blockedReaders =
+        new ArrayList<ObservableLocalReaderAdapter>();
+    try {
+      for (int i = 0; i < 8; i++) {
+        String blockedPluginName = "BLOCKED_PLUGIN_" + i;
+        ObservableLocalReaderAdapter blockedReader =
+            new ObservableLocalReaderAdapter(
+                new ObservableReaderNonBlockingSpiMock("BLOCKED_READER_" + i),
+                blockedPluginName,
+                new BatchCardPresenceMonitor(
+                    blockedPluginName,
+                    new BatchCardPresencePluginSpi() {
+                      @Override
+                      public Set<String> checkCardPresence(Set<String> readerNames) {
+                        try {
+                          unblock.await();
+                        } catch (InterruptedException e) {
+                          Thread.currentThread().interrupt();
+                        }
+                        return Collections.emptySet();
+                      }
+
+                      @Override
+                      public int getCardPresenceMonitoringSleepDuration() {
+                        return 10;
+                      }
+                    }));
+        blockedReader.register();
+        blockedReaders.add(blockedReader);
+        blockedReader.setReaderObservationExceptionHandler(handler);
+        blockedReader.addObserver(new ReaderObserverSpiMock(null));
+        blockedReader.startCardDetection(ObservableCardReader.DetectionMode.REPEATING);
+      }
+
+      testSuite.insertCard_onWaitForCard_shouldNotify_CardInsertedEvent();
+    } finally {
+      unblock.countDown();
+      for (ObservableLocalReaderAdapter blockedReader : blockedReaders) {
+        blockedReader.unregister();
+      }
+    }
+  }
+
+  @Test
+  public void stopDetection_shouldStopPolling() throws Exception {
+    testSuite.addFirstObserver_should_startDetection();
+    reader.stopCardDetection();
+
+    logger.debug("Insert card...");
+    readerSpi.setCardPresent(true);
+
+    // let several polling periods elapse
+    Thread.sleep(100);
+    int count = batchCheckCount.get();
+    Thread.sleep(100);
+
+    // the card insertion is no longer monitored, no event is thrown
+    assertThat(reader.getCurrentMonitoringState())
+        .isEqualTo(AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_START_DETECTION);
+    assertThat(observer.getLastEventOfType(CardReaderEvent.Type.CARD_INSERTED)).isNull();
+    assertThat(batchCheckCount.get()).isEqualTo(count);
+  }
+
+  /** Plugin checking the card presence of its single reader. */
+  private final class BatchCardPresencePluginSpiMock implements BatchCardPresencePluginSpi {
+
+    @Override
+    public Set<String> checkCardPresence(Set<String> readerNames) throws PluginIOException {
+      batchCheckCount.incrementAndGet();
+      Set<String> readerNamesWithCard = new HashSet<String>();
+      try {
+        if (readerNames.contains(READER_NAME) && readerSpi.checkCardPresence()) {
+          readerNamesWithCard.add(READER_NAME);
+        }
+      } catch (ReaderIOException e) {
+        throw new PluginIOException("Unable to check the card presence", e);
+      }
+      return readerNamesWithCard;
+    }
+
+    @Override
+    public int getCardPresenceMonitoringSleepDuration() {
+      return 10;
+    }
+  }
+}
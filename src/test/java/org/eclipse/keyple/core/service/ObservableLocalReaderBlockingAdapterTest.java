@@ -11,13 +11,23 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.keyple.core.service.util.PluginAdapterTestUtils.PLUGIN_NAME;
 import static org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils.READER_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.keyple.core.service.util.ObservableReaderBlockingSpiMock;
 import org.eclipse.keyple.core.service.util.ReaderObserverSpiMock;
+import org.eclipse.keypop.reader.CardReaderEvent;
+import org.eclipse.keypop.reader.ObservableCardReader;
 import org.eclipse.keypop.reader.spi.CardReaderObservationExceptionHandlerSpi;
+import org.eclipse.keypop.reader.spi.CardReaderObserverSpi;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -68,6 +78,56 @@ public void clearObservers() {
     testSuite.clearObservers_shouldRemove_allObservers();
   }
 
+  @Test
+  public void onEvent_afterUnregister_shouldBeIgnored() throws Exception {
+    testSuite.addFirstObserver_should_startDetection();
+    reader.unregister();
+
+    // would start the blocking monitoring job on the executor service already shut down
+    reader.onEvent(
+        ObservableLocalReaderAdapter.InternalEvent.START_DETECT,
+        AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_START_DETECTION);
+    Thread.sleep(100);
+
+    assertThat(reader.getCurrentMonitoringState())
+        .isEqualTo(AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_START_DETECTION);
+    verify(handler, never())
+        .onReaderObservationError(anyString(), anyString(), any(Throwable.class));
+  }
+
+  @Test
+  public void unregister_whenObserverBlocks_shouldNotWaitForever() throws Exception {
+    final CountDownLatch notified = new CountDownLatch(1);
+    final CountDownLatch released = new CountDownLatch(1);
+    reader.setReaderObservationExceptionHandler(handler);
+    reader.addObserver(
+        new CardReaderObserverSpi() {
+          @Override
+          public void onReaderEvent(CardReaderEvent readerEvent) {
+            if (readerEvent.getType() == CardReaderEvent.Type.CARD_INSERTED) {
+              notified.countDown();
+              try {
+                released.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            }
+          }
+        });
+    reader.startCardDetection(ObservableCardReader.DetectionMode.REPEATING);
+    readerSpi.setCardPresent(true);
+    assertThat(notified.await(2, TimeUnit.SECONDS)).isTrue();
+
+    long startNanos = System.nanoTime();
+    try {
+      reader.unregister();
+    } finally {
+      released.countDown();
+    }
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+        .isLessThan(ObservableReaderStateServiceAdapter.SHUTDOWN_TIMEOUT_MILLIS + 1000);
+  }
+
   @Test
   public void insertCard_shouldNotify_CardInsertedEvent() {
     testSuite.insertCard_onWaitForCard_shouldNotify_CardInsertedEvent();
@@ -15,11 +15,24 @@
 import static org.awaitility.Awaitility.await;
 import static org.eclipse.keyple.core.service.util.PluginAdapterTestUtils.PLUGIN_NAME;
 import static org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils.READER_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.keyple.core.plugin.ReaderIOException;
 import org.eclipse.keyple.core.service.util.ObservableReaderNonBlockingSpiMock;
 import org.eclipse.keyple.core.service.util.ReaderObserverSpiMock;
+import org.eclipse.keypop.reader.CardReaderEvent;
+import org.eclipse.keypop.reader.ObservableCardReader;
 import org.eclipse.keypop.reader.spi.CardReaderObservationExceptionHandlerSpi;
 import org.junit.After;
 import org.junit.Before;
@@ -96,4 +109,218 @@ public void removeCard_beforeFinalize_shouldNotify_CardRemoved() {
     assertThat(reader.getCurrentMonitoringState())
         .isEqualTo(AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_PROCESSING);
   }
+
+  @Test
+  public void insertCard_whenOtherReadersBlockInCardPresenceCheck_shouldNotify_CardInsertedEvent() {
+    // more blocked readers than threads in the monitoring scheduler
+    final CountDownLatch unblock = new CountDownLatch(1);
+    List<ObservableLocalReaderAdapter> blockedReaders =
+        new ArrayList<ObservableLocalReaderAdapter>();
+    try {
+      for (int i = 0; i < 8; i++) {
+        ObservableLocalReaderAdapter blockedReader =
+            new ObservableLocalReaderAdapter(
+                new ObservableReaderNonBlockingSpiMock("BLOCKED_READER_" + i) {
+                  @Override
+                  public boolean checkCardPresence() throws ReaderIOException {
+                    try {
+                      unblock.await();
+                    } catch (InterruptedException e) {
+                      Thread.currentThread().interrupt();
+                    }
+                    return false;
+                  }
+                },
+                PLUGIN_NAME);
+        blockedReader.register();
+        blockedReaders.add(blockedReader);
+        blockedReader.setReaderObservationExceptionHandler(handler);
+        blockedReader.addObserver(new ReaderObserverSpiMock(null));
+        blockedReader.startCardDetection(ObservableCardReader.DetectionMode.REPEATING);
+      }
+
+      testSuite.insertCard_onWaitForCard_shouldNotify_CardInsertedEvent();
+    } finally {
+      unblock.countDown();
+      for (ObservableLocalReaderAdapter blockedReader : blockedReaders) {
+        blockedReader.unregister();
+      }
+    }
+  }
+
+  @Test
+  public void checkCardPresence_whenSpiFails_shouldNotifyErrorOnceAndStopPolling()
+      throws Exception {
+    ObservableLocalReaderAdapter failingReader =
+        new ObservableLocalReaderAdapter(
+            new ObservableReaderNonBlockingSpiMock("FAILING_READER") {
+              @Override
+              public boolean checkCardPresence() throws ReaderIOException {
+                throw new ReaderIOException("Reader IO Exception");
+              }
+            },
+            PLUGIN_NAME);
+    failingReader.register();
+    try {
+      failingReader.setReaderObservationExceptionHandler(handler);
+      failingReader.addObserver(new ReaderObserverSpiMock(null));
+      failingReader.startCardDetection(ObservableCardReader.DetectionMode.REPEATING);
+      verify(handler, timeout(1000))
+          .onReaderObservationError(eq(PLUGIN_NAME), eq("FAILING_READER"), any(Throwable.class));
+
+      // let several polling periods elapse
+      Thread.sleep(100);
+
+      verify(handler, times(1))
+          .onReaderObservationError(eq(PLUGIN_NAME), eq("FAILING_READER"), any(Throwable.class));
+    } finally {
+      failingReader.unregister();
+    }
+  }
+
+  @Test
+  public void stopDetection_shouldStopPolling() throws Exception {
+    testSuite.addFirstObserver_should_startDetection();
+    reader.stopCardDetection();
+
+    logger.debug("Insert card...");
+    readerSpi.setCardPresent(true);
+
+    // let several polling periods elapse
+    Thread.sleep(100);
+
+    // the card insertion is no longer monitored, no event is thrown
+    assertThat(reader.getCurrentMonitoringState())
+        .isEqualTo(AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_START_DETECTION);
+    assertThat(observer.getLastEventOfType(CardReaderEvent.Type.CARD_INSERTED)).isNull();
+  }
+
+  @Test
+  public void cardProcessingTimeout_shouldReleaseChannelsAndResumeDetection() {
+    reader.setCardProcessingTimeoutMillis(100);
+    testSuite.insertCard_onWaitForCard_shouldNotify_CardInsertedEvent();
+
+    // finalizeCardProcessing is not called
+    await()
+        .atMost(1, TimeUnit.SECONDS)
+        .until(
+            new Callable<Boolean>() {
+              @Override
+              public Boolean call() {
+                return reader.getCurrentMonitoringState()
+                    == AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_REMOVAL;
+              }
+            });
+
+    verify(handler)
+        .onReaderObservationError(
+            eq(PLUGIN_NAME), eq(READER_NAME), any(CardProcessingTimeoutException.class));
+    assertThat(reader.getMetrics().getCardProcessingTimeoutCount()).isEqualTo(1);
+    assertThat(readerSpi.isPhysicalChannelOpen()).isFalse();
+  }
+
+  @Test
+  public void cardProcessingTimeout_whenExchangeInProgress_shouldReleaseChannelsAfterExchange()
+      throws Exception {
+    reader.setCardProcessingTimeoutMillis(100);
+    testSuite.insertCard_onWaitForCard_shouldNotify_CardInsertedEvent();
+
+    // an exchange with the card is still in progress when the deadline expires
+    final AtomicBoolean isChannelOpenAtExchangeEnd = new AtomicBoolean();
+    Thread exchange =
+        new Thread(
+            new Runnable() {
+              @Override
+              public void run() {
+                reader.beginExclusiveUse();
+                try {
+                  readerSpi.openPhysicalChannel();
+                  Thread.sleep(300);
+                  isChannelOpenAtExchangeEnd.set(readerSpi.isPhysicalChannelOpen());
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                  throw new IllegalStateException(e);
+                } finally {
+                  reader.endExclusiveUse();
+                }
+              }
+            });
+    exchange.start();
+    exchange.join();
+
+    await()
+        .atMost(1, TimeUnit.SECONDS)
+        .until(
+            new Callable<Boolean>() {
+              @Override
+              public Boolean call() {
+                return reader.getCurrentMonitoringState()
+                    == AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_REMOVAL;
+              }
+            });
+
+    assertThat(isChannelOpenAtExchangeEnd.get()).isTrue();
+    assertThat(readerSpi.isPhysicalChannelOpen()).isFalse();
+    verify(handler)
+        .onReaderObservationError(
+            eq(PLUGIN_NAME), eq(READER_NAME), any(CardProcessingTimeoutException.class));
+  }
+
+  @Test
+  public void insertCard_shouldStampEventPhasesAndRecordMetrics() {
+    testSuite.insertCard_onWaitForCard_shouldNotify_CardInsertedEvent();
+
+    ReaderEventTimestamps timestamps =
+        ((ReaderEventAdapter) observer.getLastEventOfType(CardReaderEvent.Type.CARD_INSERTED))
+            .getTimestamps();
+    assertThat(timestamps.getDetectionNanos()).isNotZero();
+    assertThat(timestamps.getCreationNanos() - timestamps.getDetectionNanos())
+        .isGreaterThanOrEqualTo(0);
+    assertThat(timestamps.getDeliveryNanos() - timestamps.getCreationNanos())
+        .isGreaterThanOrEqualTo(0);
+    assertThat(timestamps.getPhysicalChannelOpeningNanos()).isZero();
+    assertThat(timestamps.getSelectionAttemptNanos()).isEmpty();
+    assertThat(reader.getMetrics().getDetectionToEventCreationLatency().getCount()).isEqualTo(1);
+    assertThat(reader.getMetrics().getDetectionToEventDeliveryLatency().getCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void isCardPresent_whenCacheIsEnabled_shouldReturnLastKnownState() {
+    reader.setCardPresenceCacheMaxAgeMillis(10000);
+    testSuite.insertCard_onWaitForCard_shouldNotify_CardInsertedEvent();
+
+    // the removal is not monitored during the processing of the card
+    readerSpi.setCardPresent(false);
+    assertThat(reader.isCardPresent()).isTrue();
+
+    reader.setCardPresenceCacheMaxAgeMillis(0);
+    assertThat(reader.isCardPresent()).isFalse();
+  }
+
+  @Test
+  public void isCardPresent_whenCachedStateIsOutdated_shouldCheckCardPresence() {
+    reader.setCardPresenceCacheMaxAgeMillis(1);
+    testSuite.insertCard_onWaitForCard_shouldNotify_CardInsertedEvent();
+
+    readerSpi.setCardPresent(false);
+    await()
+        .atMost(1, TimeUnit.SECONDS)
+        .until(
+            new Callable<Boolean>() {
+              @Override
+              public Boolean call() {
+                return !reader.isCardPresent();
+              }
+            });
+  }
+
+  @Test
+  public void removeCard_whenProbePolicyIsSet_shouldRecordProbeMetrics() {
+    reader.setCardRemovalProbePolicy(CardRemovalProbePolicy.cardPresenceCheck(10, 5));
+    testSuite.removeCard_afterFinalize_shouldNotify_CardRemoved();
+
+    assertThat(reader.getMetrics().getRemovalProbeLatency().getCount()).isPositive();
+    assertThat(reader.getMetrics().getRemovalDetectionDelay().getCount()).isEqualTo(1);
+  }
 }
@@ -55,8 +55,10 @@ public void addFirstObserver_should_startDetection() {
     reader.startCardDetection(ObservableCardReader.DetectionMode.REPEATING);
     assertThat(reader.countObservers()).isEqualTo(1);
 
-    assertThat(reader.getCurrentMonitoringState())
-        .isEqualTo(AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_INSERTION);
+    // the start of the detection is processed asynchronously by the event loop of the reader
+    await()
+        .atMost(1, TimeUnit.SECONDS)
+        .until(stateIs(AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_INSERTION));
   }
 
   public void removeLastObserver_shoul_StopDetection() {
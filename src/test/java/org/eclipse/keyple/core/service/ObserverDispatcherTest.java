@@ -0,0 +1,234 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.keyple.core.service.util.PluginAdapterTestUtils.PLUGIN_NAME;
+import static org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils.READER_NAME;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.keyple.core.service.util.ObservableReaderNonBlockingSpiMock;
+import org.eclipse.keypop.reader.CardReaderEvent;
+import org.eclipse.keypop.reader.spi.CardReaderObservationExceptionHandlerSpi;
+import org.eclipse.keypop.reader.spi.CardReaderObserverSpi;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ObserverDispatcherTest {
+
+  ObservableLocalReaderAdapter reader;
+  BlockingObserver observer;
+
+  @Before
+  public void setUp() {
+    reader =
+        new ObservableLocalReaderAdapter(
+            new ObservableReaderNonBlockingSpiMock(READER_NAME), PLUGIN_NAME);
+    reader.register();
+    reader.setReaderObservationExceptionHandler(
+        mock(CardReaderObservationExceptionHandlerSpi.class));
+    observer = new BlockingObserver();
+    reader.addObserver(observer);
+  }
+
+  @After
+  public void tearDown() {
+    observer.release.countDown();
+    reader.unregister();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void asynchronous_whenCapacityIsZero_shouldThrowIAE() {
+    ObserverDispatchPolicy.asynchronous(0, ObserverDispatchPolicy.OverflowPolicy.BLOCK);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void asynchronous_whenOverflowPolicyIsNull_shouldThrowIAE() {
+    ObserverDispatchPolicy.asynchronous(1, null);
+  }
+
+  @Test
+  public void notifyObservers_whenSynchronous_shouldDeliverInCallerThread() {
+    observer.release.countDown();
+    notify(CardReaderEvent.Type.CARD_INSERTED);
+    assertThat(observer.deliveryThreads).containsExactly(Thread.currentThread());
+    assertThat(reader.getMetrics().getObserverDeliveryLatency().getCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void notifyObservers_whenAsynchronous_shouldNotWaitForObserver() {
+    reader.setObserverDispatchPolicy(
+        ObserverDispatchPolicy.asynchronous(4, ObserverDispatchPolicy.OverflowPolicy.BLOCK));
+    notify(CardReaderEvent.Type.CARD_INSERTED);
+    notify(CardReaderEvent.Type.CARD_REMOVED);
+    assertThat(reader.getMetrics().getObserverQueueDepth()).isGreaterThanOrEqualTo(1);
+    observer.release.countDown();
+    await().atMost(1, TimeUnit.SECONDS).until(deliveredEventCountIs(2));
+    assertThat(observer.deliveredEventTypes)
+        .containsExactly(CardReaderEvent.Type.CARD_INSERTED, CardReaderEvent.Type.CARD_REMOVED);
+    assertThat(observer.deliveryThreads.get(0)).isNotEqualTo(Thread.currentThread());
+    assertThat(reader.getMetrics().getObserverQueueDepth()).isZero();
+  }
+
+  @Test
+  public void notifyObservers_whenQueueFullAndBlock_shouldWaitForObserver() throws Exception {
+    reader.setObserverDispatchPolicy(
+        ObserverDispatchPolicy.asynchronous(1, ObserverDispatchPolicy.OverflowPolicy.BLOCK));
+    fillQueue();
+    Thread notifier =
+        new Thread(
+            new Runnable() {
+              @Override
+              public void run() {
+                notify(CardReaderEvent.Type.CARD_INSERTED);
+              }
+            });
+    notifier.start();
+    notifier.join(100);
+    assertThat(notifier.isAlive()).isTrue();
+    observer.release.countDown();
+    notifier.join(1000);
+    assertThat(notifier.isAlive()).isFalse();
+    await().atMost(1, TimeUnit.SECONDS).until(deliveredEventCountIs(3));
+    assertThat(reader.getMetrics().getObserverDroppedEventCount()).isZero();
+  }
+
+  @Test
+  public void notifyObservers_whenQueueFullAndDropOldest_shouldDropOldestEvent() {
+    reader.setObserverDispatchPolicy(
+        ObserverDispatchPolicy.asynchronous(2, ObserverDispatchPolicy.OverflowPolicy.DROP_OLDEST));
+    notifyInsertionRemovalInsertion();
+    await().atMost(1, TimeUnit.SECONDS).until(deliveredEventCountIs(3));
+    assertThat(observer.deliveredEventTypes)
+        .containsExactly(
+            CardReaderEvent.Type.CARD_REMOVED,
+            CardReaderEvent.Type.CARD_REMOVED,
+            CardReaderEvent.Type.CARD_INSERTED);
+    assertThat(reader.getMetrics().getObserverDroppedEventCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void notifyObservers_whenQueueFullAndCoalesce_shouldDropInsertionRemovalPair() {
+    reader.setObserverDispatchPolicy(
+        ObserverDispatchPolicy.asynchronous(2, ObserverDispatchPolicy.OverflowPolicy.COALESCE));
+    notifyInsertionRemovalInsertion();
+    await().atMost(1, TimeUnit.SECONDS).until(deliveredEventCountIs(2));
+    assertThat(observer.deliveredEventTypes)
+        .containsExactly(CardReaderEvent.Type.CARD_REMOVED, CardReaderEvent.Type.CARD_INSERTED);
+    assertThat(reader.getMetrics().getObserverDroppedEventCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void notifyObservers_whenPolicyChangesToSynchronous_shouldKeepOrder() throws Exception {
+    reader.setObserverDispatchPolicy(
+        ObserverDispatchPolicy.asynchronous(4, ObserverDispatchPolicy.OverflowPolicy.BLOCK));
+    notify(CardReaderEvent.Type.CARD_INSERTED);
+    notify(CardReaderEvent.Type.CARD_REMOVED);
+    reader.setObserverDispatchPolicy(null);
+    // queued behind the pending events instead of being delivered in the current thread
+    notify(CardReaderEvent.Type.CARD_INSERTED);
+    observer.release.countDown();
+    await().atMost(1, TimeUnit.SECONDS).until(deliveredEventCountIs(3));
+    assertThat(observer.deliveredEventTypes)
+        .containsExactly(
+            CardReaderEvent.Type.CARD_INSERTED,
+            CardReaderEvent.Type.CARD_REMOVED,
+            CardReaderEvent.Type.CARD_INSERTED);
+    // let the delivery worker end, the delivery is then synchronous again
+    Thread.sleep(100);
+    notify(CardReaderEvent.Type.CARD_REMOVED);
+    assertThat(observer.deliveryThreads.get(3)).isEqualTo(Thread.currentThread());
+  }
+
+  @Test
+  public void notifyObservers_whenAsynchronousPolicyChanges_shouldKeepOrder() {
+    reader.setObserverDispatchPolicy(
+        ObserverDispatchPolicy.asynchronous(4, ObserverDispatchPolicy.OverflowPolicy.BLOCK));
+    notify(CardReaderEvent.Type.CARD_INSERTED);
+    notify(CardReaderEvent.Type.CARD_REMOVED);
+    reader.setObserverDispatchPolicy(
+        ObserverDispatchPolicy.asynchronous(8, ObserverDispatchPolicy.OverflowPolicy.DROP_OLDEST));
+    notify(CardReaderEvent.Type.CARD_INSERTED);
+    notify(CardReaderEvent.Type.CARD_REMOVED);
+    observer.release.countDown();
+    await().atMost(1, TimeUnit.SECONDS).until(deliveredEventCountIs(4));
+    assertThat(observer.deliveredEventTypes)
+        .containsExactly(
+            CardReaderEvent.Type.CARD_INSERTED,
+            CardReaderEvent.Type.CARD_REMOVED,
+            CardReaderEvent.Type.CARD_INSERTED,
+            CardReaderEvent.Type.CARD_REMOVED);
+    assertThat(reader.getMetrics().getObserverDroppedEventCount()).isZero();
+  }
+
+  /** Blocks the observer on a first CARD_REMOVED event, until the queue is full. */
+  private void fillQueue() {
+    notify(CardReaderEvent.Type.CARD_REMOVED);
+    await().atMost(1, TimeUnit.SECONDS).until(deliveredEventCountIs(1));
+    notify(CardReaderEvent.Type.CARD_REMOVED);
+  }
+
+  /** Notifies an insertion, a removal then an insertion while the observer is blocked. */
+  private void notifyInsertionRemovalInsertion() {
+    notify(CardReaderEvent.Type.CARD_REMOVED);
+    await().atMost(1, TimeUnit.SECONDS).until(deliveredEventCountIs(1));
+    notify(CardReaderEvent.Type.CARD_INSERTED);
+    notify(CardReaderEvent.Type.CARD_REMOVED);
+    notify(CardReaderEvent.Type.CARD_INSERTED);
+    observer.release.countDown();
+  }
+
+  private void notify(CardReaderEvent.Type type) {
+    reader.notifyObservers(new ReaderEventAdapter(PLUGIN_NAME, READER_NAME, type, null));
+  }
+
+  private Callable<Boolean> deliveredEventCountIs(final int count) {
+    return new Callable<Boolean>() {
+      @Override
+      public Boolean call() {
+        return observer.deliveredEventTypes.size() == count;
+      }
+    };
+  }
+
+  /** Observer recording the events, blocked until released. */
+  private static final class BlockingObserver implements CardReaderObserverSpi {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<CardReaderEvent.Type> deliveredEventTypes =
+        Collections.synchronizedList(new ArrayList<CardReaderEvent.Type>());
+    private final List<Thread> deliveryThreads =
+        Collections.synchronizedList(new ArrayList<Thread>());
+
+    @Override
+    public void onReaderEvent(CardReaderEvent readerEvent) {
+      if (readerEvent.getType() == CardReaderEvent.Type.UNAVAILABLE) {
+        return;
+      }
+      deliveredEventTypes.add(readerEvent.getType());
+      deliveryThreads.add(Thread.currentThread());
+      try {
+        release.await(1, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
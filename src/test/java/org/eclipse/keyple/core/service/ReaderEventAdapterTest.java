@@ -0,0 +1,65 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.keyple.core.service.util.PluginAdapterTestUtils.PLUGIN_NAME;
+import static org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils.READER_NAME;
+
+import com.google.gson.JsonObject;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.eclipse.keypop.reader.CardReaderEvent;
+import org.junit.Test;
+
+public class ReaderEventAdapterTest {
+
+  private static ReaderEventAdapter buildEvent() {
+    return new ReaderEventAdapter(
+        PLUGIN_NAME,
+        READER_NAME,
+        CardReaderEvent.Type.CARD_INSERTED,
+        null,
+        new ReaderEventTimestampsAdapter(System.nanoTime()));
+  }
+
+  @Test
+  public void toJson_shouldNotContainTimestamps() {
+    JsonObject json = JsonUtil.getParser().toJsonTree(buildEvent()).getAsJsonObject();
+    assertThat(json.has("timestamps")).isFalse();
+    assertThat(json.get("readerName").getAsString()).isEqualTo(READER_NAME);
+  }
+
+  @Test
+  public void fromJson_shouldRestoreEventWithLocalTimestamps() {
+    ReaderEventAdapter event =
+        JsonUtil.getParser().fromJson(JsonUtil.toJson(buildEvent()), ReaderEventAdapter.class);
+    assertThat(event.getPluginName()).isEqualTo(PLUGIN_NAME);
+    assertThat(event.getReaderName()).isEqualTo(READER_NAME);
+    assertThat(event.getType()).isEqualTo(CardReaderEvent.Type.CARD_INSERTED);
+    assertThat(event.getTimestamps()).isNotNull();
+    assertThat(event.getTimestamps().getDetectionNanos()).isZero();
+    assertThat(event.getTimestamps().getCreationNanos()).isZero();
+  }
+
+  @Test
+  public void fromJson_whenSentByOlderPeer_shouldProvideTimestamps() {
+    JsonObject json = new JsonObject();
+    json.addProperty("pluginName", PLUGIN_NAME);
+    json.addProperty("readerName", READER_NAME);
+    json.addProperty("type", CardReaderEvent.Type.CARD_REMOVED.name());
+    ReaderEventAdapter event =
+        JsonUtil.getParser().fromJson(json.toString(), ReaderEventAdapter.class);
+    assertThat(event.getType()).isEqualTo(CardReaderEvent.Type.CARD_REMOVED);
+    assertThat(event.getTimestamps()).isNotNull();
+    assertThat(event.getTimestamps().setDeliveryNanos(System.nanoTime())).isTrue();
+  }
+}
@@ -0,0 +1,46 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class ReaderMetricsAdapterTest {
+
+  @Test
+  public void recordApduExchange_shouldUpdateMetrics() {
+    ReaderMetricsAdapter metrics = new ReaderMetricsAdapter();
+    metrics.recordApduExchange(System.nanoTime(), 5, 4);
+    metrics.recordError();
+    assertThat(metrics.getApduCount()).isEqualTo(1);
+    assertThat(metrics.getBytesSentCount()).isEqualTo(5);
+    assertThat(metrics.getBytesReceivedCount()).isEqualTo(4);
+    assertThat(metrics.getApduExchangeLatency().getCount()).isEqualTo(1);
+    assertThat(metrics.getErrorCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void record_whenDisabled_shouldIgnoreRecords() {
+    ReaderMetricsAdapter metrics = ReaderMetricsAdapter.DISABLED;
+    metrics.recordApduExchange(System.nanoTime(), 5, 4);
+    metrics.recordCardRequest(System.nanoTime());
+    metrics.recordObserverQueueDepthChange(1);
+    metrics.recordError();
+    assertThat(metrics.getApduCount()).isZero();
+    assertThat(metrics.getBytesSentCount()).isZero();
+    assertThat(metrics.getApduExchangeLatency().getCount()).isZero();
+    assertThat(metrics.getCardRequestLatency().getCount()).isZero();
+    assertThat(metrics.getObserverQueueDepth()).isZero();
+    assertThat(metrics.getErrorCount()).isZero();
+  }
+}
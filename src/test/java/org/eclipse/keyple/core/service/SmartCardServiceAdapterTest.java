@@ -14,8 +14,14 @@
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 import org.eclipse.keyple.core.common.*;
 import org.eclipse.keyple.core.distributed.local.spi.LocalServiceFactorySpi;
 import org.eclipse.keyple.core.distributed.local.spi.LocalServiceSpi;
@@ -28,6 +34,7 @@
 import org.eclipse.keyple.core.plugin.spi.reader.PoolReaderSpi;
 import org.eclipse.keyple.core.plugin.spi.reader.ReaderSpi;
 import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.reader.CardReaderEvent;
 import org.eclipse.keypop.reader.ReaderApiFactory;
 import org.junit.After;
 import org.junit.Before;
@@ -292,6 +299,102 @@ public void registerPlugin_whenIoException_shouldThrowKeyplePluginException() th
     service.registerPlugin(pluginFactory);
   }
 
+  // Register plugins asynchronously
+
+  @Test
+  public void registerPluginsAsync_whenPluginsAreCorrect_shouldRegisterAllPlugins()
+      throws Exception {
+    List<PluginRegistration> registrations =
+        service
+            .registerPluginsAsync(
+                Arrays.<KeyplePluginExtensionFactory>asList(pluginFactory, poolPluginFactory))
+            .get(5, TimeUnit.SECONDS);
+    assertThat(registrations).hasSize(2);
+    assertThat(registrations.get(0).getPlugin()).isSameAs(service.getPlugin(PLUGIN_NAME));
+    assertThat(registrations.get(1).getPlugin()).isSameAs(service.getPlugin(POOL_PLUGIN_NAME));
+    assertThat(registrations.get(0).getRegistrationDurationNanos()).isPositive();
+  }
+
+  @Test
+  public void registerPluginsAsync_whenOnePluginIsAlreadyRegistered_shouldRegisterNone()
+      throws Exception {
+    service.registerPlugin(pluginFactory);
+    try {
+      service
+          .registerPluginsAsync(
+              Arrays.<KeyplePluginExtensionFactory>asList(poolPluginFactory, pluginFactory))
+          .get(5, TimeUnit.SECONDS);
+      shouldHaveThrown(ExecutionException.class);
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+    }
+    assertThat(service.getPlugin(POOL_PLUGIN_NAME)).isNull();
+    verify(poolPluginFactory, never()).getPoolPlugin();
+  }
+
+  @Test
+  public void registerPluginsAsync_whenSamePluginIsProvidedTwice_shouldRegisterNone()
+      throws Exception {
+    try {
+      service
+          .registerPluginsAsync(
+              Arrays.<KeyplePluginExtensionFactory>asList(pluginFactory, pluginFactory))
+          .get(5, TimeUnit.SECONDS);
+      shouldHaveThrown(ExecutionException.class);
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+    }
+    assertThat(service.getPlugin(PLUGIN_NAME)).isNull();
+    verify(pluginFactory, never()).getPlugin();
+  }
+
+  @Test
+  public void registerPluginsAsync_whenPluginHasSeveralReaders_shouldRegisterAllReaders()
+      throws Exception {
+    Set<ReaderSpi> readers = new HashSet<>();
+    for (int i = 0; i < 5; i++) {
+      ReaderMock pluginReader = mock(ReaderMock.class);
+      when(pluginReader.getName()).thenReturn(READER_NAME + i);
+      readers.add(pluginReader);
+    }
+    when(plugin.searchAvailableReaders()).thenReturn(readers);
+    service
+        .registerPluginsAsync(Collections.singletonList(pluginFactory), 2)
+        .get(5, TimeUnit.SECONDS);
+    Plugin registeredPlugin = service.getPlugin(PLUGIN_NAME);
+    assertThat(registeredPlugin.getReaderNames())
+        .containsOnly(
+            READER_NAME + 0, READER_NAME + 1, READER_NAME + 2, READER_NAME + 3, READER_NAME + 4);
+    for (CardReader registeredReader : registeredPlugin.getReaders()) {
+      assertThat(service.getReader(registeredReader.getName())).isSameAs(registeredReader);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void registerPluginsAsync_whenMaxConcurrentRegistrationsIsZero_shouldThrowIAE() {
+    service.registerPluginsAsync(Collections.singletonList(pluginFactory), 0);
+  }
+
+  @Test
+  public void registerPluginsAsync_whenIoException_shouldRegisterNone() throws Exception {
+    when(plugin.searchAvailableReaders()).thenThrow(new PluginIOException("Plugin IO Exception"));
+    try {
+      service
+          .registerPluginsAsync(
+              Arrays.<KeyplePluginExtensionFactory>asList(pluginFactory, poolPluginFactory))
+          .get(5, TimeUnit.SECONDS);
+      shouldHaveThrown(ExecutionException.class);
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isInstanceOf(KeyplePluginException.class);
+    }
+    assertThat(service.getPluginNames()).doesNotContain(PLUGIN_NAME, POOL_PLUGIN_NAME);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void registerPluginsAsync_whenFactoryIsNull_shouldThrowIAE() {
+    service.registerPluginsAsync(Collections.<KeyplePluginExtensionFactory>singletonList(null));
+  }
+
   // Register pool plugin
 
   @Test
@@ -507,6 +610,27 @@ public void getReader_whenReaderExists_shouldReturnReaderInstance() throws Excep
     assertThat(service.getReader(READER_NAME)).isSameAs(cardReader);
   }
 
+  @Test
+  public void getReader_whenPluginIsUnregistered_shouldReturnNull() throws Exception {
+    when(plugin.searchAvailableReaders())
+        .thenReturn(new HashSet<ReaderSpi>(Collections.singletonList(reader)));
+    service.registerPlugin(pluginFactory);
+    CardReader cardReader = service.getReader(READER_NAME);
+    service.unregisterPlugin(PLUGIN_NAME);
+    assertThat(service.getReader(READER_NAME)).isNull();
+    assertThat(service.getPlugin(cardReader)).isNull();
+  }
+
+  @Test
+  public void findReader_whenReaderNameRegexIsQuoted_returnsExistingReader() throws Exception {
+    when(plugin.searchAvailableReaders())
+        .thenReturn(new HashSet<ReaderSpi>(Collections.singletonList(reader)));
+    service.registerPlugin(pluginFactory);
+    assertThat(service.findReader(Pattern.quote(READER_NAME)))
+        .isSameAs(service.getReader(READER_NAME));
+    assertThat(service.findReader(Pattern.quote(READER_NAME + "x"))).isNull();
+  }
+
   @Test
   public void findReader_whenReaderNameRegexMatches_returnsExistingReader() throws Exception {
 
@@ -674,4 +798,109 @@ public void getDistributedLocalService_whenServiceIsRegistered_shouldReturnPlugi
   public void getReaderApiFactory_shouldReturnReaderApiFactoryInstance() {
     assertThat(service.getReaderApiFactory()).isInstanceOf(ReaderApiFactory.class);
   }
+
+  // Monitoring thread mode
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setMonitoringThreadMode_whenModeIsNull_shouldThrowIAE() {
+    service.setMonitoringThreadMode(null);
+  }
+
+  @Test
+  public void setMonitoringThreadMode_whenModeIsPlatform_shouldCreatePlatformThreads() {
+    service.setMonitoringThreadMode(MonitoringThreadMode.PLATFORM);
+    Thread thread =
+        new MonitoringThreadFactory(READER_NAME)
+            .newThread(
+                new Runnable() {
+                  @Override
+                  public void run() {}
+                });
+    assertThat(thread.getName()).contains(READER_NAME);
+    assertThat(MonitoringThreadFactory.getThreadMode()).isEqualTo(MonitoringThreadMode.PLATFORM);
+  }
+
+  @Test
+  public void setMonitoringThreadMode_whenVirtualThreadsAreNotSupported_shouldThrowISE() {
+    // the classes of the test are not loaded from the multi-release JAR
+    try {
+      service.setMonitoringThreadMode(MonitoringThreadMode.VIRTUAL);
+      shouldHaveThrown(IllegalStateException.class);
+    } catch (IllegalStateException e) {
+      assertThat(MonitoringThreadFactory.getThreadMode())
+          .isEqualTo(MonitoringThreadMode.PLATFORM);
+    }
+  }
+
+  // Observer dispatch policy
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setObserverDispatchPolicy_whenReaderIsNull_shouldThrowIAE() {
+    service.setObserverDispatchPolicy(null, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setObserverDispatchPolicy_whenReaderIsNotObservableLocal_shouldThrowIAE() {
+    service.setObserverDispatchPolicy(
+        mock(CardReader.class),
+        ObserverDispatchPolicy.asynchronous(1, ObserverDispatchPolicy.OverflowPolicy.BLOCK));
+  }
+
+  // Card processing timeout
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setCardProcessingTimeout_whenTimeoutIsNegative_shouldThrowIAE() {
+    service.setCardProcessingTimeout(mock(CardReader.class), -1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setCardProcessingTimeout_whenReaderIsNotObservableLocal_shouldThrowIAE() {
+    service.setCardProcessingTimeout(mock(CardReader.class), 1000);
+  }
+
+  // Reader event timestamps
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getReaderEventTimestamps_whenEventIsNull_shouldThrowIAE() {
+    service.getReaderEventTimestamps(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getReaderEventTimestamps_whenEventIsNotKeyple_shouldThrowIAE() {
+    service.getReaderEventTimestamps(mock(CardReaderEvent.class));
+  }
+
+  @Test
+  public void getReaderEventTimestamps_shouldReturnTimestampsOfEvent() {
+    ReaderEventAdapter event =
+        new ReaderEventAdapter(PLUGIN_NAME, READER_NAME, CardReaderEvent.Type.CARD_INSERTED, null);
+    assertThat(service.getReaderEventTimestamps(event)).isSameAs(event.getTimestamps());
+    assertThat(event.getTimestamps().getCreationNanos()).isNotZero();
+    assertThat(event.getTimestamps().getDetectionNanos()).isZero();
+  }
+
+  // Card presence cache
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setCardPresenceCacheMaxAge_whenMaxAgeIsNegative_shouldThrowIAE() {
+    service.setCardPresenceCacheMaxAge(mock(CardReader.class), -1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setCardPresenceCacheMaxAge_whenReaderIsNotObservableLocal_shouldThrowIAE() {
+    service.setCardPresenceCacheMaxAge(mock(CardReader.class), 1000);
+  }
+
+  // Card removal probe policy
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setCardRemovalProbePolicy_whenReaderIsNull_shouldThrowIAE() {
+    service.setCardRemovalProbePolicy(null, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setCardRemovalProbePolicy_whenReaderIsNotObservableLocal_shouldThrowIAE() {
+    service.setCardRemovalProbePolicy(
+        mock(CardReader.class), CardRemovalProbePolicy.cardPresenceCheck(100, 0));
+  }
 }
@@ -26,6 +26,7 @@
 import org.eclipse.keyple.core.plugin.spi.reader.observable.ObservableReaderSpi;
 import org.eclipse.keyple.core.plugin.spi.reader.observable.state.insertion.CardInsertionWaiterAsynchronousSpi;
 import org.eclipse.keyple.core.plugin.spi.reader.observable.state.removal.CardRemovalWaiterAsynchronousSpi;
+import org.eclipse.keyple.core.service.spi.BatchTransmissionReaderSpi;
 import org.eclipse.keyple.core.util.HexUtil;
 import org.eclipse.keypop.card.ApduResponseApi;
 import org.eclipse.keypop.card.CardResponseApi;
@@ -57,6 +58,9 @@ public class ReaderAdapterTestUtils {
 
   public interface ReaderSpiMock extends KeypleReaderExtension, ReaderSpi, ConfigurableReaderSpi {}
 
+  public interface BatchTransmissionReaderSpiMock
+      extends ReaderSpiMock, BatchTransmissionReaderSpi {}
+
   public static ReaderSpiMock getReaderSpi() throws ReaderIOException, CardIOException {
     ReaderSpiMock readerSpi = mock(ReaderSpiMock.class);
     when(readerSpi.getName()).thenReturn(READER_NAME);
@@ -68,6 +72,18 @@ public static ReaderSpiMock getReaderSpi() throws ReaderIOException, CardIOExcep
     return readerSpi;
   }
 
+  public static BatchTransmissionReaderSpiMock getBatchTransmissionReaderSpi()
+      throws ReaderIOException, CardIOException {
+    BatchTransmissionReaderSpiMock readerSpi = mock(BatchTransmissionReaderSpiMock.class);
+    when(readerSpi.getName()).thenReturn(READER_NAME);
+    when(readerSpi.checkCardPresence()).thenReturn(true);
+    when(readerSpi.getPowerOnData()).thenReturn(POWER_ON_DATA);
+    when(readerSpi.transmitApdu(any(byte[].class))).thenReturn(HexUtil.toByteArray("6D00"));
+    when(readerSpi.isProtocolSupported(CARD_PROTOCOL)).thenReturn(true);
+    when(readerSpi.isCurrentProtocol(CARD_PROTOCOL)).thenReturn(true);
+    return readerSpi;
+  }
+
   public static ReaderSpiMock getReaderSpiSpy() throws ReaderIOException, CardIOException {
     ReaderSpiMock readerSpi = Mockito.spy(ReaderSpiMock.class);
     when(readerSpi.getName()).thenReturn(READER_NAME);